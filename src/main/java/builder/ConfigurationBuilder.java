@@ -1,6 +1,7 @@
 package builder;
 
 import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.ConfigLayer;
 import com.environment.manager.model.Configuration;
 import com.environment.manager.model.Environment;
 import com.environment.manager.model.ConfigType;
@@ -114,6 +115,10 @@ public class ConfigurationBuilder {
         environment.setCurrentVersion(configVersion);
     }
 
+    public void applyToLayer(ConfigLayer layer) {
+        layer.putAll(configItems.values());
+    }
+
     // Convenience methods for common configurations
     public static Map<String, ConfigItem> createDevelopmentConfig() {
         return new ConfigurationBuilder()
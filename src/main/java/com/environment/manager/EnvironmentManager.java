@@ -1,10 +1,15 @@
 package com.environment.manager;
 
+import com.environment.manager.event.EnvironmentLifecycleEvent;
+import com.environment.manager.event.EventBus;
+import com.environment.manager.history.EnvironmentChangeLog;
 import com.environment.manager.model.*;
 import com.environment.manager.repository.EnvironmentRepository;
 import com.environment.manager.service.DeploymentService;
 import com.environment.manager.service.ValidationService;
 import com.environment.manager.exception.ValidationException;
+import com.environment.manager.validator.RuleEngine;
+import com.environment.manager.validator.StandardRules;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,9 +17,13 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class EnvironmentManager {
+    /** Policies of the UAT, staging and production environments created by this manager. */
+    private static final RuleEngine TIER_RULES = RuleEngine.compile(StandardRules.tierPolicies());
+
     private final EnvironmentRepository repository;
     private final DeploymentService deploymentService;
     private final ValidationService validationService;
+    private final EnvironmentChangeLog changeLog = new EnvironmentChangeLog();
 
     public EnvironmentManager(EnvironmentRepository repository,
                               DeploymentService deploymentService,
@@ -37,6 +46,9 @@ public class EnvironmentManager {
         }
 
         repository.save(environment);
+        changeLog.track(environment);
+        getEventBus().publish(EnvironmentLifecycleEvent.of(environment, EnvironmentLifecycleEvent.Change.CREATED,
+                "system", null));
         return environment;
     }
 
@@ -68,6 +80,11 @@ public class EnvironmentManager {
 
         // Save the new environment (replaces the old one)
         repository.save(updatedEnvironment);
+        changeLog.untrack(oldEnvironment);
+        changeLog.track(updatedEnvironment);
+        getEventBus().publish(EnvironmentLifecycleEvent.of(updatedEnvironment,
+                EnvironmentLifecycleEvent.Change.UPDATED, "system",
+                String.format("name=%s, baseUrl=%s", name, baseUrl)));
         return updatedEnvironment;
     }
 
@@ -75,7 +92,25 @@ public class EnvironmentManager {
      * Deletes an environment.
      */
     public void deleteEnvironment(String environmentId) {
-        repository.delete(environmentId);
+        repository.findById(environmentId).ifPresent(environment -> {
+            repository.delete(environmentId);
+            getEventBus().publish(EnvironmentLifecycleEvent.of(environment,
+                    EnvironmentLifecycleEvent.Change.DELETED, "system", null));
+        });
+    }
+
+    /**
+     * Returns the change log recording mutations of environments created through this manager.
+     */
+    public EnvironmentChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    /**
+     * Returns the event bus shared with the deployment service.
+     */
+    public EventBus getEventBus() {
+        return deploymentService.getEventBus();
     }
 
     /**
@@ -279,11 +314,7 @@ public class EnvironmentManager {
         return new Environment(id, name, EnvironmentType.USER_ACCEPTANCE, baseUrl) {
             @Override
             public List<String> validate() {
-                List<String> errors = new ArrayList<>();
-                if (!getBaseUrl().contains("uat")) {
-                    errors.add("UAT environment URL should contain 'uat'");
-                }
-                return errors;
+                return TIER_RULES.evaluate(this);
             }
 
             @Override
@@ -305,14 +336,7 @@ public class EnvironmentManager {
         return new Environment(id, name, EnvironmentType.STAGING, baseUrl) {
             @Override
             public List<String> validate() {
-                List<String> errors = new ArrayList<>();
-                if (getBaseUrl().contains("localhost")) {
-                    errors.add("Staging environment should not use localhost");
-                }
-                if (!getBaseUrl().startsWith("https://")) {
-                    errors.add("Staging environment should use HTTPS");
-                }
-                return errors;
+                return TIER_RULES.evaluate(this);
             }
 
             @Override
@@ -334,14 +358,7 @@ public class EnvironmentManager {
         return new Environment(id, name, EnvironmentType.PRODUCTION, baseUrl) {
             @Override
             public List<String> validate() {
-                List<String> errors = new ArrayList<>();
-                if (getBaseUrl().startsWith("http://")) {
-                    errors.add("Production environment must use HTTPS");
-                }
-                if (getDatabaseUrl() == null) {
-                    errors.add("Production environment must have database configured");
-                }
-                return errors;
+                return TIER_RULES.evaluate(this);
             }
 
             @Override
@@ -1,13 +1,12 @@
 package com.environment.manager.validator;
 
 import com.environment.manager.model.*;
-import com.environment.manager.exception.ValidationException;
-import com.environment.manager.util.util.ValidationUtils;
+import com.environment.manager.util.util.ValidationErrors;
 
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.*;
 
 /**
@@ -16,280 +15,232 @@ import java.util.concurrent.*;
 public class EnvironmentValidator {
     private final ExecutorService executorService;
     private final int timeoutSeconds;
+    private final HttpHealthChecker healthChecker;
+    private final RuleEngine ruleEngine = RuleEngine.compile(StandardRules.structural());
+    private volatile HealthMonitor healthMonitor;
+    private volatile CircuitBreakerRegistry circuitBreakers;
+    private volatile FleetVersions fleetVersions;
+    private final Map<String, ContentResult> contentResults = new ConcurrentHashMap<>();
+
+    /** Per-thread scratch sink the content checks append into; cleared before each check. */
+    private static final ThreadLocal<ValidationErrors> CHECK_ERRORS = ThreadLocal.withInitial(ValidationErrors::new);
 
     public EnvironmentValidator() {
-        this.executorService = Executors.newFixedThreadPool(5);
-        this.timeoutSeconds = 30;
+        this(5, 30);
     }
 
     public EnvironmentValidator(int threadPoolSize, int timeoutSeconds) {
+        this(threadPoolSize, timeoutSeconds, new HttpHealthChecker());
+    }
+
+    public EnvironmentValidator(int threadPoolSize, int timeoutSeconds, HttpHealthChecker healthChecker) {
         this.executorService = Executors.newFixedThreadPool(threadPoolSize);
         this.timeoutSeconds = timeoutSeconds;
+        this.healthChecker = healthChecker;
     }
 
     /**
      * Performs comprehensive validation of an environment.
+     *
+     * <p>The checks are independent, so they run concurrently on the validator's executor
+     * and the call takes roughly as long as the slowest check. Each check reports into its
+     * own list and the lists are merged in declaration order once all checks are done, so
+     * results are deterministic. Checks still running when the overall deadline of
+     * {@code timeoutSeconds} expires are cancelled and reported as errors.
+     *
+     * <p>Results of the checks that only look at the environment's content are memoized
+     * against its content fingerprint; only the health checks run again while it is unchanged.
      */
     public ValidationResult validateEnvironment(Environment environment) {
-        List<ValidationCheck> checks = new ArrayList<>();
-        List<String> errors = new ArrayList<>();
-        List<String> warnings = new ArrayList<>();
-
-        // Basic validation
-        checks.add(() -> validateBasicProperties(environment));
-
-        // URL validation
-        checks.add(() -> validateUrls(environment));
-
-        // Service validation
-        checks.add(() -> validateServices(environment));
+        long fingerprint = environment.getContentFingerprint();
+        ContentResult cached = contentResults.get(environment.getId());
+        if (cached != null && cached.fingerprint() != fingerprint) {
+            cached = null;
+        }
 
-        // Health check
-        checks.add(() -> performHealthCheck(environment));
+        List<NamedCheck> checks = new ArrayList<>();
+        if (cached == null) {
+            // Basic properties, URLs, services and configuration, compiled for the environment's type
+            checks.add(new NamedCheck("Rule check", errors -> ruleEngine.evaluate(environment, errors)));
+        }
+        int contentCheckCount = checks.size();
 
-        // Configuration validation
-        checks.add(() -> validateConfiguration(environment));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        List<Future<List<String>>> futures = new ArrayList<>(checks.size() + 2);
+        for (NamedCheck check : checks) {
+            futures.add(executorService.submit(() -> runCheck(check.check())));
+        }
+        // Health checks, one asynchronous probe per endpoint
+        futures.addAll(healthProbes(environment));
+        // Perform additional checks that might generate warnings
+        Future<List<String>> warningsFuture = cached != null ? null
+                : executorService.submit(() -> performWarningChecks(environment));
+
+        List<String> contentErrors = new ArrayList<>();
+        List<String> healthErrors = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            String name = i < contentCheckCount ? checks.get(i).name() : "Health check";
+            List<String> checkErrors = awaitCheck(futures.get(i), name, deadline);
+            (i < contentCheckCount ? contentErrors : healthErrors).addAll(checkErrors);
+        }
 
-        // Execute all checks
-        for (ValidationCheck check : checks) {
-            try {
-                check.validate();
-            } catch (ValidationException e) {
-                if (e.getValidationErrors() != null) {
-                    errors.addAll(e.getValidationErrors());
-                } else {
-                    errors.add(e.getMessage());
-                }
+        List<String> warnings;
+        if (cached != null) {
+            contentErrors = cached.errors();
+            warnings = cached.warnings();
+        } else {
+            // A warning check that does not finish is itself only worth a warning
+            warnings = awaitCheck(warningsFuture, "Warning check", deadline);
+            if (completedNormally(futures.subList(0, contentCheckCount))
+                    && completedNormally(List.of(warningsFuture))) {
+                contentResults.put(environment.getId(),
+                        new ContentResult(fingerprint, List.copyOf(contentErrors), List.copyOf(warnings)));
             }
         }
 
-        // Perform additional checks that might generate warnings
-        warnings.addAll(performWarningChecks(environment));
-
+        List<String> errors = new ArrayList<>(contentErrors);
+        errors.addAll(healthErrors);
         return new ValidationResult(environment.getId(), environment.getName(),
                 errors, warnings, errors.isEmpty());
     }
 
     /**
-     * Validates basic environment properties.
+     * Uses the monitor's cached health results when they are fresh, instead of probing.
      */
-    private void validateBasicProperties(Environment environment) throws ValidationException {
-        List<String> errors = new ArrayList<>();
-
-        try {
-            ValidationUtils.validateEnvironmentId(environment.getId());
-        } catch (ValidationException e) {
-            if (e.getValidationErrors() != null) {
-                errors.addAll(e.getValidationErrors());
-            } else {
-                errors.add(e.getMessage());
-            }
-        }
-
-        try {
-            ValidationUtils.validateEnvironmentName(environment.getName());
-        } catch (ValidationException e) {
-            if (e.getValidationErrors() != null) {
-                errors.addAll(e.getValidationErrors());
-            } else {
-                errors.add(e.getMessage());
-            }
-        }
-
-        try {
-            ValidationUtils.validateUrl(environment.getBaseUrl(), "Base URL");
-        } catch (ValidationException e) {
-            if (e.getValidationErrors() != null) {
-                errors.addAll(e.getValidationErrors());
-            } else {
-                errors.add(e.getMessage());
-            }
-        }
-
-        if (environment.getType() == null) {
-            errors.add("Environment type must be specified");
-        }
+    public void setHealthMonitor(HealthMonitor healthMonitor) {
+        this.healthMonitor = healthMonitor;
+    }
 
-        if (!errors.isEmpty()) {
-            // Use constructor: ValidationException(String message, List<String> validationErrors)
-            throw new ValidationException("Basic properties validation failed", errors);
-        }
+    /**
+     * Skips health probes of environments whose circuit breaker is open, and feeds probe
+     * outcomes back into the breakers.
+     */
+    public void setCircuitBreakers(CircuitBreakerRegistry circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
     }
 
     /**
-     * Validates all URLs in the environment.
+     * Returns the engine running the content rules, for its per-rule statistics.
      */
-    private void validateUrls(Environment environment) throws ValidationException {
-        List<String> errors = new ArrayList<>();
+    public RuleEngine getRuleEngine() {
+        return ruleEngine;
+    }
 
-        // Validate base URL
-        try {
-            ValidationUtils.validateUrl(environment.getBaseUrl(), "Base URL");
-        } catch (ValidationException e) {
-            if (e.getValidationErrors() != null) {
-                errors.addAll(e.getValidationErrors());
-            } else {
-                errors.add(e.getMessage());
-            }
-        }
+    /**
+     * Reports services older than the newest version deployed in the fleet as outdated.
+     * Memoized results are dropped, since their warnings were computed against the previous snapshot.
+     */
+    public void setFleetVersions(FleetVersions fleetVersions) {
+        this.fleetVersions = fleetVersions;
+        contentResults.clear();
+    }
 
-        // Validate database URL if present
-        if (environment.getDatabaseUrl() != null && !environment.getDatabaseUrl().isEmpty()) {
-            try {
-                // Check if it's a valid database URL format
-                if (!environment.getDatabaseUrl().startsWith("jdbc:")) {
-                    errors.add("Database URL should start with 'jdbc:'");
-                }
-            } catch (Exception e) {
-                errors.add("Invalid database URL format: " + environment.getDatabaseUrl());
-            }
-        }
+    /**
+     * Forgets the memoized content check results for an environment.
+     */
+    public void invalidate(String environmentId) {
+        contentResults.remove(environmentId);
+    }
 
-        // Validate API endpoint if present
-        if (environment.getApiEndpoint() != null && !environment.getApiEndpoint().isEmpty()) {
-            try {
-                ValidationUtils.validateUrl(environment.getApiEndpoint(), "API Endpoint");
-            } catch (ValidationException e) {
-                if (e.getValidationErrors() != null) {
-                    errors.addAll(e.getValidationErrors());
-                } else {
-                    errors.add(e.getMessage());
-                }
+    private static boolean completedNormally(List<Future<List<String>>> futures) {
+        for (Future<List<String>> future : futures) {
+            if (!future.isDone() || future.isCancelled()) {
+                return false;
             }
         }
-
-        if (!errors.isEmpty()) {
-            // Use constructor: ValidationException(String message, List<String> validationErrors)
-            throw new ValidationException("URL validation failed", errors);
-        }
+        return true;
     }
 
     /**
-     * Validates all services in the environment.
+     * Runs one check against the thread's reusable sink and copies out its errors.
      */
-    private void validateServices(Environment environment) throws ValidationException {
-        List<String> errors = new ArrayList<>();
-
-        if (environment.getServices().isEmpty()) {
-            errors.add("Environment must contain at least one service");
-        }
-
-        for (Service service : environment.getServices()) {
-            List<String> serviceErrors = ValidationUtils.validateService(service);
-            if (!serviceErrors.isEmpty()) {
-                errors.add("Service '" + service.getName() + "': " + String.join("; ", serviceErrors));
-            }
-
-            // Additional service-specific validation
-            if (service.getVersion() == null || service.getVersion().isEmpty()) {
-                errors.add("Service '" + service.getName() + "' must have a version");
-            }
-
-            if (service.getType() == null) {
-                errors.add("Service '" + service.getName() + "' must have a type");
-            }
+    private static List<String> runCheck(ValidationCheck check) {
+        ValidationErrors errors = CHECK_ERRORS.get();
+        errors.clear();
+        try {
+            check.validate(errors);
+            return errors.isEmpty() ? List.of() : errors.toList();
+        } finally {
+            errors.clear();
         }
+    }
 
-        if (!errors.isEmpty()) {
-            // Use constructor: ValidationException(String objectType, String objectId, List<String> validationErrors)
-            throw new ValidationException("Environment", environment.getId(), errors);
+    /**
+     * Waits for a check until the shared deadline, cancelling it if the deadline passes.
+     *
+     * @return the check's messages, or a single message describing why it did not complete
+     */
+    private List<String> awaitCheck(Future<List<String>> future, String name, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return List.of(name + " timed out after " + timeoutSeconds + " seconds");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return List.of(name + " was interrupted");
+        } catch (CancellationException e) {
+            return List.of(name + " was cancelled");
+        } catch (ExecutionException e) {
+            return List.of(name + " failed: " + e.getCause().getMessage());
         }
     }
 
     /**
-     * Performs health check on the environment.
+     * Starts the health probes for the environment, one per endpoint.
      */
-    private void performHealthCheck(Environment environment) throws ValidationException {
+    private List<CompletableFuture<List<String>>> healthProbes(Environment environment) {
         if (environment.getType() == EnvironmentType.DEVELOPMENT) {
             // Skip health check for development environments
-            return;
+            return List.of();
         }
 
-        List<String> errors = new ArrayList<>();
-        List<Future<HealthCheckResult>> futures = new ArrayList<>();
-
-        // Check base URL
-        futures.add(executorService.submit(() -> checkUrlAccessibility(environment.getBaseUrl())));
-
-        // Check API endpoint if present
-        if (environment.getApiEndpoint() != null && !environment.getApiEndpoint().isEmpty()) {
-            futures.add(executorService.submit(() ->
-                    checkUrlAccessibility(environment.getApiEndpoint())));
-        }
-
-        // Wait for all checks to complete
-        for (Future<HealthCheckResult> future : futures) {
-            try {
-                HealthCheckResult result = future.get(timeoutSeconds, TimeUnit.SECONDS);
-                if (!result.isAccessible()) {
-                    errors.add(result.getMessage());
-                }
-            } catch (TimeoutException e) {
-                errors.add("Health check timeout after " + timeoutSeconds + " seconds");
-            } catch (Exception e) {
-                errors.add("Health check failed: " + e.getMessage());
+        HealthMonitor monitor = healthMonitor;
+        if (monitor != null) {
+            Optional<HealthMonitor.HealthSnapshot> cached = monitor.getCachedHealth(environment.getId());
+            if (cached.isPresent()) {
+                return List.of(CompletableFuture.completedFuture(cached.get().getProblems()));
             }
         }
 
-        if (!errors.isEmpty()) {
-            // Use constructor: ValidationException(String objectType, String objectId, List<String> validationErrors)
-            throw new ValidationException("Environment", environment.getId(), errors);
+        CircuitBreakerRegistry breakers = circuitBreakers;
+        CircuitBreaker breaker = breakers == null ? null : breakers.forEnvironment(environment.getId());
+        if (breaker != null && !breaker.tryAcquire()) {
+            // Fail fast instead of waiting on connect timeouts of an environment known to be down
+            return List.of(CompletableFuture.completedFuture(List.of(
+                    "Circuit breaker open for " + environment.getId() + "; health check skipped")));
         }
-    }
 
-    /**
-     * Checks if a URL is accessible.
-     */
-    private HealthCheckResult checkUrlAccessibility(String urlString) {
-        try {
-            URL url = new URL(urlString);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("HEAD");
-            connection.setConnectTimeout(5000);
-            connection.setReadTimeout(5000);
+        List<String> urls = new ArrayList<>();
 
-            int responseCode = connection.getResponseCode();
+        // Check base URL
+        urls.add(environment.getBaseUrl());
 
-            if (responseCode >= 200 && responseCode < 400) {
-                return new HealthCheckResult(true, urlString + " is accessible (HTTP " + responseCode + ")");
-            } else {
-                return new HealthCheckResult(false,
-                        urlString + " returned error code: " + responseCode);
-            }
-        } catch (Exception e) {
-            return new HealthCheckResult(false,
-                    "Cannot connect to " + urlString + ": " + e.getMessage());
+        // Check API endpoint if present
+        if (environment.getApiEndpoint() != null && !environment.getApiEndpoint().isEmpty()) {
+            urls.add(environment.getApiEndpoint());
         }
-    }
-
-    /**
-     * Validates environment configuration.
-     */
-    private void validateConfiguration(Environment environment) throws ValidationException {
-        List<String> errors = new ArrayList<>();
-
-        // Check for required configuration based on environment type
-        switch (environment.getType()) {
-            case PRODUCTION:
-                if (environment.getDatabaseUrl() == null || environment.getDatabaseUrl().isEmpty()) {
-                    errors.add("Production environment must have a database URL configured");
-                }
-                break;
 
-            case STAGING:
-                if (environment.getApiEndpoint() == null || environment.getApiEndpoint().isEmpty()) {
-                    errors.add("Staging environment should have an API endpoint configured");
-                }
-                break;
-            default:
-                // For other environment types, no specific configuration requirements
-                break;
+        List<CompletableFuture<HttpHealthChecker.HealthStatus>> statuses = new ArrayList<>(urls.size());
+        List<CompletableFuture<List<String>>> probes = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            CompletableFuture<HttpHealthChecker.HealthStatus> status = healthChecker.check(url);
+            statuses.add(status);
+            probes.add(status.thenApply(result -> result.healthy() ? List.of() : List.of(result.message())));
         }
-
-        if (!errors.isEmpty()) {
-            // Use constructor: ValidationException(String objectType, String objectId, List<String> validationErrors)
-            throw new ValidationException("Environment", environment.getId(), errors);
+        if (breaker != null) {
+            // The environment counts as down only when none of its endpoints answer
+            CompletableFuture.allOf(statuses.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+                if (statuses.stream().anyMatch(status -> status.join().healthy())) {
+                    breaker.recordSuccess();
+                } else {
+                    breaker.recordFailure();
+                }
+            });
         }
+        return probes;
     }
 
     /**
@@ -300,7 +251,7 @@ public class EnvironmentValidator {
 
         // Check for outdated services
         for (Service service : environment.getServices()) {
-            if (isVersionOutdated(service.getVersion())) {
+            if (isVersionOutdated(service)) {
                 warnings.add("Service '" + service.getName() + "' has potentially outdated version: " +
                         service.getVersion());
             }
@@ -324,33 +275,20 @@ public class EnvironmentValidator {
     }
 
     /**
-     * Simple check for outdated versions (basic heuristic).
+     * A service is outdated when it runs a pre-release or a 0.x version, or an older version
+     * than the newest one deployed in the fleet.
      */
-    private boolean isVersionOutdated(String version) {
-        if (version == null || version.isEmpty()) {
+    private boolean isVersionOutdated(Service service) {
+        Optional<SemVer> version = SemVer.tryParse(service.getVersion());
+        if (version.isEmpty()) {
+            // If we can't parse, don't mark as outdated
             return false;
         }
-
-        try {
-            // Simple check: if version contains "alpha", "beta", "rc", or is very low
-            String lowerVersion = version.toLowerCase();
-            if (lowerVersion.contains("alpha") ||
-                    lowerVersion.contains("beta") ||
-                    lowerVersion.contains("rc") ||
-                    lowerVersion.contains("snapshot")) {
-                return true;
-            }
-
-            // Check if major version is 0
-            if (version.startsWith("0.")) {
-                return true;
-            }
-
-        } catch (Exception e) {
-            // If we can't parse, don't mark as outdated
+        if (version.get().isPreRelease() || version.get().isInitialDevelopment()) {
+            return true;
         }
-
-        return false;
+        FleetVersions fleet = fleetVersions;
+        return fleet != null && fleet.isOutdated(service);
     }
 
     /**
@@ -423,26 +361,16 @@ public class EnvironmentValidator {
     }
 
     /**
-     * Health check result container.
+     * Functional interface for validation checks; a check appends its errors to the sink.
      */
-    private static class HealthCheckResult {
-        private final boolean accessible;
-        private final String message;
-
-        public HealthCheckResult(boolean accessible, String message) {
-            this.accessible = accessible;
-            this.message = message;
-        }
+    @FunctionalInterface
+    private interface ValidationCheck {
+        void validate(ValidationErrors errors);
+    }
 
-        public boolean isAccessible() { return accessible; }
-        public String getMessage() { return message; }
+    private record NamedCheck(String name, ValidationCheck check) {
     }
 
-    /**
-     * Functional interface for validation checks.
-     */
-    @FunctionalInterface
-    private interface ValidationCheck {
-        void validate() throws ValidationException;
+    private record ContentResult(long fingerprint, List<String> errors, List<String> warnings) {
     }
 }
\ No newline at end of file
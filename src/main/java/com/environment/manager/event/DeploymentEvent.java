@@ -0,0 +1,30 @@
+package com.environment.manager.event;
+
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.Service;
+
+import java.time.LocalDateTime;
+
+public record DeploymentEvent(Environment environment, Service service, String version, String deployedBy,
+                              Phase phase, String error, LocalDateTime occurredAt) implements EnvironmentEvent {
+
+    public enum Phase { STARTED, SUCCEEDED, FAILED }
+
+    public static DeploymentEvent started(Environment environment, Service service, String version, String deployedBy) {
+        return new DeploymentEvent(environment, service, version, deployedBy, Phase.STARTED, null, LocalDateTime.now());
+    }
+
+    public static DeploymentEvent succeeded(Environment environment, Service service, String version, String deployedBy) {
+        return new DeploymentEvent(environment, service, version, deployedBy, Phase.SUCCEEDED, null, LocalDateTime.now());
+    }
+
+    public static DeploymentEvent failed(Environment environment, Service service, String version, String deployedBy,
+                                         String error) {
+        return new DeploymentEvent(environment, service, version, deployedBy, Phase.FAILED, error, LocalDateTime.now());
+    }
+
+    @Override
+    public EventTopic topic() {
+        return EventTopic.DEPLOYMENT;
+    }
+}
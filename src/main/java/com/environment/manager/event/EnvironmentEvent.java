@@ -0,0 +1,14 @@
+package com.environment.manager.event;
+
+import com.environment.manager.model.Environment;
+
+import java.time.LocalDateTime;
+
+/**
+ * Common contract of all events published on the {@link EventBus}.
+ */
+public interface EnvironmentEvent {
+    EventTopic topic();
+    Environment environment();
+    LocalDateTime occurredAt();
+}
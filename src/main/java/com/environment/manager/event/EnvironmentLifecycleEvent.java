@@ -0,0 +1,20 @@
+package com.environment.manager.event;
+
+import com.environment.manager.model.Environment;
+
+import java.time.LocalDateTime;
+
+public record EnvironmentLifecycleEvent(Environment environment, Change change, String actor, String details,
+                                        LocalDateTime occurredAt) implements EnvironmentEvent {
+
+    public enum Change { CREATED, UPDATED, DELETED, ERROR }
+
+    public static EnvironmentLifecycleEvent of(Environment environment, Change change, String actor, String details) {
+        return new EnvironmentLifecycleEvent(environment, change, actor, details, LocalDateTime.now());
+    }
+
+    @Override
+    public EventTopic topic() {
+        return EventTopic.ENVIRONMENT;
+    }
+}
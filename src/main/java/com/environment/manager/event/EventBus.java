@@ -0,0 +1,228 @@
+package com.environment.manager.event;
+
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.EnvironmentType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Typed publish/subscribe bus for environment events.
+ *
+ * <p>Subscriptions are indexed by topic and, when specified, by environment ID or
+ * environment type. Publishing only visits the subscriptions whose index keys match
+ * the event, so dispatch cost depends on the number of interested subscribers rather
+ * than the total number of subscribers. Handlers run synchronously on the publishing
+ * thread; a failing handler does not prevent delivery to the others.
+ */
+public class EventBus {
+    private final Map<EventTopic, TopicIndex> topics = new EnumMap<>(EventTopic.class);
+
+    public EventBus() {
+        for (EventTopic topic : EventTopic.values()) {
+            topics.put(topic, new TopicIndex());
+        }
+    }
+
+    /**
+     * Starts building a subscription for one event type.
+     */
+    public <E extends EnvironmentEvent> SubscriptionBuilder<E> on(Class<E> eventType) {
+        return new SubscriptionBuilder<>(eventType);
+    }
+
+    /**
+     * Subscribes a handler to every event of the given type.
+     */
+    public <E extends EnvironmentEvent> Subscription subscribe(Class<E> eventType, Consumer<? super E> handler) {
+        return on(eventType).subscribe(handler);
+    }
+
+    public void publish(EnvironmentEvent event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        TopicIndex index = topics.get(event.topic());
+        Environment environment = event.environment();
+
+        deliver(index.any, event);
+        if (environment != null) {
+            deliver(index.byType.get(environment.getType()), event);
+            deliver(index.byEnvironmentId.get(environment.getId()), event);
+        }
+    }
+
+    /**
+     * Returns the number of active subscriptions on a topic.
+     */
+    public int getSubscriberCount(EventTopic topic) {
+        TopicIndex index = topics.get(topic);
+        int count = index.any.size();
+        for (List<Subscription> list : index.byType.values()) {
+            count += list.size();
+        }
+        for (List<Subscription> list : index.byEnvironmentId.values()) {
+            count += list.size();
+        }
+        return count;
+    }
+
+    private void deliver(List<Subscription> subscriptions, EnvironmentEvent event) {
+        if (subscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.accept(event);
+            } catch (RuntimeException e) {
+                System.err.println("Event handler failed for " + event.topic() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of environment IDs with subscriptions on a topic.
+     */
+    int getSubscribedEnvironmentCount(EventTopic topic) {
+        return topics.get(topic).byEnvironmentId.size();
+    }
+
+    private void register(Subscription subscription) {
+        TopicIndex index = topics.get(subscription.topic);
+        if (subscription.environmentId != null) {
+            // Added under the map's lock for the key, so a concurrent cancel cannot drop the list
+            index.byEnvironmentId.compute(subscription.environmentId, (id, list) -> {
+                List<Subscription> bucket = list == null ? new CopyOnWriteArrayList<>() : list;
+                bucket.add(subscription);
+                return bucket;
+            });
+        } else {
+            sharedBucketFor(index, subscription).add(subscription);
+        }
+    }
+
+    private void unregister(Subscription subscription) {
+        TopicIndex index = topics.get(subscription.topic);
+        if (subscription.environmentId != null) {
+            // Drops the list with its last subscription, so per-environment lists do not pile up
+            index.byEnvironmentId.computeIfPresent(subscription.environmentId, (id, list) -> {
+                list.remove(subscription);
+                return list.isEmpty() ? null : list;
+            });
+        } else {
+            sharedBucketFor(index, subscription).remove(subscription);
+        }
+    }
+
+    private static List<Subscription> sharedBucketFor(TopicIndex index, Subscription subscription) {
+        return subscription.environmentType != null ? index.byType.get(subscription.environmentType) : index.any;
+    }
+
+    private static final class TopicIndex {
+        private final List<Subscription> any = new CopyOnWriteArrayList<>();
+        private final Map<EnvironmentType, List<Subscription>> byType = new EnumMap<>(EnvironmentType.class);
+        private final Map<String, List<Subscription>> byEnvironmentId = new ConcurrentHashMap<>();
+
+        private TopicIndex() {
+            for (EnvironmentType type : EnvironmentType.values()) {
+                byType.put(type, new CopyOnWriteArrayList<>());
+            }
+        }
+    }
+
+    /**
+     * Handle to an active subscription.
+     */
+    public final class Subscription {
+        private final EventTopic topic;
+        private final String environmentId;
+        private final EnvironmentType environmentType;
+        private final Predicate<EnvironmentEvent> filter;
+        private final Consumer<EnvironmentEvent> handler;
+        private volatile boolean active = true;
+
+        private Subscription(EventTopic topic, String environmentId, EnvironmentType environmentType,
+                             Predicate<EnvironmentEvent> filter, Consumer<EnvironmentEvent> handler) {
+            this.topic = topic;
+            this.environmentId = environmentId;
+            this.environmentType = environmentType;
+            this.filter = filter;
+            this.handler = handler;
+        }
+
+        private void accept(EnvironmentEvent event) {
+            // The index already matched the most selective key; check the rest
+            if (environmentId != null && environmentType != null
+                    && event.environment().getType() != environmentType) {
+                return;
+            }
+            if (filter == null || filter.test(event)) {
+                handler.accept(event);
+            }
+        }
+
+        public void cancel() {
+            if (active) {
+                active = false;
+                unregister(this);
+            }
+        }
+
+        public boolean isActive() { return active; }
+        public EventTopic getTopic() { return topic; }
+    }
+
+    /**
+     * Fluent builder narrowing a subscription to specific environments and events.
+     */
+    public final class SubscriptionBuilder<E extends EnvironmentEvent> {
+        private final Class<E> eventType;
+        private final EventTopic topic;
+        private String environmentId;
+        private EnvironmentType environmentType;
+        private Predicate<? super E> filter;
+
+        private SubscriptionBuilder(Class<E> eventType) {
+            this.eventType = eventType;
+            this.topic = EventTopic.forEventType(eventType);
+        }
+
+        public SubscriptionBuilder<E> forEnvironment(String environmentId) {
+            this.environmentId = environmentId;
+            return this;
+        }
+
+        public SubscriptionBuilder<E> forEnvironmentType(EnvironmentType environmentType) {
+            this.environmentType = environmentType;
+            return this;
+        }
+
+        /**
+         * Adds a predicate evaluated after the index lookup; combined with AND.
+         */
+        public SubscriptionBuilder<E> filter(Predicate<? super E> predicate) {
+            if (filter == null) {
+                this.filter = predicate;
+            } else {
+                Predicate<? super E> previous = filter;
+                this.filter = (E event) -> previous.test(event) && predicate.test(event);
+            }
+            return this;
+        }
+
+        public Subscription subscribe(Consumer<? super E> handler) {
+            Objects.requireNonNull(handler, "Handler cannot be null");
+            Predicate<? super E> typedFilter = filter;
+            Predicate<EnvironmentEvent> eventFilter = typedFilter == null ? null
+                    : event -> typedFilter.test(eventType.cast(event));
+            Subscription subscription = new Subscription(topic, environmentId, environmentType,
+                    eventFilter, event -> handler.accept(eventType.cast(event)));
+            register(subscription);
+            return subscription;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.environment.manager.event;
+
+/**
+ * Topics of the {@link EventBus}. Each topic carries exactly one event type.
+ */
+public enum EventTopic {
+    DEPLOYMENT(DeploymentEvent.class),
+    ROLLBACK(RollbackEvent.class),
+    VALIDATION(ValidationEvent.class),
+    HEALTH(HealthEvent.class),
+    ENVIRONMENT(EnvironmentLifecycleEvent.class);
+
+    private final Class<? extends EnvironmentEvent> eventType;
+
+    EventTopic(Class<? extends EnvironmentEvent> eventType) {
+        this.eventType = eventType;
+    }
+
+    public Class<? extends EnvironmentEvent> getEventType() { return eventType; }
+
+    public static EventTopic forEventType(Class<? extends EnvironmentEvent> eventType) {
+        for (EventTopic topic : values()) {
+            if (topic.eventType == eventType) {
+                return topic;
+            }
+        }
+        throw new IllegalArgumentException("No topic for event type: " + eventType.getName());
+    }
+}
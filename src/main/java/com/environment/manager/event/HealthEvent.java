@@ -0,0 +1,20 @@
+package com.environment.manager.event;
+
+import com.environment.manager.model.Environment;
+
+import java.time.LocalDateTime;
+
+public record HealthEvent(Environment environment, Severity severity, String message,
+                          LocalDateTime occurredAt) implements EnvironmentEvent {
+
+    public enum Severity { HEALTHY, WARNING, CRITICAL }
+
+    public static HealthEvent of(Environment environment, Severity severity, String message) {
+        return new HealthEvent(environment, severity, message, LocalDateTime.now());
+    }
+
+    @Override
+    public EventTopic topic() {
+        return EventTopic.HEALTH;
+    }
+}
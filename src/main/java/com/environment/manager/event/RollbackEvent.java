@@ -0,0 +1,27 @@
+package com.environment.manager.event;
+
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.Service;
+
+import java.time.LocalDateTime;
+
+public record RollbackEvent(Environment environment, Service service, String initiatedBy,
+                            Phase phase, LocalDateTime occurredAt) implements EnvironmentEvent {
+
+    public enum Phase { STARTED, SUCCEEDED, FAILED }
+
+    public static RollbackEvent started(Environment environment, Service service, String initiatedBy) {
+        return new RollbackEvent(environment, service, initiatedBy, Phase.STARTED, LocalDateTime.now());
+    }
+
+    public static RollbackEvent completed(Environment environment, Service service, String initiatedBy,
+                                          boolean success) {
+        return new RollbackEvent(environment, service, initiatedBy,
+                success ? Phase.SUCCEEDED : Phase.FAILED, LocalDateTime.now());
+    }
+
+    @Override
+    public EventTopic topic() {
+        return EventTopic.ROLLBACK;
+    }
+}
@@ -0,0 +1,28 @@
+package com.environment.manager.event;
+
+import com.environment.manager.model.Environment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ValidationEvent(Environment environment, List<String> errors, List<String> warnings,
+                              LocalDateTime occurredAt) implements EnvironmentEvent {
+
+    public ValidationEvent {
+        errors = List.copyOf(errors);
+        warnings = List.copyOf(warnings);
+    }
+
+    public static ValidationEvent of(Environment environment, List<String> errors, List<String> warnings) {
+        return new ValidationEvent(environment, errors, warnings, LocalDateTime.now());
+    }
+
+    public boolean passed() {
+        return errors.isEmpty();
+    }
+
+    @Override
+    public EventTopic topic() {
+        return EventTopic.VALIDATION;
+    }
+}
@@ -0,0 +1,27 @@
+package com.environment.manager.exception;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a configuration file is malformed or exceeds the size limit.
+ */
+public class ConfigImportException extends IOException {
+    private final int line;
+
+    public ConfigImportException(String message) {
+        super(message);
+        this.line = -1;
+    }
+
+    public ConfigImportException(String message, int line) {
+        super(message + " (line " + line + ")");
+        this.line = line;
+    }
+
+    /**
+     * Returns the line the problem was found on, or -1 if it is not tied to a line.
+     */
+    public int getLine() {
+        return line;
+    }
+}
@@ -0,0 +1,146 @@
+package com.environment.manager.flags;
+
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.ConfigType;
+import com.environment.manager.model.Environment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The feature flags of one configuration version of an environment, compiled into bit masks
+ * so a tenant's whole flag set is the OR of three masks:
+ * <ul>
+ *   <li>flags enabled for everyone,</li>
+ *   <li>flags whose percentage rollout covers the tenant's bucket, precomputed per bucket,</li>
+ *   <li>flags explicitly targeted at the tenant.</li>
+ * </ul>
+ *
+ * <p>A tenant hashes to one of 100 buckets and a flag rolled out to p percent is enabled in
+ * buckets below p, so a tenant stays enabled as the rollout grows. Buckets are shared by all
+ * flags: the first 10% of tenants are the same for every flag rolled out to 10%.
+ */
+final class CompiledFlags {
+
+    static final int BUCKETS = 100;
+
+    private final Environment environment;
+    private final long configVersion;
+    private final FlagIndex index;
+    private final long[] enabled;
+    private final long[][] rolloutByBucket;
+    private final Map<String, long[]> targeted;
+
+    private CompiledFlags(Environment environment, long configVersion, FlagIndex index, long[] enabled,
+                          long[][] rolloutByBucket, Map<String, long[]> targeted) {
+        this.environment = environment;
+        this.configVersion = configVersion;
+        this.index = index;
+        this.enabled = enabled;
+        this.rolloutByBucket = rolloutByBucket;
+        this.targeted = targeted;
+    }
+
+    static CompiledFlags compile(Environment environment, FlagIndex index) {
+        long configVersion = environment.getConfigurationVersion();
+        Map<String, ConfigItem> configurations = environment.getConfigurations();
+
+        // Register first so every mask below has room for all flags of this environment
+        for (ConfigItem item : configurations.values()) {
+            if (item.getType() == ConfigType.FEATURE_FLAG) {
+                index.register(item.getKey());
+            }
+        }
+        int words = (index.size() + 63) >>> 6;
+        long[] enabled = new long[words];
+        long[][] rolloutByBucket = null;
+        Map<String, long[]> targeted = new HashMap<>();
+
+        for (ConfigItem item : configurations.values()) {
+            if (item.getType() != ConfigType.FEATURE_FLAG) {
+                continue;
+            }
+            int flag = index.indexOf(item.getKey());
+            int word = flag >>> 6;
+            long bit = 1L << flag;
+
+            ConfigItem tenants = configurations.get(item.getKey() + FeatureFlagEngine.TENANTS_SUFFIX);
+            if (tenants != null && tenants.getValue() != null) {
+                for (String tenant : tenants.getValue().split(",")) {
+                    if (!tenant.isBlank()) {
+                        targeted.computeIfAbsent(tenant.trim(), key -> new long[words])[word] |= bit;
+                    }
+                }
+            }
+            if (!item.getBoolean()) {
+                continue;
+            }
+            ConfigItem rollout = configurations.get(item.getKey() + FeatureFlagEngine.ROLLOUT_SUFFIX);
+            // A rollout that is not an integer, such as "10%", fails closed
+            long percent = rollout == null ? BUCKETS : Math.max(0, Math.min(BUCKETS, rollout.getLong(0)));
+            if (percent == BUCKETS) {
+                enabled[word] |= bit;
+            } else if (percent > 0) {
+                if (rolloutByBucket == null) {
+                    rolloutByBucket = new long[BUCKETS][words];
+                }
+                for (int bucket = 0; bucket < percent; bucket++) {
+                    rolloutByBucket[bucket][word] |= bit;
+                }
+            }
+        }
+        return new CompiledFlags(environment, configVersion, index, enabled, rolloutByBucket, targeted);
+    }
+
+    boolean isCurrentFor(Environment candidate) {
+        return environment == candidate && configVersion == candidate.getConfigurationVersion();
+    }
+
+    FlagSet evaluate(String tenant) {
+        long[] words = enabled.clone();
+        if (tenant != null) {
+            if (rolloutByBucket != null) {
+                long[] rollout = rolloutByBucket[bucketOf(tenant)];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] |= rollout[i];
+                }
+            }
+            long[] target = targeted.get(tenant);
+            if (target != null) {
+                for (int i = 0; i < words.length; i++) {
+                    words[i] |= target[i];
+                }
+            }
+        }
+        return new FlagSet(index, words);
+    }
+
+    boolean isEnabled(String tenant, int flag) {
+        int word = flag >>> 6;
+        if (flag < 0 || word >= enabled.length) {
+            return false;
+        }
+        long bits = enabled[word];
+        if (tenant != null) {
+            if (rolloutByBucket != null) {
+                bits |= rolloutByBucket[bucketOf(tenant)][word];
+            }
+            long[] target = targeted.get(tenant);
+            if (target != null) {
+                bits |= target[word];
+            }
+        }
+        return (bits & (1L << flag)) != 0;
+    }
+
+    static int bucketOf(String tenant) {
+        // Finalizer of MurmurHash3, so similar tenant IDs spread across buckets
+        int h = tenant.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return Math.floorMod(h, BUCKETS);
+    }
+}
@@ -0,0 +1,69 @@
+package com.environment.manager.flags;
+
+import com.environment.manager.model.Environment;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evaluates the feature flags of an environment for a tenant.
+ *
+ * <p>Flags are the environment's {@code FEATURE_FLAG} configuration items. A flag
+ * {@code X} can be refined by two further items:
+ * <ul>
+ *   <li>{@code X.rollout}: the percentage of tenants it is enabled for, if {@code X} is true;
+ *       a rollout that is not an integer enables no tenants;</li>
+ *   <li>{@code X.tenants}: a comma-separated list of tenants it is enabled for regardless of {@code X}.</li>
+ * </ul>
+ *
+ * <p>Each environment's flags are compiled into bit masks once per configuration version
+ * and recompiled on first use after the configuration changes. All environments share one
+ * {@link FlagIndex}, so a flag has the same bit everywhere.
+ */
+public class FeatureFlagEngine {
+
+    public static final String ROLLOUT_SUFFIX = ".rollout";
+    public static final String TENANTS_SUFFIX = ".tenants";
+
+    private final FlagIndex index = new FlagIndex();
+    private final Map<String, CompiledFlags> compiled = new ConcurrentHashMap<>();
+
+    /**
+     * Returns all flags enabled for the tenant; a null tenant gets only the flags enabled for everyone.
+     */
+    public FlagSet evaluate(Environment environment, String tenant) {
+        return compiled(environment).evaluate(tenant);
+    }
+
+    public boolean isEnabled(Environment environment, String tenant, String flag) {
+        return compiled(environment).isEnabled(tenant, index.indexOf(flag));
+    }
+
+    /**
+     * Like {@link #isEnabled(Environment, String, String)} with a position from
+     * {@link #indexOf(String)}, sparing the name lookup on hot paths.
+     */
+    public boolean isEnabled(Environment environment, String tenant, int flag) {
+        return compiled(environment).isEnabled(tenant, flag);
+    }
+
+    /**
+     * Returns the stable position of a flag, registering it if no environment defines it yet.
+     */
+    public int indexOf(String flag) {
+        return index.register(flag);
+    }
+
+    public void invalidate(String environmentId) {
+        compiled.remove(environmentId);
+    }
+
+    private CompiledFlags compiled(Environment environment) {
+        CompiledFlags flags = compiled.get(environment.getId());
+        if (flags == null || !flags.isCurrentFor(environment)) {
+            flags = CompiledFlags.compile(environment, index);
+            compiled.put(environment.getId(), flags);
+        }
+        return flags;
+    }
+}
@@ -0,0 +1,50 @@
+package com.environment.manager.flags;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stable, append-only assignment of bit positions to flag names. A name keeps its
+ * position for the life of the index, so compiled flag sets of different environments
+ * and their evaluations can be compared bit for bit.
+ */
+public final class FlagIndex {
+
+    private final Map<String, Integer> positions = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[0];
+
+    /**
+     * Returns the position of the flag, assigning the next free one on first use.
+     */
+    public int register(String name) {
+        Integer position = positions.get(name);
+        if (position != null) {
+            return position;
+        }
+        synchronized (this) {
+            return positions.computeIfAbsent(name, key -> {
+                String[] grown = Arrays.copyOf(names, names.length + 1);
+                grown[names.length] = key;
+                names = grown;
+                return names.length - 1;
+            });
+        }
+    }
+
+    /**
+     * Returns the position of the flag, or -1 if it has never been registered.
+     */
+    public int indexOf(String name) {
+        Integer position = positions.get(name);
+        return position == null ? -1 : position;
+    }
+
+    public String nameOf(int index) {
+        return names[index];
+    }
+
+    public int size() {
+        return names.length;
+    }
+}
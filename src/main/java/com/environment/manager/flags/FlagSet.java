@@ -0,0 +1,64 @@
+package com.environment.manager.flags;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The flags enabled for one tenant in one environment, one bit per flag position of a
+ * {@link FlagIndex}.
+ */
+public final class FlagSet {
+
+    private final FlagIndex index;
+    private final long[] words;
+
+    FlagSet(FlagIndex index, long[] words) {
+        this.index = index;
+        this.words = words;
+    }
+
+    public boolean isEnabled(int flag) {
+        int word = flag >>> 6;
+        return flag >= 0 && word < words.length && (words[word] & (1L << flag)) != 0;
+    }
+
+    public boolean isEnabled(String flag) {
+        return isEnabled(index.indexOf(flag));
+    }
+
+    /**
+     * Returns whether every flag enabled in the other set is enabled in this one.
+     */
+    public boolean containsAll(FlagSet other) {
+        for (int i = 0; i < other.words.length; i++) {
+            long word = i < words.length ? words[i] : 0L;
+            if ((other.words[i] & ~word) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public List<String> getEnabledFlags() {
+        List<String> enabled = new ArrayList<>(count());
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                enabled.add(index.nameOf(i * 64 + Long.numberOfTrailingZeros(word)));
+            }
+        }
+        return enabled;
+    }
+
+    @Override
+    public String toString() {
+        return getEnabledFlags().toString();
+    }
+}
@@ -0,0 +1,301 @@
+package com.environment.manager.history;
+
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.EnvironmentChangeListener;
+import com.environment.manager.model.EnvironmentChangeType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Append-only, sequenced log of every mutation of the tracked environments.
+ *
+ * <p>Events are stored column-wise in primitive arrays (timestamp, change type,
+ * environment index) next to a payload reference array, so a full replay is a
+ * linear scan over contiguous memory. Each environment keeps the positions of its
+ * own events plus a snapshot every {@code snapshotInterval} events, which bounds
+ * the work needed to rebuild its state at any point in time.
+ */
+public class EnvironmentChangeLog {
+    private static final EnvironmentChangeType[] TYPES = EnvironmentChangeType.values();
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int snapshotInterval;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Column storage; position i holds the event with sequence i + 1
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int[] environmentIndexes = new int[INITIAL_CAPACITY];
+    private Object[] payloads = new Object[INITIAL_CAPACITY];
+    private int size;
+    private long lastTimestamp;
+
+    private final List<String> environmentIds = new ArrayList<>();
+    private final Map<String, Track> tracks = new HashMap<>();
+    private final EnvironmentChangeListener listener = this::append;
+
+    public EnvironmentChangeLog() {
+        this(1000);
+    }
+
+    public EnvironmentChangeLog(int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Starts recording the environment's mutations. Its current state becomes a baseline snapshot,
+     * so tracking a replacement instance with a known ID continues that ID's history from its state.
+     */
+    public void track(Environment environment) {
+        lock.writeLock().lock();
+        try {
+            Track track = tracks.get(environment.getId());
+            if (track == null) {
+                track = new Track(environmentIds.size());
+                environmentIds.add(environment.getId());
+                tracks.put(environment.getId(), track);
+            }
+            track.snapshots.add(new Snapshot(EnvironmentState.capture(environment, size, now()),
+                    track.positionCount));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        environment.addChangeListener(listener);
+    }
+
+    /**
+     * Stops recording the environment's mutations; its history stays in the log.
+     */
+    public void untrack(Environment environment) {
+        environment.removeChangeListener(listener);
+    }
+
+    private void append(Environment environment, EnvironmentChangeType type, Object payload) {
+        lock.writeLock().lock();
+        try {
+            Track track = tracks.get(environment.getId());
+            if (track == null) {
+                return;
+            }
+            if (size == timestamps.length) {
+                grow();
+            }
+            long timestamp = now();
+            timestamps[size] = timestamp;
+            types[size] = (byte) type.ordinal();
+            environmentIndexes[size] = track.index;
+            payloads[size] = payload;
+            size++;
+
+            track.addPosition(size - 1);
+            if (track.positionCount - track.lastSnapshot().eventCount >= snapshotInterval) {
+                track.snapshots.add(new Snapshot(EnvironmentState.capture(environment, size, timestamp),
+                        track.positionCount));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds an environment's state as of the given sequence number (inclusive).
+     *
+     * @return empty if the environment is unknown or was not yet tracked at that sequence
+     */
+    public Optional<EnvironmentState> stateAt(String environmentId, long sequence) {
+        lock.readLock().lock();
+        try {
+            Track track = tracks.get(environmentId);
+            if (track == null) {
+                return Optional.empty();
+            }
+            Snapshot snapshot = track.latestSnapshotAtOrBefore(sequence);
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+
+            MutableState state = new MutableState(snapshot.state);
+            long appliedSequence = snapshot.state.sequence();
+            long appliedTimestamp = snapshot.state.timestampMillis();
+            for (int i = snapshot.eventCount; i < track.positionCount; i++) {
+                int position = track.positions[i];
+                if (position + 1 > sequence) {
+                    break;
+                }
+                state.apply(TYPES[types[position]], payloads[position]);
+                appliedSequence = position + 1;
+                appliedTimestamp = timestamps[position];
+            }
+            return Optional.of(state.freeze(environmentId, appliedSequence, appliedTimestamp));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds an environment's state as it was at the given instant.
+     */
+    public Optional<EnvironmentState> stateAt(String environmentId, Instant time) {
+        return stateAt(environmentId, sequenceAt(time.toEpochMilli()));
+    }
+
+    /**
+     * Rebuilds the state of every tracked environment at the given instant.
+     */
+    public Map<String, EnvironmentState> fleetStateAt(Instant time) {
+        long sequence = sequenceAt(time.toEpochMilli());
+        Map<String, EnvironmentState> fleet = new HashMap<>();
+        for (String environmentId : getEnvironmentIds()) {
+            stateAt(environmentId, sequence).ifPresent(state -> fleet.put(environmentId, state));
+        }
+        return fleet;
+    }
+
+    /**
+     * Visits events with sequence numbers in {@code [fromSequence, toSequence]} in order.
+     */
+    public void replay(long fromSequence, long toSequence, ChangeVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            int start = (int) Math.max(0, fromSequence - 1);
+            int end = (int) Math.min(size, toSequence);
+            for (int i = start; i < end; i++) {
+                visitor.visit(i + 1, timestamps[i], environmentIds.get(environmentIndexes[i]),
+                        TYPES[types[i]], payloads[i]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void replayAll(ChangeVisitor visitor) {
+        replay(1, Long.MAX_VALUE, visitor);
+    }
+
+    public long getLastSequence() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSnapshotCount(String environmentId) {
+        lock.readLock().lock();
+        try {
+            Track track = tracks.get(environmentId);
+            return track == null ? 0 : track.snapshots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<String> getEnvironmentIds() {
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(tracks.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the last sequence number recorded at or before the timestamp.
+     */
+    private long sequenceAt(long timestampMillis) {
+        lock.readLock().lock();
+        try {
+            // Timestamps are non-decreasing, so binary search for the last one <= timestampMillis
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (timestamps[mid] <= timestampMillis) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long now() {
+        // Keep timestamps monotonic even if the wall clock steps back
+        lastTimestamp = Math.max(lastTimestamp, System.currentTimeMillis());
+        return lastTimestamp;
+    }
+
+    private void grow() {
+        int capacity = timestamps.length * 2;
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        types = Arrays.copyOf(types, capacity);
+        environmentIndexes = Arrays.copyOf(environmentIndexes, capacity);
+        payloads = Arrays.copyOf(payloads, capacity);
+    }
+
+    /**
+     * Receives replayed events without any per-event allocation.
+     */
+    @FunctionalInterface
+    public interface ChangeVisitor {
+        void visit(long sequence, long timestampMillis, String environmentId,
+                   EnvironmentChangeType type, Object payload);
+    }
+
+    private record Snapshot(EnvironmentState state, int eventCount) {
+    }
+
+    private static final class Track {
+        private final int index;
+        private final List<Snapshot> snapshots = new ArrayList<>();
+        private int[] positions = new int[16];
+        private int positionCount;
+
+        private Track(int index) {
+            this.index = index;
+        }
+
+        private void addPosition(int position) {
+            if (positionCount == positions.length) {
+                positions = Arrays.copyOf(positions, positionCount * 2);
+            }
+            positions[positionCount++] = position;
+        }
+
+        private Snapshot lastSnapshot() {
+            return snapshots.get(snapshots.size() - 1);
+        }
+
+        private Snapshot latestSnapshotAtOrBefore(long sequence) {
+            int low = 0;
+            int high = snapshots.size() - 1;
+            Snapshot found = null;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                Snapshot candidate = snapshots.get(mid);
+                if (candidate.state.sequence() <= sequence) {
+                    found = candidate;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.environment.manager.history;
+
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.DeploymentStatus;
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.Service;
+
+import java.util.Map;
+
+/**
+ * Immutable view of an environment's mutable state as of a change-log sequence number.
+ * Used both for snapshots and for the result of a point-in-time rebuild.
+ */
+public record EnvironmentState(String environmentId, long sequence, long timestampMillis,
+                               Map<String, Service> services, Map<String, ConfigItem> configurations,
+                               DeploymentStatus status, boolean active, String currentVersion,
+                               String databaseUrl, String apiEndpoint) {
+
+    public EnvironmentState {
+        services = Map.copyOf(services);
+        configurations = Map.copyOf(configurations);
+    }
+
+    /**
+     * Captures the current state of a live environment.
+     */
+    static EnvironmentState capture(Environment environment, long sequence, long timestampMillis) {
+        MutableState state = new MutableState();
+        environment.getServices().forEach(service -> state.services.put(service.getId(), service));
+        state.configurations.putAll(environment.getConfigurations());
+        state.status = environment.getStatus();
+        state.active = environment.isActive();
+        state.currentVersion = environment.getCurrentVersion();
+        state.databaseUrl = environment.getDatabaseUrl();
+        state.apiEndpoint = environment.getApiEndpoint();
+        return state.freeze(environment.getId(), sequence, timestampMillis);
+    }
+
+    public Service getService(String serviceId) {
+        return services.get(serviceId);
+    }
+
+    public ConfigItem getConfiguration(String key) {
+        return configurations.get(key);
+    }
+}
@@ -0,0 +1,68 @@
+package com.environment.manager.history;
+
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.DeploymentStatus;
+import com.environment.manager.model.EnvironmentChangeType;
+import com.environment.manager.model.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Working state used while replaying changes on top of a snapshot.
+ */
+final class MutableState {
+    final Map<String, Service> services = new HashMap<>();
+    final Map<String, ConfigItem> configurations = new HashMap<>();
+    DeploymentStatus status;
+    boolean active;
+    String currentVersion;
+    String databaseUrl;
+    String apiEndpoint;
+
+    MutableState() {
+    }
+
+    MutableState(EnvironmentState snapshot) {
+        services.putAll(snapshot.services());
+        configurations.putAll(snapshot.configurations());
+        status = snapshot.status();
+        active = snapshot.active();
+        currentVersion = snapshot.currentVersion();
+        databaseUrl = snapshot.databaseUrl();
+        apiEndpoint = snapshot.apiEndpoint();
+    }
+
+    /**
+     * Applies one change with the same semantics as the corresponding {@code Environment} mutator.
+     */
+    void apply(EnvironmentChangeType type, Object payload) {
+        switch (type) {
+            case SERVICE_ADDED -> {
+                Service service = (Service) payload;
+                services.putIfAbsent(service.getId(), service);
+            }
+            case SERVICE_REMOVED -> services.remove((String) payload);
+            case CONFIG_PUT -> {
+                ConfigItem item = (ConfigItem) payload;
+                configurations.put(item.getKey(), item);
+            }
+            case CONFIG_REMOVED -> configurations.remove((String) payload);
+            case STATUS_CHANGED -> {
+                status = (DeploymentStatus) payload;
+                if (status.isCompleted()) {
+                    active = status.isSuccessful();
+                }
+            }
+            case VERSION_CHANGED -> currentVersion = (String) payload;
+            case DATABASE_URL_CHANGED -> databaseUrl = (String) payload;
+            case API_ENDPOINT_CHANGED -> apiEndpoint = (String) payload;
+            case ACTIVE_CHANGED -> active = (Boolean) payload;
+        }
+    }
+
+    EnvironmentState freeze(String environmentId, long sequence, long timestampMillis) {
+        return new EnvironmentState(environmentId, sequence, timestampMillis, services, configurations,
+                status, active, currentVersion, databaseUrl, apiEndpoint);
+    }
+}
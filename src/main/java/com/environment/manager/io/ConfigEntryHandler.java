@@ -0,0 +1,18 @@
+package com.environment.manager.io;
+
+import java.io.IOException;
+
+/**
+ * Receives the entries of a configuration document, flattened to dotted keys, one at a
+ * time as a reader comes across them.
+ */
+@FunctionalInterface
+interface ConfigEntryHandler {
+
+    /**
+     * @param quoted whether the value was written as a string, in which case its type is
+     *               not inferred from its text
+     * @param line   the line the entry starts on
+     */
+    void entry(String key, String value, boolean quoted, int line) throws IOException;
+}
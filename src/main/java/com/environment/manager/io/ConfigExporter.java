@@ -0,0 +1,151 @@
+package com.environment.manager.io;
+
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.ConfigType;
+import com.environment.manager.model.Environment;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes an environment's configuration items as a properties, JSON or YAML document that
+ * {@link ConfigImporter} reads back. Items are written one at a time in key order, with
+ * their full dotted keys.
+ *
+ * <p>The importer infers each item's type from its key and value, and from whether the value
+ * was quoted. The exporter quotes a value unless only the bare value infers the item's type,
+ * as it does for feature flags and numbers, so YAML brings every type back that inference
+ * can produce. JSON has no bare form for durations such as {@code 30s}, which come back as
+ * strings. Properties are not quoted at all, so they lose types: a string that looks like a
+ * number or a boolean comes back as {@code NUMERIC} or {@code FEATURE_FLAG}. In every format,
+ * an item whose type disagrees with its key, such as a {@code GENERAL} item named
+ * {@code db.password}, comes back with the type its key implies.
+ *
+ * <p>Encrypted items are left out unless the exporter is created to include them.
+ */
+public class ConfigExporter {
+    private final boolean includeEncrypted;
+
+    public ConfigExporter() {
+        this(false);
+    }
+
+    public ConfigExporter(boolean includeEncrypted) {
+        this.includeEncrypted = includeEncrypted;
+    }
+
+    /**
+     * Exports to a file whose format is given by its extension, returning the items written.
+     */
+    public int exportFile(Environment environment, Path file) throws IOException {
+        ConfigFormat format = ConfigFormat.forFile(file);
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            return export(environment, format, out);
+        }
+    }
+
+    /**
+     * Writes the document to the writer, which is not closed, and returns the items written.
+     */
+    public int export(Environment environment, ConfigFormat format, Writer out) throws IOException {
+        if (format != ConfigFormat.JSON) {
+            out.write("# Configuration of " + environment.getId()
+                    + ", version " + environment.getConfigurationVersion() + "\n");
+        } else {
+            out.write("{");
+        }
+        int written = 0;
+        for (ConfigItem item : environment.getConfigurationsWithPrefix("").values()) {
+            if (item.getValue() == null || (item.isEncrypted() && !includeEncrypted)) {
+                continue;
+            }
+            switch (format) {
+                case PROPERTIES -> out.write(escapeProperty(item.getKey(), true) + "="
+                        + escapeProperty(item.getValue(), false) + "\n");
+                case JSON -> out.write((written == 0 ? "\n  " : ",\n  ") + quoteJson(item.getKey()) + ": "
+                        + (isBare(item) && isJsonNumberOrBoolean(item.getValue())
+                                ? item.getValue() : quoteJson(item.getValue())));
+                case YAML -> out.write(yamlKey(item.getKey()) + ": "
+                        + (isBare(item) ? item.getValue() : quoteYaml(item.getValue())) + "\n");
+            }
+            written++;
+        }
+        if (format == ConfigFormat.JSON) {
+            out.write(written == 0 ? "}\n" : "\n}\n");
+        }
+        return written;
+    }
+
+    /**
+     * Returns whether the value must be written unquoted for the importer to infer the item's
+     * type. Only a boolean or number can infer differently unquoted, so such values are
+     * valid plain YAML scalars.
+     */
+    private static boolean isBare(ConfigItem item) {
+        ConfigType type = item.getType();
+        return ConfigImporter.inferType(item.getKey(), item.getValue(), true) != type
+                && ConfigImporter.inferType(item.getKey(), item.getValue(), false) == type;
+    }
+
+    private static boolean isJsonNumberOrBoolean(String value) {
+        return value.equals("true") || value.equals("false") || value.matches("-?(0|[1-9][0-9]*)");
+    }
+
+    private static String escapeProperty(String text, boolean key) {
+        StringBuilder result = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> result.append("\\\\");
+                case '\n' -> result.append("\\n");
+                case '\r' -> result.append("\\r");
+                case '\t' -> result.append("\\t");
+                case '\f' -> result.append("\\f");
+                case '=', ':', '#', '!' -> result.append(key ? "\\" : "").append(c);
+                case ' ' -> result.append(key || i == 0 ? "\\ " : " ");
+                default -> {
+                    if (c < 0x20) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    private static String quoteJson(String text) {
+        StringBuilder result = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> result.append("\\\"");
+                case '\\' -> result.append("\\\\");
+                case '\n' -> result.append("\\n");
+                case '\r' -> result.append("\\r");
+                case '\t' -> result.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    private static String yamlKey(String key) {
+        return key.matches("[A-Za-z0-9_][A-Za-z0-9_.\\-/]*") ? key : quoteJson(key);
+    }
+
+    private static String quoteYaml(String text) {
+        // The double-quoted escapes used here are valid in YAML as well as JSON
+        return quoteJson(text);
+    }
+}
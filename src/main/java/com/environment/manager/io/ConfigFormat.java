@@ -0,0 +1,36 @@
+package com.environment.manager.io;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * File formats configuration can be imported from and exported to.
+ */
+public enum ConfigFormat {
+    PROPERTIES(".properties"),
+    JSON(".json"),
+    YAML(".yaml", ".yml");
+
+    private final String[] extensions;
+
+    ConfigFormat(String... extensions) {
+        this.extensions = extensions;
+    }
+
+    /**
+     * Returns the format matching the file's extension.
+     *
+     * @throws IllegalArgumentException if the extension is not recognised
+     */
+    public static ConfigFormat forFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        for (ConfigFormat format : values()) {
+            for (String extension : format.extensions) {
+                if (name.endsWith(extension)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown configuration file format: " + file);
+    }
+}
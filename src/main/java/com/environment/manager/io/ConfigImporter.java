@@ -0,0 +1,162 @@
+package com.environment.manager.io;
+
+import com.environment.manager.exception.ConfigImportException;
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.ConfigType;
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.PersistentHashMap;
+import com.environment.manager.util.util.Constants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Imports configuration items into an environment from a properties, JSON or YAML document.
+ *
+ * <p>The document is streamed: entries are parsed one at a time and staged in batches into
+ * a persistent map that shares its structure with the environment's configuration, so no
+ * copy of the document or of the existing items is held. The whole import is committed as
+ * a single configuration version once the document has been read; if it fails part way,
+ * nothing has been applied and the version history is untouched. The byte limit is
+ * enforced while reading, so an oversized input fails as soon as it passes the limit.
+ *
+ * <p>Values that were not quoted in the document have their type inferred: {@code true} and
+ * {@code false} are feature flags, numbers and durations are numeric. Keys whose last
+ * segment ends in password, secret, token or key are encrypted secrets; the remaining items
+ * are typed by their {@code db.}, {@code security.} or {@code api.} prefix.
+ */
+public class ConfigImporter {
+    private static final String DESCRIPTION = "Imported configuration";
+
+    private final String modifiedBy;
+    private final int batchSize;
+    private final long maxBytes;
+
+    public ConfigImporter(String modifiedBy) {
+        this(modifiedBy, Constants.CONFIG_IMPORT_BATCH_SIZE, Constants.MAX_FILE_SIZE_MB * 1024 * 1024);
+    }
+
+    public ConfigImporter(String modifiedBy, int batchSize, long maxBytes) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Byte limit must be positive: " + maxBytes);
+        }
+        this.modifiedBy = modifiedBy;
+        this.batchSize = batchSize;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Imports a file whose format is given by its extension.
+     */
+    public ImportResult importFile(Path file, Environment environment) throws IOException {
+        ConfigFormat format = ConfigFormat.forFile(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            return importFrom(in, format, environment);
+        }
+    }
+
+    /**
+     * Imports a UTF-8 document from the stream, which is read to its end but not closed.
+     *
+     * @throws ConfigImportException if the document is malformed or exceeds the byte limit
+     */
+    public ImportResult importFrom(InputStream in, ConfigFormat format, Environment environment) throws IOException {
+        LimitedInputStream limited = new LimitedInputStream(in, maxBytes);
+        // A decoder that reports malformed input rather than replacing it
+        Reader reader = new InputStreamReader(limited, StandardCharsets.UTF_8.newDecoder());
+        Batcher batcher = new Batcher(environment.getConfigurations());
+        switch (format) {
+            case PROPERTIES -> new PropertiesConfigReader(reader).read(batcher);
+            case JSON -> new JsonConfigReader(reader).read(batcher);
+            case YAML -> new YamlConfigReader(reader).read(batcher);
+        }
+        batcher.flush();
+        environment.restoreConfigurations(batcher.staged);
+        return new ImportResult(batcher.imported, batcher.batches, limited.getCount());
+    }
+
+    static ConfigType inferType(String key, String value, boolean quoted) {
+        String name = key.substring(key.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        if (name.endsWith("password") || name.endsWith("secret") || name.endsWith("token") || name.endsWith("key")) {
+            return ConfigType.SECRET;
+        }
+        if (!quoted) {
+            if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+                return ConfigType.FEATURE_FLAG;
+            }
+            if (ConfigItem.isNumericValue(value)) {
+                return ConfigType.NUMERIC;
+            }
+        }
+        if (key.startsWith("db.")) {
+            return ConfigType.DB_CONFIG;
+        }
+        if (key.startsWith("security.")) {
+            return ConfigType.SECURITY_CONFIG;
+        }
+        if (key.startsWith("api.")) {
+            return ConfigType.API_CONFIG;
+        }
+        return ConfigType.GENERAL;
+    }
+
+    /**
+     * Turns entries into items and stages them on top of the existing configuration a batch
+     * at a time.
+     */
+    private final class Batcher implements ConfigEntryHandler {
+        private final LocalDateTime importedAt = LocalDateTime.now();
+        private final List<ConfigItem> pending = new ArrayList<>();
+        private PersistentHashMap<String, ConfigItem> staged;
+        private int imported;
+        private int batches;
+
+        Batcher(Map<String, ConfigItem> existing) {
+            this.staged = PersistentHashMap.copyOf(existing);
+        }
+
+        @Override
+        public void entry(String key, String value, boolean quoted, int line) throws IOException {
+            if (key.isEmpty()) {
+                throw new ConfigImportException("Empty configuration key", line);
+            }
+            ConfigType type = inferType(key, value, quoted);
+            // Database settings are encrypted, as ConfigItem.dbConfig does
+            boolean encrypted = type == ConfigType.SECRET || type == ConfigType.DB_CONFIG;
+            pending.add(new ConfigItem(key, value, DESCRIPTION, type, importedAt, modifiedBy, encrypted));
+            if (pending.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!pending.isEmpty()) {
+                for (ConfigItem item : pending) {
+                    staged = staged.with(item.getKey(), item);
+                }
+                imported += pending.size();
+                batches++;
+                pending.clear();
+            }
+        }
+    }
+
+    /**
+     * The outcome of an import: items applied, batches staged and bytes read.
+     */
+    public record ImportResult(int imported, int batches, long bytesRead) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.environment.manager.io;
+
+import com.environment.manager.io.JsonTokenizer.Token;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a JSON object of configuration values. Nested objects are flattened to dotted keys,
+ * so {@code {"db": {"url": "..."}}} yields {@code db.url}; null values are skipped and
+ * arrays are rejected, as a configuration item holds a single value.
+ */
+final class JsonConfigReader {
+    private static final int MAX_DEPTH = 32;
+
+    private final JsonTokenizer tokenizer;
+
+    JsonConfigReader(Reader reader) {
+        this.tokenizer = new JsonTokenizer(reader);
+    }
+
+    void read(ConfigEntryHandler handler) throws IOException {
+        if (tokenizer.next() != Token.BEGIN_OBJECT) {
+            throw tokenizer.error("Expected a JSON object");
+        }
+        readObject("", 1, handler);
+        if (tokenizer.next() != Token.END) {
+            throw tokenizer.error("Unexpected content after the JSON object");
+        }
+    }
+
+    private void readObject(String prefix, int depth, ConfigEntryHandler handler) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw tokenizer.error("Objects nested deeper than " + MAX_DEPTH + " levels");
+        }
+        Token token = tokenizer.next();
+        if (token == Token.END_OBJECT) {
+            return;
+        }
+        while (true) {
+            if (token != Token.STRING) {
+                throw tokenizer.error("Expected a key");
+            }
+            String key = prefix + tokenizer.text();
+            if (tokenizer.next() != Token.COLON) {
+                throw tokenizer.error("Expected ':' after '" + key + "'");
+            }
+            int line = tokenizer.line();
+            switch (tokenizer.next()) {
+                case BEGIN_OBJECT -> readObject(key + ".", depth + 1, handler);
+                case STRING -> handler.entry(key, tokenizer.text(), true, line);
+                case NUMBER -> handler.entry(key, tokenizer.text(), false, line);
+                case TRUE -> handler.entry(key, "true", false, line);
+                case FALSE -> handler.entry(key, "false", false, line);
+                case NULL -> {
+                }
+                case BEGIN_ARRAY -> throw tokenizer.error("Arrays are not supported: '" + key + "'");
+                default -> throw tokenizer.error("Expected a value for '" + key + "'");
+            }
+            token = tokenizer.next();
+            if (token == Token.END_OBJECT) {
+                return;
+            }
+            if (token != Token.COMMA) {
+                throw tokenizer.error("Expected ',' or '}'");
+            }
+            token = tokenizer.next();
+        }
+    }
+}
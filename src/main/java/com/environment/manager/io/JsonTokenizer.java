@@ -0,0 +1,204 @@
+package com.environment.manager.io;
+
+import com.environment.manager.exception.ConfigImportException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Incremental JSON tokenizer: reads characters through a fixed buffer and hands out one
+ * token at a time, so memory use depends on the longest string, not on the document.
+ * It checks the syntax of each token; the order of tokens is left to the caller.
+ */
+final class JsonTokenizer {
+
+    enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, COLON, COMMA,
+        STRING, NUMBER, TRUE, FALSE, NULL, END
+    }
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int line = 1;
+    private final StringBuilder text = new StringBuilder();
+
+    JsonTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the next token; for {@code STRING} and {@code NUMBER} its text is in {@link #text()}.
+     */
+    Token next() throws IOException {
+        int c = skipWhitespace();
+        switch (c) {
+            case -1:
+                return Token.END;
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '}':
+                return Token.END_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case ']':
+                return Token.END_ARRAY;
+            case ':':
+                return Token.COLON;
+            case ',':
+                return Token.COMMA;
+            case '"':
+                readString();
+                return Token.STRING;
+            case 't':
+                expectLiteral("rue");
+                return Token.TRUE;
+            case 'f':
+                expectLiteral("alse");
+                return Token.FALSE;
+            case 'n':
+                expectLiteral("ull");
+                return Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readNumber((char) c);
+                    return Token.NUMBER;
+                }
+                throw error("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    String text() {
+        return text.toString();
+    }
+
+    int line() {
+        return line;
+    }
+
+    ConfigImportException error(String message) {
+        return new ConfigImportException(message, line);
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == '\n') {
+                line++;
+            } else if (c != ' ' && c != '\t' && c != '\r') {
+                return c;
+            }
+        }
+    }
+
+    private void readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return;
+            }
+            if (c == -1 || c < 0x20) {
+                throw error(c == -1 ? "Unterminated string" : "Control character in string");
+            }
+            if (c != '\\') {
+                text.append((char) c);
+                continue;
+            }
+            int escaped = read();
+            switch (escaped) {
+                case '"', '\\', '/' -> text.append((char) escaped);
+                case 'b' -> text.append('\b');
+                case 'f' -> text.append('\f');
+                case 'n' -> text.append('\n');
+                case 'r' -> text.append('\r');
+                case 't' -> text.append('\t');
+                case 'u' -> {
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(read(), 16);
+                        if (digit < 0) {
+                            throw error("Invalid \\u escape");
+                        }
+                        code = code * 16 + digit;
+                    }
+                    text.append((char) code);
+                }
+                default -> throw error("Invalid escape in string");
+            }
+        }
+    }
+
+    /**
+     * Reads {@code -? int frac? exp?} as in RFC 8259.
+     */
+    private void readNumber(char first) throws IOException {
+        text.setLength(0);
+        int c = first;
+        if (c == '-') {
+            text.append('-');
+            c = read();
+        }
+        if (c == '0') {
+            text.append('0');
+            c = read();
+        } else {
+            c = requireDigits(c);
+        }
+        if (c == '.') {
+            text.append('.');
+            c = requireDigits(read());
+        }
+        if (c == 'e' || c == 'E') {
+            text.append((char) c);
+            c = read();
+            if (c == '+' || c == '-') {
+                text.append((char) c);
+                c = read();
+            }
+            c = requireDigits(c);
+        }
+        unread(c);
+    }
+
+    /**
+     * Appends one or more digits starting at c and returns the character after them.
+     */
+    private int requireDigits(int c) throws IOException {
+        if (c < '0' || c > '9') {
+            throw error("Malformed number");
+        }
+        while (c >= '0' && c <= '9') {
+            text.append((char) c);
+            c = read();
+        }
+        return c;
+    }
+
+    private void expectLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (read() != rest.charAt(i)) {
+                throw error("Invalid literal");
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private void unread(int c) {
+        if (c != -1) {
+            position--;
+        }
+    }
+}
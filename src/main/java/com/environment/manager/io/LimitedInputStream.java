@@ -0,0 +1,63 @@
+package com.environment.manager.io;
+
+import com.environment.manager.exception.ConfigImportException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Fails once more than a given number of bytes have been read, so an oversized input is
+ * rejected as it streams in, whatever its source and without knowing its length up front.
+ */
+final class LimitedInputStream extends FilterInputStream {
+    private final long limit;
+    private long count;
+
+    LimitedInputStream(InputStream in, long limit) {
+        super(in);
+        this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int n = super.read(buffer, offset, length);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        // Re-reading after a reset would be counted twice
+        return false;
+    }
+
+    private void count(long n) throws ConfigImportException {
+        count += n;
+        if (count > limit) {
+            throw new ConfigImportException("Configuration input exceeds the limit of " + limit + " bytes");
+        }
+    }
+
+    long getCount() {
+        return count;
+    }
+}
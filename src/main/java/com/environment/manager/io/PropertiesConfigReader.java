@@ -0,0 +1,128 @@
+package com.environment.manager.io;
+
+import com.environment.manager.exception.ConfigImportException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads configuration values in {@link java.util.Properties} syntax, one logical line at a
+ * time: {@code #} and {@code !} comments, {@code =}, {@code :} or whitespace between key
+ * and value, backslash line continuations and escapes including {@code \}{@code uXXXX}.
+ */
+final class PropertiesConfigReader {
+    private final BufferedReader reader;
+    private int line;
+
+    PropertiesConfigReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    void read(ConfigEntryHandler handler) throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            int start = skipWhitespace(text, 0);
+            if (start == text.length() || text.charAt(start) == '#' || text.charAt(start) == '!') {
+                continue;
+            }
+            int entryLine = line;
+            String logical = text.substring(start);
+            while (endsWithContinuation(logical)) {
+                String next = reader.readLine();
+                logical = logical.substring(0, logical.length() - 1);
+                if (next == null) {
+                    break;
+                }
+                line++;
+                logical += next.substring(skipWhitespace(next, 0));
+            }
+            parseEntry(logical, entryLine, handler);
+        }
+    }
+
+    private void parseEntry(String text, int entryLine, ConfigEntryHandler handler) throws IOException {
+        int end = 0;
+        while (end < text.length()) {
+            char c = text.charAt(end);
+            if (c == '\\') {
+                end += 2;
+                continue;
+            }
+            if (c == '=' || c == ':' || isBlank(c)) {
+                break;
+            }
+            end++;
+        }
+        end = Math.min(end, text.length());
+        int valueStart = skipWhitespace(text, end);
+        if (valueStart < text.length() && (text.charAt(valueStart) == '=' || text.charAt(valueStart) == ':')) {
+            valueStart = skipWhitespace(text, valueStart + 1);
+        }
+        String key = unescape(text.substring(0, end), entryLine);
+        String value = unescape(text.substring(valueStart), entryLine);
+        handler.entry(key, value, false, entryLine);
+    }
+
+    private static String unescape(String text, int entryLine) throws ConfigImportException {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 == text.length()) {
+                result.append(c);
+                continue;
+            }
+            char escaped = text.charAt(++i);
+            switch (escaped) {
+                case 't' -> result.append('\t');
+                case 'n' -> result.append('\n');
+                case 'r' -> result.append('\r');
+                case 'f' -> result.append('\f');
+                case 'u' -> {
+                    if (i + 4 >= text.length()) {
+                        throw new ConfigImportException("Invalid \\u escape", entryLine);
+                    }
+                    int code = 0;
+                    for (int j = 1; j <= 4; j++) {
+                        int digit = Character.digit(text.charAt(i + j), 16);
+                        if (digit < 0) {
+                            throw new ConfigImportException("Invalid \\u escape", entryLine);
+                        }
+                        code = code * 16 + digit;
+                    }
+                    result.append((char) code);
+                    i += 4;
+                }
+                default -> result.append(escaped);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * A line continues on the next one when it ends with an odd number of backslashes.
+     */
+    private static boolean endsWithContinuation(String text) {
+        int count = 0;
+        for (int i = text.length() - 1; i >= 0 && text.charAt(i) == '\\'; i--) {
+            count++;
+        }
+        return count % 2 == 1;
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && isBlank(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+}
@@ -0,0 +1,209 @@
+package com.environment.manager.io;
+
+import com.environment.manager.exception.ConfigImportException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Reads the subset of YAML configuration files use: nested mappings of plain, single- or
+ * double-quoted scalars, with comments. Nested keys are flattened to dotted keys and
+ * {@code ~}/{@code null} values are skipped. Lists, block scalars, flow collections and
+ * multiple documents are rejected rather than misread.
+ */
+final class YamlConfigReader {
+    private final BufferedReader reader;
+    private int line;
+
+    /** A mapping whose entries are being read, and the indentation of those entries. */
+    private static final class Level {
+        final int indent;
+        final String prefix;
+        int childIndent = -1;
+
+        Level(int indent, String prefix) {
+            this.indent = indent;
+            this.prefix = prefix;
+        }
+    }
+
+    YamlConfigReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    void read(ConfigEntryHandler handler) throws IOException {
+        Deque<Level> levels = new ArrayDeque<>();
+        levels.push(new Level(-1, ""));
+        boolean content = false;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            int indent = 0;
+            while (indent < text.length() && text.charAt(indent) == ' ') {
+                indent++;
+            }
+            if (indent < text.length() && text.charAt(indent) == '\t') {
+                throw error("Tabs are not allowed for indentation");
+            }
+            String entry = stripComment(text, indent).stripTrailing();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            if (entry.equals("---") && indent == 0) {
+                if (content) {
+                    throw error("Multiple documents are not supported");
+                }
+                continue;
+            }
+            content = true;
+            if (entry.equals("-") || entry.startsWith("- ")) {
+                throw error("Lists are not supported");
+            }
+
+            while (levels.peek().indent >= indent) {
+                levels.pop();
+            }
+            Level parent = levels.peek();
+            if (parent.childIndent < 0) {
+                parent.childIndent = indent;
+            } else if (parent.childIndent != indent) {
+                throw error("Inconsistent indentation");
+            }
+
+            StringBuilder key = new StringBuilder();
+            int colon;
+            if (entry.charAt(0) == '"' || entry.charAt(0) == '\'') {
+                colon = readQuoted(entry, 0, key);
+            } else {
+                colon = plainKeyEnd(entry);
+                key.append(entry, 0, colon);
+            }
+            if (colon >= entry.length() || entry.charAt(colon) != ':'
+                    || (colon + 1 < entry.length() && entry.charAt(colon + 1) != ' ')) {
+                throw error("Expected 'key: value'");
+            }
+            String fullKey = parent.prefix + key.toString().strip();
+            int valueStart = colon + 1;
+            while (valueStart < entry.length() && entry.charAt(valueStart) == ' ') {
+                valueStart++;
+            }
+            if (valueStart == entry.length()) {
+                // A nested mapping follows, or the value is null if nothing is indented under it
+                levels.push(new Level(indent, fullKey + "."));
+                continue;
+            }
+            readValue(fullKey, entry, valueStart, handler);
+        }
+    }
+
+    private void readValue(String key, String entry, int start, ConfigEntryHandler handler) throws IOException {
+        char first = entry.charAt(start);
+        if (first == '"' || first == '\'') {
+            StringBuilder value = new StringBuilder();
+            int end = readQuoted(entry, start, value);
+            if (end != entry.length()) {
+                throw error("Unexpected text after quoted value of '" + key + "'");
+            }
+            handler.entry(key, value.toString(), true, line);
+            return;
+        }
+        if (first == '|' || first == '>') {
+            throw error("Block scalars are not supported: '" + key + "'");
+        }
+        if (first == '[' || first == '{') {
+            throw error("Flow collections are not supported: '" + key + "'");
+        }
+        String value = entry.substring(start);
+        if (!value.equals("~") && !value.equals("null")) {
+            handler.entry(key, value, false, line);
+        }
+    }
+
+    /**
+     * Reads a quoted scalar starting at the quote and returns the index after the closing one.
+     */
+    private int readQuoted(String text, int start, StringBuilder out) throws ConfigImportException {
+        char quote = text.charAt(start);
+        int i = start + 1;
+        while (i < text.length()) {
+            char c = text.charAt(i++);
+            if (c == quote) {
+                if (quote == '\'' && i < text.length() && text.charAt(i) == '\'') {
+                    out.append('\'');
+                    i++;
+                    continue;
+                }
+                return i;
+            }
+            if (c != '\\' || quote == '\'') {
+                out.append(c);
+                continue;
+            }
+            if (i == text.length()) {
+                break;
+            }
+            char escaped = text.charAt(i++);
+            switch (escaped) {
+                case 'n' -> out.append('\n');
+                case 't' -> out.append('\t');
+                case 'r' -> out.append('\r');
+                case '0' -> out.append('\0');
+                case '"', '\\', '/', ' ' -> out.append(escaped);
+                case 'u' -> {
+                    if (i + 4 > text.length()) {
+                        throw error("Invalid \\u escape");
+                    }
+                    try {
+                        out.append((char) Integer.parseInt(text, i, i + 4, 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Invalid \\u escape");
+                    }
+                    i += 4;
+                }
+                default -> throw error("Invalid escape in quoted value");
+            }
+        }
+        throw error("Unterminated quoted value");
+    }
+
+    /**
+     * Returns the index of the colon that ends a plain key: the first one followed by a
+     * space or the end of the line.
+     */
+    private static int plainKeyEnd(String entry) {
+        int colon = entry.indexOf(':');
+        while (colon >= 0 && colon + 1 < entry.length() && entry.charAt(colon + 1) != ' ') {
+            colon = entry.indexOf(':', colon + 1);
+        }
+        return colon < 0 ? entry.length() : colon;
+    }
+
+    /**
+     * Drops a comment: a {@code #} at the start or after a space, outside quotes.
+     */
+    private static String stripComment(String text, int from) {
+        char quote = 0;
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == '\\' && quote == '"') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '#' && (i == from || text.charAt(i - 1) == ' ')) {
+                return text.substring(from, i);
+            } else if ((c == '"' || c == '\'') && (i == from || text.charAt(i - 1) == ' ')) {
+                quote = c;
+            }
+        }
+        return text.substring(from);
+    }
+
+    private ConfigImportException error(String message) {
+        return new ConfigImportException(message, line);
+    }
+}
@@ -0,0 +1,175 @@
+package com.environment.manager.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves {@code ${key}} references between an environment's configuration values.
+ *
+ * <p>Each value is parsed into a {@link ConfigTemplate} once, when it is put. The engine keeps
+ * the reverse edges of the dependency graph (for every key, the keys whose values reference
+ * it, whether or not it exists yet) and memoizes resolved values. Changing a key drops the
+ * memoized values of that key and its transitive dependents only, so the next resolution
+ * costs in proportion to the affected part of the graph. References to unknown keys are
+ * left as written; circular references fail with the cycle in the message.
+ *
+ * <p>Resolution fills the memo, so all methods synchronize on the engine.
+ */
+final class ConfigInterpolator {
+
+    private final Map<String, ConfigTemplate> templates = new HashMap<>();
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+    private final Map<String, String> resolved = new HashMap<>();
+    // Fixed values referenced like keys, such as env.baseUrl; items of the same key take precedence
+    private final Map<String, String> builtIns;
+
+    ConfigInterpolator(Map<String, String> builtIns) {
+        this.builtIns = Map.copyOf(builtIns);
+    }
+
+    synchronized void put(String key, String value) {
+        ConfigTemplate template = ConfigTemplate.parse(value);
+        unlink(key, templates.put(key, template));
+        for (String reference : template.references()) {
+            dependents.computeIfAbsent(reference, k -> new HashSet<>()).add(key);
+        }
+        invalidate(key);
+    }
+
+    synchronized void remove(String key) {
+        ConfigTemplate previous = templates.remove(key);
+        if (previous != null) {
+            unlink(key, previous);
+            invalidate(key);
+        }
+    }
+
+    private void unlink(String key, ConfigTemplate previous) {
+        if (previous == null) {
+            return;
+        }
+        for (String reference : previous.references()) {
+            Set<String> keys = dependents.get(reference);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                dependents.remove(reference);
+            }
+        }
+    }
+
+    /**
+     * Drops the memoized values of the key and everything that depends on it. A memoized
+     * value implies its dependencies are memoized too, so the walk stops at values that are not.
+     */
+    private void invalidate(String key) {
+        resolved.remove(key);
+        Deque<String> pending = new ArrayDeque<>(dependents.getOrDefault(key, Set.of()));
+        while (!pending.isEmpty()) {
+            String dependent = pending.pop();
+            if (resolved.remove(dependent) != null) {
+                pending.addAll(dependents.getOrDefault(dependent, Set.of()));
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the key with every reference resolved, or null if there is no such key.
+     *
+     * @throws IllegalStateException if the value depends on itself
+     */
+    synchronized String resolve(String key) {
+        if (!templates.containsKey(key)) {
+            return builtIns.get(key);
+        }
+        String value = resolved.get(key);
+        if (value != null) {
+            return value;
+        }
+        // Depth-first over unresolved dependencies without recursion, so long chains are fine;
+        // the stack holds the current path, which makes a repeated key a cycle
+        Deque<Frame> path = new ArrayDeque<>();
+        Set<String> onPath = new HashSet<>();
+        path.push(new Frame(key, templates.get(key)));
+        onPath.add(key);
+        while (!path.isEmpty()) {
+            Frame frame = path.peek();
+            String next = frame.nextUnresolved();
+            if (next == null) {
+                resolved.put(frame.key, frame.template.render(this::lookup));
+                onPath.remove(frame.key);
+                path.pop();
+            } else if (!onPath.add(next)) {
+                throw new IllegalStateException("Circular configuration reference: " + describeCycle(path, next));
+            } else {
+                path.push(new Frame(next, templates.get(next)));
+            }
+        }
+        return resolved.get(key);
+    }
+
+    /**
+     * Renders a template against the configuration, e.g. {@code ${env.baseUrl}/api/v1}.
+     */
+    synchronized String interpolate(String template) {
+        ConfigTemplate parsed = ConfigTemplate.parse(template);
+        for (String reference : parsed.references()) {
+            resolve(reference);
+        }
+        return parsed.render(this::lookup);
+    }
+
+    private String lookup(String key) {
+        return templates.containsKey(key) ? resolved.get(key) : builtIns.get(key);
+    }
+
+    private static String describeCycle(Deque<Frame> path, String repeated) {
+        List<String> cycle = new ArrayList<>();
+        for (Frame frame : path) {
+            cycle.add(0, frame.key);
+            if (frame.key.equals(repeated)) {
+                break;
+            }
+        }
+        cycle.add(repeated);
+        return String.join(" -> ", cycle);
+    }
+
+    /**
+     * Number of memoized values, for tests.
+     */
+    synchronized int resolvedCount() {
+        return resolved.size();
+    }
+
+    private final class Frame {
+        final String key;
+        final ConfigTemplate template;
+        final List<String> references;
+        int index;
+
+        Frame(String key, ConfigTemplate template) {
+            this.key = key;
+            this.template = template;
+            this.references = template.references();
+        }
+
+        /**
+         * Returns the next referenced item whose value is not memoized yet, or null.
+         */
+        String nextUnresolved() {
+            while (index < references.size()) {
+                String reference = references.get(index++);
+                if (templates.containsKey(reference) && !resolved.containsKey(reference)) {
+                    return reference;
+                }
+            }
+            return null;
+        }
+    }
+}
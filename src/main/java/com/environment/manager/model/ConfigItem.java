@@ -1,8 +1,21 @@
 package com.environment.manager.model;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
+/**
+ * A configuration value with its metadata.
+ *
+ * <p>Values are parsed once, on construction: feature flags must be {@code true} or
+ * {@code false} and numeric items an integer, optionally with a duration unit
+ * ({@code ms}, {@code s}, {@code m}, {@code h}, {@code d}). Items of other types are parsed
+ * opportunistically. {@link #getBoolean()}, {@link #getLong()} and {@link #getDuration()}
+ * then read the parsed value without boxing or allocating.
+ */
 public class ConfigItem {
+    /** Shown in place of the value of encrypted items. */
+    public static final String MASKED_VALUE = "***ENCRYPTED***";
+
     private final String key;
     private final String value;
     private final String description;
@@ -11,6 +24,14 @@ public class ConfigItem {
     private final String modifiedBy;
     private final boolean encrypted;
 
+    // Parsed forms of value; a duration without a number means the value had a unit
+    private final boolean hasBoolean;
+    private final boolean booleanValue;
+    private final boolean hasLong;
+    private final long longValue;
+    private final Duration durationValue;
+    private final long contentHash;
+
     public ConfigItem(String key, String value, String description, ConfigType type,
                       LocalDateTime lastModified, String modifiedBy, boolean encrypted) {
         this.key = key;
@@ -20,6 +41,20 @@ public class ConfigItem {
         this.lastModified = lastModified;
         this.modifiedBy = modifiedBy;
         this.encrypted = encrypted;
+
+        this.hasBoolean = "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value);
+        this.booleanValue = hasBoolean && value.length() == 4;
+        this.durationValue = parseDuration(value);
+        this.hasLong = durationValue != null && isInteger(value);
+        this.longValue = hasLong ? Long.parseLong(value) : 0L;
+        this.contentHash = ContentFingerprint.config(this);
+
+        if (type == ConfigType.FEATURE_FLAG && !hasBoolean) {
+            throw new IllegalArgumentException("Feature flag '" + key + "' must be true or false: " + value);
+        }
+        if (type == ConfigType.NUMERIC && durationValue == null) {
+            throw new IllegalArgumentException("Numeric config '" + key + "' must be a number: " + value);
+        }
     }
 
     // Static factory methods
@@ -28,6 +63,11 @@ public class ConfigItem {
                 LocalDateTime.now(), modifiedBy, false);
     }
 
+    public static ConfigItem numeric(String key, long value, String description, String modifiedBy) {
+        return new ConfigItem(key, String.valueOf(value), description, ConfigType.NUMERIC,
+                LocalDateTime.now(), modifiedBy, false);
+    }
+
     public static ConfigItem apiConfig(String key, String value, String description, String modifiedBy) {
         return new ConfigItem(key, value, description, ConfigType.API_CONFIG,
                 LocalDateTime.now(), modifiedBy, false);
@@ -57,10 +97,123 @@ public class ConfigItem {
     public String getModifiedBy() { return modifiedBy; }
     public boolean isEncrypted() { return encrypted; }
 
+    /**
+     * Returns the value, or {@link #MASKED_VALUE} if the item is encrypted.
+     */
+    public String getDisplayValue() {
+        return encrypted ? MASKED_VALUE : value;
+    }
+
+    /**
+     * Returns a 64-bit hash of the key, value, type and encryption flag; items that differ
+     * in any of these have different hashes with overwhelming probability.
+     */
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Returns the value as a boolean.
+     *
+     * @throws IllegalStateException if the value is not {@code true} or {@code false}
+     */
+    public boolean getBoolean() {
+        if (!hasBoolean) {
+            throw notA("boolean");
+        }
+        return booleanValue;
+    }
+
+    public boolean getBoolean(boolean defaultValue) {
+        return hasBoolean ? booleanValue : defaultValue;
+    }
+
+    /**
+     * Returns the value as an integer.
+     *
+     * @throws IllegalStateException if the value is not an integer without a unit
+     */
+    public long getLong() {
+        if (!hasLong) {
+            throw notA("number");
+        }
+        return longValue;
+    }
+
+    public long getLong(long defaultValue) {
+        return hasLong ? longValue : defaultValue;
+    }
+
+    /**
+     * Returns the value as a duration; an integer without a unit is taken as seconds.
+     *
+     * @throws IllegalStateException if the value is not a duration
+     */
+    public Duration getDuration() {
+        if (durationValue == null) {
+            throw notA("duration");
+        }
+        return durationValue;
+    }
+
+    public boolean isBoolean() { return hasBoolean; }
+    public boolean isNumber() { return hasLong; }
+
+    /**
+     * Returns whether the value would be accepted for a {@code NUMERIC} item.
+     */
+    public static boolean isNumericValue(String value) {
+        return parseDuration(value) != null;
+    }
+
+    private IllegalStateException notA(String kind) {
+        return new IllegalStateException("Config '" + key + "' is not a " + kind + ": " + value);
+    }
+
+    private static boolean isInteger(String value) {
+        int start = value.startsWith("-") ? 1 : 0;
+        return value.length() > start && digitsEnd(value, start) == value.length();
+    }
+
+    private static int digitsEnd(String value, int start) {
+        int p = start;
+        while (p < value.length() && value.charAt(p) >= '0' && value.charAt(p) <= '9') {
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * Parses an integer with an optional unit, or returns null if the value is not one.
+     */
+    private static Duration parseDuration(String value) {
+        if (value == null) {
+            return null;
+        }
+        int start = value.startsWith("-") ? 1 : 0;
+        int end = digitsEnd(value, start);
+        // Up to 18 digits always fits in a long
+        if (end == start || end - start > 18) {
+            return null;
+        }
+        long amount = Long.parseLong(value, 0, end, 10);
+        try {
+            return switch (value.substring(end)) {
+                case "", "s" -> Duration.ofSeconds(amount);
+                case "ms" -> Duration.ofMillis(amount);
+                case "m" -> Duration.ofMinutes(amount);
+                case "h" -> Duration.ofHours(amount);
+                case "d" -> Duration.ofDays(amount);
+                default -> null;
+            };
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
     @Override
     public String toString() {
-        return String.format("%s=%s [%s] - %s", key,
-                encrypted ? "***ENCRYPTED***" : value,
+        return String.format("%s=%s [%s] - %s", key, getDisplayValue(),
                 type.getDisplayName(), description);
     }
 }
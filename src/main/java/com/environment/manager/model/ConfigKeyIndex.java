@@ -0,0 +1,96 @@
+package com.environment.manager.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Secondary indexes over an environment's configuration items: the items sorted by key, for
+ * prefix and namespace queries in O(log n + k), and the items grouped by {@link ConfigType}.
+ * Queries return copies, so callers never see later changes.
+ *
+ * <p>All access is synchronized on the index: readers may query it while the environment
+ * applies a change, and the sorted maps are not safe to iterate during an update.
+ */
+final class ConfigKeyIndex {
+
+    private final NavigableMap<String, ConfigItem> byKey = new TreeMap<>();
+    private final Map<ConfigType, NavigableMap<String, ConfigItem>> byType = new EnumMap<>(ConfigType.class);
+
+    synchronized void put(ConfigItem item) {
+        ConfigItem previous = byKey.put(item.getKey(), item);
+        if (previous != null && previous.getType() != null) {
+            byType.get(previous.getType()).remove(previous.getKey());
+        }
+        if (item.getType() != null) {
+            byType.computeIfAbsent(item.getType(), type -> new TreeMap<>()).put(item.getKey(), item);
+        }
+    }
+
+    synchronized void remove(String key) {
+        ConfigItem previous = byKey.remove(key);
+        if (previous != null && previous.getType() != null) {
+            byType.get(previous.getType()).remove(key);
+        }
+    }
+
+    /**
+     * Returns the items of the type in key order.
+     */
+    synchronized List<ConfigItem> byType(ConfigType type) {
+        NavigableMap<String, ConfigItem> items = type == null ? null : byType.get(type);
+        return items == null ? new ArrayList<>() : new ArrayList<>(items.values());
+    }
+
+    /**
+     * Returns the items whose keys start with the prefix, in key order.
+     */
+    synchronized SortedMap<String, ConfigItem> withPrefix(String prefix) {
+        SortedMap<String, ConfigItem> result = new TreeMap<>();
+        for (Map.Entry<String, ConfigItem> entry : byKey.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableSortedMap(result);
+    }
+
+    /**
+     * Returns the items of a namespace keyed by the rest of their key, so {@code db.url}
+     * is {@code url} in namespace {@code db}.
+     */
+    synchronized SortedMap<String, ConfigItem> namespace(String namespace) {
+        String prefix = namespace + ".";
+        SortedMap<String, ConfigItem> result = new TreeMap<>();
+        withPrefix(prefix).forEach((key, item) -> result.put(key.substring(prefix.length()), item));
+        return Collections.unmodifiableSortedMap(result);
+    }
+
+    /**
+     * Returns the first segments of all dotted keys, visiting one key per namespace.
+     */
+    synchronized SortedSet<String> namespaces() {
+        SortedSet<String> namespaces = new TreeSet<>();
+        String key = byKey.isEmpty() ? null : byKey.firstKey();
+        while (key != null) {
+            int dot = key.indexOf('.');
+            if (dot < 0) {
+                key = byKey.higherKey(key);
+            } else {
+                String namespace = key.substring(0, dot);
+                namespaces.add(namespace);
+                // '/' follows '.', so this skips every key of the namespace
+                key = byKey.ceilingKey(namespace + "/");
+            }
+        }
+        return Collections.unmodifiableSortedSet(namespaces);
+    }
+}
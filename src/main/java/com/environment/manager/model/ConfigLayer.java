@@ -0,0 +1,229 @@
+package com.environment.manager.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A named layer of configuration items that inherits from an optional parent layer, for
+ * example global defaults, then one layer per environment tier. Environments inherit from
+ * a layer through {@link Environment#inheritConfiguration(ConfigLayer)} and override it
+ * with their own items.
+ *
+ * <p>The resolved view of a layer, its own items over everything it inherits, is built once
+ * and cached. A cached view remembers the parent view and the own items it was built from,
+ * so it is rebuilt exactly when the layer itself or one of its ancestors has changed. A view
+ * overlays the layer's own items on the parent's view instead of copying it: reading a key
+ * looks at the own items first, then at the parent's view. A layer without items of its own
+ * shares its parent's view, and items are never copied, only referenced.
+ */
+public final class ConfigLayer {
+
+    private final String name;
+    private final ConfigLayer parent;
+    private final Map<String, ConfigItem> items = new HashMap<>();
+    private volatile Resolved resolved;
+
+    public ConfigLayer(String name) {
+        this(name, null);
+    }
+
+    public ConfigLayer(String name, ConfigLayer parent) {
+        this.name = Objects.requireNonNull(name, "Layer name cannot be null");
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a layer inheriting from this one.
+     */
+    public ConfigLayer child(String name) {
+        return new ConfigLayer(name, this);
+    }
+
+    public synchronized void put(ConfigItem item) {
+        items.put(item.getKey(), item);
+        resolved = null;
+    }
+
+    public synchronized void putAll(Collection<ConfigItem> newItems) {
+        for (ConfigItem item : newItems) {
+            items.put(item.getKey(), item);
+        }
+        resolved = null;
+    }
+
+    public synchronized boolean remove(String key) {
+        if (items.remove(key) == null) {
+            return false;
+        }
+        resolved = null;
+        return true;
+    }
+
+    /**
+     * Returns the item for the key from this layer or the nearest ancestor defining it.
+     */
+    public ConfigItem get(String key) {
+        return resolve().get(key);
+    }
+
+    /**
+     * Returns the items defined in this layer itself, without inherited ones.
+     */
+    public synchronized Map<String, ConfigItem> getOwnItems() {
+        return Map.copyOf(items);
+    }
+
+    /**
+     * Returns the immutable resolved view of this layer and its ancestors.
+     */
+    public Map<String, ConfigItem> resolve() {
+        return resolved().items();
+    }
+
+    Resolved resolved() {
+        Resolved base = parent == null ? null : parent.resolved();
+        Resolved current = resolved;
+        if (current == null || current.base() != base) {
+            synchronized (this) {
+                current = Resolved.of(base, Map.copyOf(items));
+                resolved = current;
+            }
+        }
+        return current;
+    }
+
+    public String getName() { return name; }
+    public ConfigLayer getParent() { return parent; }
+
+    @Override
+    public String toString() {
+        return parent == null ? name : parent + " > " + name;
+    }
+
+    /**
+     * A resolved view together with the parent view and the own items it was built from.
+     */
+    record Resolved(Resolved base, Map<String, ConfigItem> own, Map<String, ConfigItem> items) {
+
+        /**
+         * Resolves immutable own items over a parent view, which may be null.
+         */
+        static Resolved of(Resolved base, Map<String, ConfigItem> own) {
+            if (base == null) {
+                return new Resolved(null, own, own);
+            }
+            if (own.isEmpty()) {
+                return new Resolved(base, own, base.items());
+            }
+            return new Resolved(base, own, new Overlay(own, base.items()));
+        }
+    }
+
+    /**
+     * An immutable map of own items over an inherited view; neither is copied.
+     */
+    private static final class Overlay extends AbstractMap<String, ConfigItem> {
+
+        private final Map<String, ConfigItem> own;
+        private final Map<String, ConfigItem> inherited;
+        private final int size;
+
+        Overlay(Map<String, ConfigItem> own, Map<String, ConfigItem> inherited) {
+            this.own = own;
+            this.inherited = inherited;
+            int overridden = 0;
+            for (String key : own.keySet()) {
+                if (inherited.containsKey(key)) {
+                    overridden++;
+                }
+            }
+            this.size = own.size() + inherited.size() - overridden;
+        }
+
+        @Override
+        public ConfigItem get(Object key) {
+            ConfigItem item = own.get(key);
+            return item != null ? item : inherited.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return own.containsKey(key) || inherited.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Map.Entry<String, ConfigItem>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String, ConfigItem>> iterator() {
+                    return new OverlayIterator(own, inherited);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+
+    /**
+     * Iterates the own items, then the inherited items they do not override.
+     */
+    private static final class OverlayIterator implements Iterator<Map.Entry<String, ConfigItem>> {
+
+        private final Map<String, ConfigItem> own;
+        private final Iterator<Map.Entry<String, ConfigItem>> owned;
+        private final Iterator<Map.Entry<String, ConfigItem>> inherited;
+        private Map.Entry<String, ConfigItem> next;
+
+        OverlayIterator(Map<String, ConfigItem> own, Map<String, ConfigItem> inherited) {
+            this.own = own;
+            this.owned = own.entrySet().iterator();
+            this.inherited = inherited.entrySet().iterator();
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            if (owned.hasNext()) {
+                next = owned.next();
+                return;
+            }
+            while (inherited.hasNext()) {
+                Map.Entry<String, ConfigItem> candidate = inherited.next();
+                if (!own.containsKey(candidate.getKey())) {
+                    next = candidate;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, ConfigItem> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<String, ConfigItem> current = next;
+            advance();
+            return current;
+        }
+    }
+}
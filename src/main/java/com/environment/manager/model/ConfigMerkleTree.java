@@ -0,0 +1,168 @@
+package com.environment.manager.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A two-level hash tree over a configuration: items are grouped into buckets by key prefix
+ * ({@code db.}, {@code security.}, ...; keys without a dot share the {@code ""} bucket),
+ * each bucket hashes the content hashes of its items, and the root hashes the buckets.
+ *
+ * <p>The tree is immutable and persistent: adding or removing an item returns a new tree
+ * sharing everything but the touched bucket, in O(log n). Two trees with equal root hashes
+ * hold the same configuration with overwhelming probability; otherwise only the buckets
+ * whose hashes differ need to be compared key by key.
+ */
+public final class ConfigMerkleTree {
+
+    private static final ConfigMerkleTree EMPTY = new ConfigMerkleTree(PersistentHashMap.empty(), 0L);
+    private static final long BUCKET = 0x9216D5D98979FB1BL;
+
+    /**
+     * The items sharing a key prefix and the XOR of their content hashes. Buckets are equal
+     * when their prefixes and hashes are, without comparing the items themselves.
+     */
+    public record Bucket(String prefix, long hash, PersistentHashMap<String, ConfigItem> items) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Bucket other && prefix.equals(other.prefix) && hash == other.hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return prefix.hashCode() * 31 + Long.hashCode(hash);
+        }
+    }
+
+    private final PersistentHashMap<String, Bucket> buckets;
+    private final long rootHash;
+
+    private ConfigMerkleTree(PersistentHashMap<String, Bucket> buckets, long rootHash) {
+        this.buckets = buckets;
+        this.rootHash = rootHash;
+    }
+
+    public static ConfigMerkleTree empty() {
+        return EMPTY;
+    }
+
+    public static ConfigMerkleTree of(Map<String, ConfigItem> configurations) {
+        ConfigMerkleTree tree = EMPTY;
+        for (ConfigItem item : configurations.values()) {
+            tree = tree.with(item);
+        }
+        return tree;
+    }
+
+    /**
+     * Returns the bucket prefix of a key: everything up to and including its first dot.
+     */
+    public static String prefixOf(String key) {
+        int dot = key.indexOf('.');
+        return dot < 0 ? "" : key.substring(0, dot + 1);
+    }
+
+    public ConfigMerkleTree with(ConfigItem item) {
+        String prefix = prefixOf(item.getKey());
+        Bucket bucket = buckets.get(prefix);
+        if (bucket == null) {
+            bucket = new Bucket(prefix, 0L, PersistentHashMap.empty());
+        }
+        ConfigItem previous = bucket.items().get(item.getKey());
+        if (previous == item) {
+            return this;
+        }
+        long hash = bucket.hash() ^ item.getContentHash() ^ (previous == null ? 0L : previous.getContentHash());
+        return replace(bucket, new Bucket(prefix, hash, bucket.items().with(item.getKey(), item)));
+    }
+
+    public ConfigMerkleTree without(String key) {
+        String prefix = prefixOf(key);
+        Bucket bucket = buckets.get(prefix);
+        ConfigItem previous = bucket == null ? null : bucket.items().get(key);
+        if (previous == null) {
+            return this;
+        }
+        PersistentHashMap<String, ConfigItem> items = bucket.items().without(key);
+        return replace(bucket, items.isEmpty() ? null
+                : new Bucket(prefix, bucket.hash() ^ previous.getContentHash(), items));
+    }
+
+    private ConfigMerkleTree replace(Bucket bucket, Bucket updated) {
+        long root = rootHash;
+        if (!bucket.items().isEmpty()) {
+            root ^= contribution(bucket);
+        }
+        if (updated == null) {
+            return new ConfigMerkleTree(buckets.without(bucket.prefix()), root);
+        }
+        return new ConfigMerkleTree(buckets.with(updated.prefix(), updated), root ^ contribution(updated));
+    }
+
+    private static long contribution(Bucket bucket) {
+        return ContentFingerprint.mix(BUCKET ^ ContentFingerprint.hash(bucket.prefix()) ^ bucket.hash());
+    }
+
+    public long getRootHash() {
+        return rootHash;
+    }
+
+    /**
+     * Returns the hash of the bucket, or 0 if no key has the prefix.
+     */
+    public long getBucketHash(String prefix) {
+        Bucket bucket = buckets.get(prefix);
+        return bucket == null ? 0L : bucket.hash();
+    }
+
+    public Set<String> getPrefixes() {
+        return new TreeSet<>(buckets.keySet());
+    }
+
+    /**
+     * Returns the prefixes whose buckets differ between the two trees, in sorted order.
+     */
+    public List<String> differingBuckets(ConfigMerkleTree other) {
+        Set<String> differing = new TreeSet<>();
+        if (rootHash != other.rootHash) {
+            buckets.diff(other.buckets, (prefix, mine, theirs) -> {
+                if (mine == null || theirs == null || mine.hash() != theirs.hash()) {
+                    differing.add(prefix);
+                }
+            });
+        }
+        return new ArrayList<>(differing);
+    }
+
+    /**
+     * Returns the keys that are added, removed or changed in the other tree, in sorted order,
+     * comparing item by item only inside buckets whose hashes differ.
+     */
+    public List<String> differingKeys(ConfigMerkleTree other) {
+        Set<String> differing = new TreeSet<>();
+        for (String prefix : differingBuckets(other)) {
+            Bucket mine = buckets.get(prefix);
+            Bucket theirs = other.buckets.get(prefix);
+            PersistentHashMap<String, ConfigItem> myItems = mine == null ? PersistentHashMap.empty() : mine.items();
+            PersistentHashMap<String, ConfigItem> theirItems = theirs == null ? PersistentHashMap.empty() : theirs.items();
+            myItems.diff(theirItems, (key, a, b) -> {
+                if (a == null || b == null || a.getContentHash() != b.getContentHash()) {
+                    differing.add(key);
+                }
+            });
+        }
+        return new ArrayList<>(differing);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Bucket bucket : buckets.values()) {
+            size += bucket.items().size();
+        }
+        return size;
+    }
+}
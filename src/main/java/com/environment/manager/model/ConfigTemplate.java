@@ -0,0 +1,87 @@
+package com.environment.manager.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A configuration value parsed into literal text and {@code ${key}} references. {@code $${}
+ * stands for a literal {@code ${}, and a {@code ${} without a closing brace is literal text.
+ */
+final class ConfigTemplate {
+
+    // literals.length == references.length + 1; reference i sits between literals i and i + 1
+    private final String[] literals;
+    private final String[] references;
+    // Each referenced key once, in order of first reference
+    private final List<String> distinctReferences;
+
+    private ConfigTemplate(String[] literals, String[] references) {
+        this.literals = literals;
+        this.references = references;
+        this.distinctReferences = List.copyOf(new LinkedHashSet<>(List.of(references)));
+    }
+
+    static ConfigTemplate parse(String value) {
+        if (value.indexOf("${") < 0) {
+            return new ConfigTemplate(new String[]{value}, new String[0]);
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> references = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < value.length()) {
+            int start = value.indexOf("${", i);
+            int end = start < 0 ? -1 : value.indexOf('}', start + 2);
+            if (start < 0 || end < 0) {
+                literal.append(value, i, value.length());
+                break;
+            }
+            if (start > 0 && value.charAt(start - 1) == '$') {
+                // $${ is an escaped ${
+                literal.append(value, i, start - 1).append("${");
+                i = start + 2;
+                continue;
+            }
+            literal.append(value, i, start);
+            if (end == start + 2) {
+                literal.append("${}");
+            } else {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                references.add(value.substring(start + 2, end));
+            }
+            i = end + 1;
+        }
+        literals.add(literal.toString());
+        return new ConfigTemplate(literals.toArray(new String[0]), references.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the referenced keys, each once even if the value refers to it repeatedly.
+     */
+    List<String> references() {
+        return distinctReferences;
+    }
+
+    /**
+     * Renders the template, keeping {@code ${key}} as written where the lookup returns null.
+     */
+    String render(Function<String, String> lookup) {
+        if (references.length == 0) {
+            return literals[0];
+        }
+        StringBuilder result = new StringBuilder(literals[0]);
+        for (int i = 0; i < references.length; i++) {
+            String value = lookup.apply(references[i]);
+            if (value == null) {
+                result.append("${").append(references[i]).append('}');
+            } else {
+                result.append(value);
+            }
+            result.append(literals[i + 1]);
+        }
+        return result.toString();
+    }
+}
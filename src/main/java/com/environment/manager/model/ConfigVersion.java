@@ -0,0 +1,10 @@
+package com.environment.manager.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * An immutable snapshot of an environment's configuration items, numbered in the order
+ * the changes were made. Snapshots share structure, so keeping many of them is cheap.
+ */
+public record ConfigVersion(long version, LocalDateTime createdAt, PersistentHashMap<String, ConfigItem> items) {
+}
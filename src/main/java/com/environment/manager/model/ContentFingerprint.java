@@ -0,0 +1,70 @@
+package com.environment.manager.model;
+
+/**
+ * 64-bit hashing helpers for {@link Environment#getContentFingerprint()}.
+ *
+ * <p>Set members (services, configurations) are combined with XOR so a member can be
+ * added or removed in constant time; scalar fields are salted with a per-field seed
+ * before being combined, so swapping two field values changes the fingerprint.
+ */
+final class ContentFingerprint {
+    static final long ID = 0x243F6A8885A308D3L;
+    static final long NAME = 0x13198A2E03707344L;
+    static final long TYPE = 0xA4093822299F31D0L;
+    static final long BASE_URL = 0x082EFA98EC4E6C89L;
+    static final long DATABASE_URL = 0x452821E638D01377L;
+    static final long API_ENDPOINT = 0xBE5466CF34E90C6CL;
+    private static final long SERVICE = 0xC0AC29B7C97C50DDL;
+    private static final long CONFIG = 0x3F84D5B5B5470917L;
+
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private ContentFingerprint() {
+        // Utility class - prevent instantiation
+    }
+
+    static long field(long seed, String value) {
+        return mix(seed ^ hash(value));
+    }
+
+    static long service(Service service) {
+        long h = hash(service.getId());
+        h = h * 31 + hash(service.getName());
+        h = h * 31 + hash(service.getVersion());
+        h = h * 31 + (service.getType() == null ? 0 : service.getType().ordinal() + 1);
+        return mix(SERVICE ^ h);
+    }
+
+    static long config(ConfigItem config) {
+        long h = hash(config.getKey());
+        h = h * 31 + hash(config.getValue());
+        h = h * 31 + (config.getType() == null ? 0 : config.getType().ordinal() + 1);
+        h = h * 31 + (config.isEncrypted() ? 1 : 0);
+        return mix(CONFIG ^ h);
+    }
+
+    /**
+     * FNV-1a over the UTF-16 code units; null and empty hash differently.
+     */
+    static long hash(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long h = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * SplitMix64 finalizer, spreading every input bit over the whole result.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,9 +1,19 @@
 package com.environment.manager.model;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.UUID;
 
 public class DeploymentHistory {
+    /**
+     * Orders deployments by semantic version, then by time. Deployments of versions that are
+     * not semantic versions come first.
+     */
+    public static final Comparator<DeploymentHistory> BY_VERSION = Comparator
+            .comparing((DeploymentHistory history) -> SemVer.tryParse(history.getVersion()).orElse(null),
+                    Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(DeploymentHistory::getDeployedAt);
+
     private final String deploymentId;
     private final String environmentName;
     private final String version;
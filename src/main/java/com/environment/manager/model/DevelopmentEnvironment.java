@@ -1,6 +1,7 @@
 package com.environment.manager.model;
 
-import java.util.ArrayList;
+import com.environment.manager.validator.StandardRules;
+
 import java.util.List;
 
 public class DevelopmentEnvironment extends Environment {
@@ -21,21 +22,7 @@ public class DevelopmentEnvironment extends Environment {
 
     @Override
     public List<String> validate() {
-        List<String> issues = new ArrayList<>();
-
-        if (getBaseUrl().startsWith("https://")) {
-            issues.add("Dev environment should use HTTP, not HTTPS");
-        }
-
-        if (!getDatabaseUrl().contains("localhost")) {
-            issues.add("Dev database should be on localhost");
-        }
-
-        if (getConfigurationsByType(ConfigType.FEATURE_FLAG).size() < 2) {
-            issues.add("Dev environment should have at least 2 feature flags");
-        }
-
-        return issues;
+        return StandardRules.environmentPolicyEngine().evaluate(this);
     }
 
     @Override
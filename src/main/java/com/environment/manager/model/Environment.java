@@ -2,9 +2,12 @@ package com.environment.manager.model;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public abstract class Environment {
+    /** Number of configuration versions kept for audit and rollback. */
+    public static final int MAX_CONFIG_VERSIONS = 256;
+
     private final String id;
     private final String name;
     private final EnvironmentType type;
@@ -12,8 +15,17 @@ public abstract class Environment {
     private final LocalDateTime createdAt;
 
     protected final Set<Service> services;
-    protected final Map<String, ConfigItem> configurations;
+    // Replaced, never mutated, so every version handed out stays valid
+    protected volatile PersistentHashMap<String, ConfigItem> configurations;
+    // Key-to-value view of configurations, maintained alongside it; see getConfigMap()
+    private volatile PersistentHashMap<String, String> configValues = PersistentHashMap.empty();
+    private volatile ConfigMerkleTree configTree = ConfigMerkleTree.empty();
+    private final ConfigKeyIndex configIndex = new ConfigKeyIndex();
+    private final ConfigInterpolator interpolator;
+    private final Deque<ConfigVersion> configHistory = new ArrayDeque<>();
+    private long configVersion;
     protected final List<DeploymentHistory> deploymentHistory;
+    private final List<EnvironmentChangeListener> changeListeners = new CopyOnWriteArrayList<>();
 
     protected String currentVersion;
     protected DeploymentStatus status;
@@ -21,20 +33,36 @@ public abstract class Environment {
     protected String databaseUrl;
     protected String apiEndpoint;
 
+    // Incrementally maintained hash of the validated content; see getContentFingerprint()
+    private long contentFingerprint;
+    private volatile CachedValidation cachedValidation;
+    // Inherited configuration layer and the cached view of it overridden by our own items
+    private volatile ConfigLayer configParent;
+    private volatile ConfigLayer.Resolved effectiveConfig;
+
     protected Environment(String id, String name, EnvironmentType type, String baseUrl) {
         this.id = Objects.requireNonNull(id, "Environment ID cannot be null");
         this.name = Objects.requireNonNull(name, "Environment name cannot be null");
         this.type = Objects.requireNonNull(type, "Environment type cannot be null");
         this.baseUrl = Objects.requireNonNull(baseUrl, "Base URL cannot be null");
         this.createdAt = LocalDateTime.now();
+        this.interpolator = new ConfigInterpolator(Map.of(
+                "env.id", id, "env.name", name, "env.type", type.getCode(), "env.baseUrl", baseUrl));
 
         this.services = new HashSet<>();
-        this.configurations = new HashMap<>();
+        this.configurations = PersistentHashMap.empty();
         this.deploymentHistory = new ArrayList<>();
 
         this.currentVersion = "1.0.0";
         this.status = DeploymentStatus.PENDING;
         this.isActive = false;
+
+        this.contentFingerprint = ContentFingerprint.field(ContentFingerprint.ID, id)
+                ^ ContentFingerprint.field(ContentFingerprint.NAME, name)
+                ^ ContentFingerprint.field(ContentFingerprint.TYPE, type.name())
+                ^ ContentFingerprint.field(ContentFingerprint.BASE_URL, baseUrl)
+                ^ ContentFingerprint.field(ContentFingerprint.DATABASE_URL, null)
+                ^ ContentFingerprint.field(ContentFingerprint.API_ENDPOINT, null);
     }
 
     // Template Method Pattern - subclasses define validation rules
@@ -45,25 +73,220 @@ public abstract class Environment {
         return type.requiresApproval();
     }
 
+    /**
+     * Returns the result of {@link #validate()}, recomputing it only when the content
+     * fingerprint has changed since the last call.
+     */
+    public List<String> getValidationIssues() {
+        long fingerprint = contentFingerprint;
+        CachedValidation cached = cachedValidation;
+        if (cached == null || cached.fingerprint() != fingerprint) {
+            cached = new CachedValidation(fingerprint, List.copyOf(validate()));
+            cachedValidation = cached;
+        }
+        return cached.issues();
+    }
+
+    /**
+     * Returns a 64-bit hash of everything validation looks at: identity, URLs, services and
+     * configuration items. It is updated in constant time on every mutation, so equal values
+     * mean the content is (with overwhelming probability) unchanged. Runtime state such as
+     * status, active flag, current version and deployment history is not part of it.
+     */
+    public long getContentFingerprint() {
+        return contentFingerprint;
+    }
+
+    // Change listeners are notified after every in-place mutation
+    public void addChangeListener(EnvironmentChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(EnvironmentChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    protected void fireChange(EnvironmentChangeType type, Object payload) {
+        for (EnvironmentChangeListener listener : changeListeners) {
+            listener.onChange(this, type, payload);
+        }
+    }
+
     // Common methods for all environments
     public void addService(Service service) {
-        services.add(service);
+        if (services.add(service)) {
+            contentFingerprint ^= ContentFingerprint.service(service);
+            fireChange(EnvironmentChangeType.SERVICE_ADDED, service);
+        }
     }
 
     public void removeService(String serviceId) {
-        services.removeIf(service -> service.getId().equals(serviceId));
+        boolean removed = false;
+        for (Iterator<Service> iterator = services.iterator(); iterator.hasNext(); ) {
+            Service service = iterator.next();
+            if (service.getId().equals(serviceId)) {
+                iterator.remove();
+                contentFingerprint ^= ContentFingerprint.service(service);
+                removed = true;
+            }
+        }
+        if (removed) {
+            fireChange(EnvironmentChangeType.SERVICE_REMOVED, serviceId);
+        }
     }
 
     public void addConfiguration(ConfigItem config) {
-        configurations.put(config.getKey(), config);
+        ConfigItem previous = configurations.get(config.getKey());
+        if (previous != null) {
+            contentFingerprint ^= previous.getContentHash();
+        }
+        contentFingerprint ^= config.getContentHash();
+        commitConfigurations(configurations.with(config.getKey(), config));
+        updateDerivedViews(config.getKey(), config);
+        fireChange(EnvironmentChangeType.CONFIG_PUT, config);
+    }
+
+    /**
+     * Adds or replaces several items as a single configuration version. Listeners are still
+     * notified once per item, after all of them have been applied.
+     */
+    public void addConfigurations(Collection<ConfigItem> configs) {
+        if (configs.isEmpty()) {
+            return;
+        }
+        PersistentHashMap<String, ConfigItem> updated = configurations;
+        for (ConfigItem config : configs) {
+            ConfigItem previous = updated.get(config.getKey());
+            if (previous != null) {
+                contentFingerprint ^= previous.getContentHash();
+            }
+            contentFingerprint ^= config.getContentHash();
+            updated = updated.with(config.getKey(), config);
+            updateDerivedViews(config.getKey(), config);
+        }
+        commitConfigurations(updated);
+        for (ConfigItem config : configs) {
+            fireChange(EnvironmentChangeType.CONFIG_PUT, config);
+        }
     }
 
     public ConfigItem getConfiguration(String key) {
         return configurations.get(key);
     }
 
+    /**
+     * Inherits configuration items from a layer, typically the layer of this environment's
+     * tier; items of the environment itself take precedence. Pass null to stop inheriting.
+     */
+    public void inheritConfiguration(ConfigLayer parent) {
+        this.configParent = parent;
+        this.effectiveConfig = null;
+    }
+
+    /**
+     * Returns the item for the key from this environment or, failing that, its inherited layers.
+     */
+    public ConfigItem getEffectiveConfiguration(String key) {
+        return getEffectiveConfigurations().get(key);
+    }
+
+    /**
+     * Returns the immutable view of the inherited configuration overridden by this
+     * environment's own items. It is rebuilt only after either side has changed.
+     */
+    public Map<String, ConfigItem> getEffectiveConfigurations() {
+        ConfigLayer parent = configParent;
+        ConfigLayer.Resolved base = parent == null ? null : parent.resolved();
+        PersistentHashMap<String, ConfigItem> own = configurations;
+        ConfigLayer.Resolved current = effectiveConfig;
+        // Checked by identity, so a view built from a superseded snapshot is never reused
+        if (current == null || current.base() != base || current.own() != own) {
+            current = ConfigLayer.Resolved.of(base, own);
+            effectiveConfig = current;
+        }
+        return current.items();
+    }
+
     public void removeConfiguration(String key) {
-        configurations.remove(key);
+        ConfigItem removed = configurations.get(key);
+        if (removed != null) {
+            contentFingerprint ^= removed.getContentHash();
+            commitConfigurations(configurations.without(key));
+            updateDerivedViews(key, null);
+            fireChange(EnvironmentChangeType.CONFIG_REMOVED, key);
+        }
+    }
+
+    /**
+     * Restores the configuration of an earlier version. Only the items that differ are
+     * touched, each firing its usual change event, and the result is recorded as a new version.
+     *
+     * @throws IllegalArgumentException if the version is no longer retained
+     */
+    public void rollbackConfiguration(long version) {
+        ConfigVersion target = configHistory.stream()
+                .filter(candidate -> candidate.version() == version)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Configuration version " + version + " is not retained for " + id));
+        restoreConfigurations(target.items());
+    }
+
+    /**
+     * Replaces the configuration with a snapshot, typically one returned by
+     * {@link #getConfigurations()} or derived from it, as a single new version. Only the
+     * items that differ are touched, like {@link #rollbackConfiguration(long)}.
+     */
+    public void restoreConfigurations(Map<String, ConfigItem> snapshot) {
+        PersistentHashMap<String, ConfigItem> target = PersistentHashMap.copyOf(snapshot);
+        List<String> changedKeys = new ArrayList<>();
+        configurations.diff(target, (key, current, restored) -> {
+            if (current != null) {
+                contentFingerprint ^= current.getContentHash();
+            }
+            if (restored != null) {
+                contentFingerprint ^= restored.getContentHash();
+            }
+            changedKeys.add(key);
+        });
+        if (changedKeys.isEmpty()) {
+            return;
+        }
+        commitConfigurations(target);
+        for (String key : changedKeys) {
+            ConfigItem restored = configurations.get(key);
+            updateDerivedViews(key, restored);
+            if (restored != null) {
+                fireChange(EnvironmentChangeType.CONFIG_PUT, restored);
+            } else {
+                fireChange(EnvironmentChangeType.CONFIG_REMOVED, key);
+            }
+        }
+    }
+
+    private void updateDerivedViews(String key, ConfigItem item) {
+        configValues = item == null || item.getValue() == null
+                ? configValues.without(key)
+                : configValues.with(key, item.getValue());
+        configTree = item == null ? configTree.without(key) : configTree.with(item);
+        if (item == null) {
+            configIndex.remove(key);
+        } else {
+            configIndex.put(item);
+        }
+        if (item == null || item.getValue() == null) {
+            interpolator.remove(key);
+        } else {
+            interpolator.put(key, item.getValue());
+        }
+    }
+
+    private void commitConfigurations(PersistentHashMap<String, ConfigItem> updated) {
+        configurations = updated;
+        configHistory.addLast(new ConfigVersion(++configVersion, LocalDateTime.now(), updated));
+        if (configHistory.size() > MAX_CONFIG_VERSIONS) {
+            configHistory.removeFirst();
+        }
     }
 
     public void recordDeployment(String version, String deployedBy) {
@@ -76,20 +299,63 @@ public abstract class Environment {
         if (newStatus.isCompleted()) {
             this.isActive = newStatus.isSuccessful();
         }
+        fireChange(EnvironmentChangeType.STATUS_CHANGED, newStatus);
     }
 
     public List<ConfigItem> getConfigurationsByType(ConfigType type) {
-        return configurations.values().stream()
-                .filter(config -> config.getType() == type)
-                .collect(Collectors.toList());
+        return configIndex.byType(type);
+    }
+
+    /**
+     * Returns the configuration items whose keys start with the prefix, sorted by key.
+     */
+    public SortedMap<String, ConfigItem> getConfigurationsWithPrefix(String prefix) {
+        return configIndex.withPrefix(prefix);
+    }
+
+    /**
+     * Returns the items of a key namespace such as {@code db} or {@code security}, keyed by
+     * the rest of their key.
+     */
+    public SortedMap<String, ConfigItem> exportNamespace(String namespace) {
+        return configIndex.namespace(namespace);
+    }
+
+    /**
+     * Returns the namespaces of all dotted configuration keys.
+     */
+    public SortedSet<String> getConfigurationNamespaces() {
+        return configIndex.namespaces();
     }
 
+    /**
+     * Returns the configuration values by key, leaving out items without a value. The map is
+     * immutable and maintained on every configuration change, so reading it allocates nothing
+     * and the same instance is returned until the configuration changes.
+     */
     public Map<String, String> getConfigMap() {
-        return configurations.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().getValue()
-                ));
+        return configValues;
+    }
+
+    /**
+     * Returns the value of the item with its {@code ${key}} references to other items
+     * resolved, or null if there is no such item. Besides configuration keys, templates can
+     * refer to {@code env.id}, {@code env.name}, {@code env.type} and {@code env.baseUrl}.
+     * Resolved values are memoized until a key they depend on changes.
+     *
+     * @throws IllegalStateException if the value refers back to itself
+     */
+    public String getResolvedConfiguration(String key) {
+        ConfigItem item = configurations.get(key);
+        return item == null || item.getValue() == null ? null : interpolator.resolve(key);
+    }
+
+    /**
+     * Resolves the {@code ${key}} references of a template against this environment's
+     * configuration, as {@link #getResolvedConfiguration(String)} does for stored values.
+     */
+    public String interpolate(String template) {
+        return interpolator.interpolate(template);
     }
 
     // Getters
@@ -104,14 +370,37 @@ public abstract class Environment {
     public String getDatabaseUrl() { return databaseUrl; }
     public String getApiEndpoint() { return apiEndpoint; }
     public Set<Service> getServices() { return Collections.unmodifiableSet(services); }
-    public Map<String, ConfigItem> getConfigurations() { return Collections.unmodifiableMap(configurations); }
+    public Map<String, ConfigItem> getConfigurations() { return configurations; }
+    public long getConfigurationVersion() { return configVersion; }
+    public ConfigMerkleTree getConfigurationTree() { return configTree; }
+    public List<ConfigVersion> getConfigurationHistory() { return List.copyOf(configHistory); }
+    public ConfigLayer getConfigurationParent() { return configParent; }
     public List<DeploymentHistory> getDeploymentHistory() { return Collections.unmodifiableList(deploymentHistory); }
 
     // Setters
-    public void setDatabaseUrl(String databaseUrl) { this.databaseUrl = databaseUrl; }
-    public void setApiEndpoint(String apiEndpoint) { this.apiEndpoint = apiEndpoint; }
-    public void setCurrentVersion(String currentVersion) { this.currentVersion = currentVersion; }
-    public void setActive(boolean active) { isActive = active; }
+    public void setDatabaseUrl(String databaseUrl) {
+        contentFingerprint ^= ContentFingerprint.field(ContentFingerprint.DATABASE_URL, this.databaseUrl)
+                ^ ContentFingerprint.field(ContentFingerprint.DATABASE_URL, databaseUrl);
+        this.databaseUrl = databaseUrl;
+        fireChange(EnvironmentChangeType.DATABASE_URL_CHANGED, databaseUrl);
+    }
+
+    public void setApiEndpoint(String apiEndpoint) {
+        contentFingerprint ^= ContentFingerprint.field(ContentFingerprint.API_ENDPOINT, this.apiEndpoint)
+                ^ ContentFingerprint.field(ContentFingerprint.API_ENDPOINT, apiEndpoint);
+        this.apiEndpoint = apiEndpoint;
+        fireChange(EnvironmentChangeType.API_ENDPOINT_CHANGED, apiEndpoint);
+    }
+
+    public void setCurrentVersion(String currentVersion) {
+        this.currentVersion = currentVersion;
+        fireChange(EnvironmentChangeType.VERSION_CHANGED, currentVersion);
+    }
+
+    public void setActive(boolean active) {
+        isActive = active;
+        fireChange(EnvironmentChangeType.ACTIVE_CHANGED, active);
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -155,4 +444,7 @@ public abstract class Environment {
                 requiresApproval() ? "✅ Yes" : "❌ No"
         );
     }
-}
\ No newline at end of file
+
+    private record CachedValidation(long fingerprint, List<String> issues) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.environment.manager.model;
+
+/**
+ * Callback invoked after each mutation of an {@link Environment}.
+ */
+@FunctionalInterface
+public interface EnvironmentChangeListener {
+    void onChange(Environment environment, EnvironmentChangeType type, Object payload);
+}
@@ -0,0 +1,17 @@
+package com.environment.manager.model;
+
+/**
+ * Kinds of in-place mutations an {@link Environment} reports to its change listeners.
+ * The payload passed with each change is noted per constant.
+ */
+public enum EnvironmentChangeType {
+    SERVICE_ADDED,          // Service
+    SERVICE_REMOVED,        // String service ID
+    CONFIG_PUT,             // ConfigItem
+    CONFIG_REMOVED,         // String config key
+    STATUS_CHANGED,         // DeploymentStatus
+    VERSION_CHANGED,        // String version
+    DATABASE_URL_CHANGED,   // String URL
+    API_ENDPOINT_CHANGED,   // String URL
+    ACTIVE_CHANGED          // Boolean
+}
@@ -0,0 +1,101 @@
+package com.environment.manager.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Snapshot of the versions deployed across a fleet of environments.
+ *
+ * <p>It records the newest version of every service, so a service can be recognised as
+ * outdated against what the rest of the fleet already runs, and keeps the environments
+ * sorted by current version, so finding those below a version floor is a binary search.
+ * Versions that are not semantic versions are left out.
+ */
+public final class FleetVersions {
+
+    private final Map<String, SemVer> newestByService;
+    private final SemVer[] currentVersions;
+    private final List<Environment> environmentsByVersion;
+    private final List<Environment> unversioned;
+
+    private FleetVersions(Map<String, SemVer> newestByService, SemVer[] currentVersions,
+                          List<Environment> environmentsByVersion, List<Environment> unversioned) {
+        this.newestByService = newestByService;
+        this.currentVersions = currentVersions;
+        this.environmentsByVersion = environmentsByVersion;
+        this.unversioned = unversioned;
+    }
+
+    public static FleetVersions of(Collection<? extends Environment> environments) {
+        Map<String, SemVer> newestByService = new HashMap<>();
+        List<Map.Entry<SemVer, Environment>> versioned = new ArrayList<>(environments.size());
+        List<Environment> unversioned = new ArrayList<>();
+
+        for (Environment environment : environments) {
+            for (Service service : environment.getServices()) {
+                SemVer.tryParse(service.getVersion()).ifPresent(version -> newestByService.merge(
+                        service.getId(), version, (a, b) -> a.compareTo(b) >= 0 ? a : b));
+            }
+            Optional<SemVer> current = SemVer.tryParse(environment.getCurrentVersion());
+            if (current.isPresent()) {
+                versioned.add(Map.entry(current.get(), environment));
+            } else {
+                unversioned.add(environment);
+            }
+        }
+
+        versioned.sort(Map.Entry.comparingByKey());
+        SemVer[] versions = new SemVer[versioned.size()];
+        Environment[] sorted = new Environment[versioned.size()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = versioned.get(i).getKey();
+            sorted[i] = versioned.get(i).getValue();
+        }
+        return new FleetVersions(newestByService, versions, List.of(sorted), Collections.unmodifiableList(unversioned));
+    }
+
+    /**
+     * Returns the newest version of a service deployed anywhere in the fleet.
+     */
+    public Optional<SemVer> getNewestVersion(String serviceId) {
+        return Optional.ofNullable(newestByService.get(serviceId));
+    }
+
+    /**
+     * Returns whether the service runs an older version than the newest one in the fleet.
+     */
+    public boolean isOutdated(Service service) {
+        SemVer newest = newestByService.get(service.getId());
+        return newest != null && SemVer.tryParse(service.getVersion()).map(newest::compareTo).orElse(0) > 0;
+    }
+
+    /**
+     * Returns the environments whose current version is below the floor, oldest first.
+     */
+    public List<Environment> findBelow(SemVer floor) {
+        // Index of the first version not below the floor
+        int low = 0;
+        int high = currentVersions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (currentVersions[mid].compareTo(floor) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return environmentsByVersion.subList(0, low);
+    }
+
+    /**
+     * Returns the environments whose current version is not a semantic version.
+     */
+    public List<Environment> getUnversioned() {
+        return unversioned;
+    }
+}
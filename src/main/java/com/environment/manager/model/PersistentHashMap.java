@@ -0,0 +1,495 @@
+package com.environment.manager.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable hash map implemented as a hash array mapped trie.
+ *
+ * <p>{@link #with(Object, Object)} and {@link #without(Object)} return a new map and leave
+ * this one untouched. The new map shares every trie node except those on the path to the
+ * changed key, so an update copies O(log32 n) small arrays, and any number of versions can
+ * be kept for the cost of their differences. {@link #diff(PersistentHashMap, DiffVisitor)}
+ * uses the same sharing to skip the subtrees two versions have in common.
+ *
+ * <p>Keys and values must not be null. The {@code Map} mutators throw
+ * {@link UnsupportedOperationException}.
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap) {
+            return (PersistentHashMap<K, V>) map;
+        }
+        PersistentHashMap<K, V> result = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Called for each key whose value differs between two maps; the value is null on the
+     * side where the key is absent.
+     */
+    @FunctionalInterface
+    public interface DiffVisitor<K, V> {
+        void visit(K key, V oldValue, V newValue);
+    }
+
+    /**
+     * Returns a map with the key mapped to the value, or this map if it already is.
+     */
+    public PersistentHashMap<K, V> with(K key, V value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+        boolean[] added = new boolean[1];
+        Node base = root == null ? BitmapNode.EMPTY : root;
+        Node newRoot = base.put(0, hash(key), key, value, added);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the key, or this map if the key is absent.
+     */
+    public PersistentHashMap<K, V> without(Object key) {
+        if (root == null || key == null) {
+            return this;
+        }
+        Node newRoot = root.remove(0, hash(key), key);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return root == null || key == null ? null : (V) root.find(0, hash(key), key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (root != null) {
+            root.forEach((BiConsumer<Object, Object>) action);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Reports every key whose value differs from this map to the newer one, without
+     * descending into subtrees the two maps share.
+     */
+    @SuppressWarnings("unchecked")
+    public void diff(PersistentHashMap<K, V> newer, DiffVisitor<? super K, ? super V> visitor) {
+        diff(root, newer.root, 0, (DiffVisitor<Object, Object>) visitor);
+    }
+
+    private static void diff(Node older, Node newer, int shift, DiffVisitor<Object, Object> visitor) {
+        if (older == newer) {
+            return;
+        }
+        if (older == null) {
+            newer.forEach((key, value) -> visitor.visit(key, null, value));
+            return;
+        }
+        if (newer == null) {
+            older.forEach((key, value) -> visitor.visit(key, value, null));
+            return;
+        }
+        if (older instanceof BitmapNode a && newer instanceof BitmapNode b) {
+            for (int bits = a.bitmap | b.bitmap; bits != 0; bits &= bits - 1) {
+                int bit = bits & -bits;
+                Object aKey = a.keyAt(bit);
+                Object bKey = b.keyAt(bit);
+                Object aValue = a.valueAt(bit);
+                Object bValue = b.valueAt(bit);
+                if (aKey == bKey && aValue == bValue) {
+                    continue;
+                }
+                if (aKey == null && bKey == null) {
+                    diff((Node) aValue, (Node) bValue, shift + BITS, visitor);
+                } else if (aKey != null && aKey.equals(bKey)) {
+                    if (!aValue.equals(bValue)) {
+                        visitor.visit(aKey, aValue, bValue);
+                    }
+                } else {
+                    diffSlots(a.slotAsNode(bit), b.slotAsNode(bit), visitor);
+                }
+            }
+            return;
+        }
+        diffSlots(older, newer, visitor);
+    }
+
+    /**
+     * Compares two subtrees entry by entry; used where their shapes differ.
+     */
+    private static void diffSlots(Node older, Node newer, DiffVisitor<Object, Object> visitor) {
+        Map<Object, Object> remaining = new HashMap<>();
+        if (older != null) {
+            older.forEach(remaining::put);
+        }
+        if (newer != null) {
+            newer.forEach((key, value) -> {
+                Object previous = remaining.remove(key);
+                if (!value.equals(previous)) {
+                    visitor.visit(key, previous, value);
+                }
+            });
+        }
+        remaining.forEach((key, value) -> visitor.visit(key, value, null));
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private interface Node {
+        Object find(int shift, int hash, Object key);
+
+        Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        /**
+         * @return the node without the key, null if it is now empty, or this node if the key is absent
+         */
+        Node remove(int shift, int hash, Object key);
+
+        void forEach(BiConsumer<Object, Object> action);
+    }
+
+    /**
+     * Up to 32 slots selected by five bits of the hash; each slot holds a key and its value,
+     * or a null key and the child node for all keys sharing the slot.
+     */
+    private static final class BitmapNode implements Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] array;
+
+        BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        int index(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Object keyAt(int bit) {
+            return (bitmap & bit) == 0 ? null : array[index(bit)];
+        }
+
+        Object valueAt(int bit) {
+            return (bitmap & bit) == 0 ? null : array[index(bit) + 1];
+        }
+
+        Node slotAsNode(int bit) {
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = index(bit);
+            return array[i] == null ? (Node) array[i + 1] : new BitmapNode(1, new Object[]{array[i], array[i + 1]});
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = index(bit);
+            Object k = array[i];
+            if (k == null) {
+                return ((Node) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[i + 1] : null;
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bitFor(hash, shift);
+            int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] copy = new Object[array.length + 2];
+                System.arraycopy(array, 0, copy, 0, i);
+                copy[i] = key;
+                copy[i + 1] = value;
+                System.arraycopy(array, i, copy, i + 2, array.length - i);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, copy);
+            }
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node child = ((Node) v).put(shift + BITS, hash, key, value, added);
+                return child == v ? this : withSlot(i, null, child);
+            }
+            if (key.equals(k)) {
+                return v == value ? this : withSlot(i, k, value);
+            }
+            added[0] = true;
+            return withSlot(i, null, pair(shift + BITS, k, v, hash, key, value));
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = index(bit);
+            Object k = array[i];
+            if (k == null) {
+                Node child = (Node) array[i + 1];
+                Node newChild = child.remove(shift + BITS, hash, key);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild == null) {
+                    return withoutSlot(bit, i);
+                }
+                // A child left with a single entry is pulled up into this node
+                if (newChild instanceof BitmapNode b && b.array.length == 2 && b.array[0] != null) {
+                    return withSlot(i, b.array[0], b.array[1]);
+                }
+                return withSlot(i, null, newChild);
+            }
+            return key.equals(k) ? withoutSlot(bit, i) : this;
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    ((Node) array[i + 1]).forEach(action);
+                } else {
+                    action.accept(array[i], array[i + 1]);
+                }
+            }
+        }
+
+        private BitmapNode withSlot(int i, Object key, Object value) {
+            Object[] copy = array.clone();
+            copy[i] = key;
+            copy[i + 1] = value;
+            return new BitmapNode(bitmap, copy);
+        }
+
+        private BitmapNode withoutSlot(int bit, int i) {
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] copy = new Object[array.length - 2];
+            System.arraycopy(array, 0, copy, 0, i);
+            System.arraycopy(array, i + 2, copy, i, array.length - i - 2);
+            return new BitmapNode(bitmap ^ bit, copy);
+        }
+
+        private static Node pair(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+            }
+            boolean[] added = new boolean[1];
+            return EMPTY.put(shift, hash1, key1, value1, added).put(shift, hash2, key2, value2, added);
+        }
+    }
+
+    /**
+     * Keys whose full hashes are equal, searched linearly.
+     */
+    private static final class CollisionNode implements Node {
+        final int hash;
+        final Object[] array;
+
+        CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            if (hash != this.hash) {
+                return null;
+            }
+            int i = indexOf(key);
+            return i < 0 ? null : array[i + 1];
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                // Nest this node under a bitmap node and insert beside it
+                BitmapNode parent = new BitmapNode(bitFor(this.hash, shift), new Object[]{null, this});
+                return parent.put(shift, hash, key, value, added);
+            }
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (array[i + 1] == value) {
+                    return this;
+                }
+                Object[] copy = array.clone();
+                copy[i + 1] = value;
+                return new CollisionNode(hash, copy);
+            }
+            Object[] copy = new Object[array.length + 2];
+            System.arraycopy(array, 0, copy, 0, array.length);
+            copy[array.length] = key;
+            copy[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int i = hash == this.hash ? indexOf(key) : -1;
+            if (i < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            if (array.length == 4) {
+                // The remaining entry becomes an ordinary slot
+                int other = i == 0 ? 2 : 0;
+                return new BitmapNode(bitFor(hash, shift), new Object[]{array[other], array[other + 1]});
+            }
+            Object[] copy = new Object[array.length - 2];
+            System.arraycopy(array, 0, copy, 0, i);
+            System.arraycopy(array, i + 2, copy, i, array.length - i - 2);
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                action.accept(array[i], array[i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Depth-first iterator over the trie, keeping one array position per level.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final ArrayDeque<Object[]> arrays = new ArrayDeque<>();
+        private final ArrayDeque<int[]> positions = new ArrayDeque<>();
+        private Map.Entry<K, V> next;
+
+        EntryIterator(Node root) {
+            if (root != null) {
+                push(root);
+            }
+            advance();
+        }
+
+        private void push(Node node) {
+            arrays.push(node instanceof BitmapNode b ? b.array : ((CollisionNode) node).array);
+            positions.push(new int[]{0});
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (!arrays.isEmpty()) {
+                Object[] array = arrays.peek();
+                int[] position = positions.peek();
+                if (position[0] >= array.length) {
+                    arrays.pop();
+                    positions.pop();
+                    continue;
+                }
+                Object key = array[position[0]];
+                Object value = array[position[0] + 1];
+                position[0] += 2;
+                if (key == null) {
+                    push((Node) value);
+                } else {
+                    next = new SimpleImmutableEntry<>((K) key, (V) value);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = next;
+            advance();
+            return entry;
+        }
+    }
+}
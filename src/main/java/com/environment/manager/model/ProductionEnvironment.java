@@ -1,6 +1,7 @@
 package com.environment.manager.model;
 
-import java.util.ArrayList;
+import com.environment.manager.validator.StandardRules;
+
 import java.util.List;
 
 public class ProductionEnvironment extends Environment {
@@ -23,26 +24,7 @@ public class ProductionEnvironment extends Environment {
 
     @Override
     public List<String> validate() {
-        List<String> issues = new ArrayList<>();
-
-        if (!getBaseUrl().startsWith("https://")) {
-            issues.add("Production environment must use HTTPS");
-        }
-
-        if (getDatabaseUrl() == null || !getDatabaseUrl().contains("cluster")) {
-            issues.add("Production database should use a cluster");
-        }
-
-        if (getConfiguration("security.SSL_ENABLED") == null) {
-            issues.add("SSL configuration is required for production");
-        }
-
-        ConfigItem debugMode = getConfiguration("DEBUG_MODE");
-        if (debugMode != null && "true".equals(debugMode.getValue())) {
-            issues.add("Debug mode should be false in production");
-        }
-
-        return issues;
+        return StandardRules.environmentPolicyEngine().evaluate(this);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.environment.manager.model;
 
-import java.util.ArrayList;
+import com.environment.manager.validator.StandardRules;
+
 import java.util.List;
 
 public class QAEnvironment extends Environment {
@@ -22,22 +23,7 @@ public class QAEnvironment extends Environment {
 
     @Override
     public List<String> validate() {
-        List<String> issues = new ArrayList<>();
-
-        if (!getBaseUrl().contains("qa")) {
-            issues.add("QA environment URL should contain 'qa'");
-        }
-
-        if (getDatabaseUrl() == null || !getDatabaseUrl().contains("qa-db")) {
-            issues.add("QA database URL should point to qa-db");
-        }
-
-        // Check for MAX_USERS configuration
-        if (getConfiguration("MAX_USERS") == null) {
-            issues.add("MAX_USERS configuration is required for QA");
-        }
-
-        return issues;
+        return StandardRules.environmentPolicyEngine().evaluate(this);
     }
 
     @Override
@@ -0,0 +1,283 @@
+package com.environment.manager.model;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A parsed semantic version, {@code MAJOR.MINOR.PATCH[-PRERELEASE][+BUILD]}, following
+ * Semantic Versioning 2.0.0.
+ *
+ * <p>Versions are interned: parsing the same string again returns the same instance
+ * without re-parsing it. Each version carries a packed ordering key holding its major,
+ * minor and patch numbers and whether it is a release, so most comparisons are a single
+ * {@code long} comparison; only pre-releases of the same core version compare their
+ * identifiers. Versions with a component above 2<sup>20</sup>-1 do not fit the key and
+ * are compared component by component. Build metadata is ignored for ordering, as the specification requires.
+ */
+public final class SemVer implements Comparable<SemVer> {
+
+    private static final int MAX_INTERNED = 10_000;
+    private static final Map<String, Optional<SemVer>> INTERNED = new ConcurrentHashMap<>();
+
+    private static final int COMPONENT_BITS = 20;
+    private static final long COMPONENT_MAX = (1L << COMPONENT_BITS) - 1;
+
+    private final String text;
+    private final int major;
+    private final int minor;
+    private final int patch;
+    private final String preRelease;
+    private final String build;
+    private final long orderKey;
+    /** Whether a component does not fit the ordering key, which then cannot order this version. */
+    private final boolean oversized;
+
+    private SemVer(String text, int major, int minor, int patch, String preRelease, String build) {
+        this.text = text;
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.preRelease = preRelease;
+        this.build = build;
+        this.oversized = major > COMPONENT_MAX || minor > COMPONENT_MAX || patch > COMPONENT_MAX;
+        // Oversized components saturate; compareTo ignores the key of an oversized version
+        this.orderKey = Math.min(major, COMPONENT_MAX) << (2 * COMPONENT_BITS + 1)
+                | Math.min(minor, COMPONENT_MAX) << (COMPONENT_BITS + 1)
+                | Math.min(patch, COMPONENT_MAX) << 1
+                | (preRelease == null ? 1 : 0);
+    }
+
+    /**
+     * Parses a version, returning the interned instance.
+     *
+     * @throws IllegalArgumentException if the string is not a semantic version
+     */
+    public static SemVer parse(String version) {
+        return tryParse(version).orElseThrow(
+                () -> new IllegalArgumentException("Not a semantic version: " + version));
+    }
+
+    /**
+     * Parses a version, returning the interned instance, or empty if the string is not a
+     * semantic version. Invalid strings are remembered too.
+     */
+    public static Optional<SemVer> tryParse(String version) {
+        if (version == null) {
+            return Optional.empty();
+        }
+        Optional<SemVer> parsed = INTERNED.get(version);
+        if (parsed == null) {
+            parsed = Optional.ofNullable(doParse(version));
+            if (INTERNED.size() >= MAX_INTERNED) {
+                INTERNED.clear();
+            }
+            Optional<SemVer> existing = INTERNED.putIfAbsent(version, parsed);
+            if (existing != null) {
+                parsed = existing;
+            }
+        }
+        return parsed;
+    }
+
+    public static boolean isValid(String version) {
+        return tryParse(version).isPresent();
+    }
+
+    private static SemVer doParse(String text) {
+        int n = text.length();
+        int[] core = new int[3];
+        int p = 0;
+        for (int i = 0; i < 3; i++) {
+            if (i > 0) {
+                if (p >= n || text.charAt(p) != '.') {
+                    return null;
+                }
+                p++;
+            }
+            int start = p;
+            long value = 0;
+            while (p < n && isDigit(text.charAt(p))) {
+                value = value * 10 + (text.charAt(p) - '0');
+                if (value > Integer.MAX_VALUE) {
+                    return null;
+                }
+                p++;
+            }
+            if (p == start || (p - start > 1 && text.charAt(start) == '0')) {
+                return null;
+            }
+            core[i] = (int) value;
+        }
+
+        String preRelease = null;
+        if (p < n && text.charAt(p) == '-') {
+            int start = ++p;
+            p = scanIdentifiers(text, p, true);
+            if (p < 0) {
+                return null;
+            }
+            preRelease = text.substring(start, p);
+        }
+        String build = null;
+        if (p < n && text.charAt(p) == '+') {
+            int start = ++p;
+            p = scanIdentifiers(text, p, false);
+            if (p < 0) {
+                return null;
+            }
+            build = text.substring(start, p);
+        }
+        if (p != n) {
+            return null;
+        }
+        return new SemVer(text, core[0], core[1], core[2], preRelease, build);
+    }
+
+    /**
+     * Scans dot-separated identifiers of letters, digits and hyphens.
+     *
+     * @return the end of the identifiers, or -1 if one is empty or has a forbidden leading zero
+     */
+    private static int scanIdentifiers(String text, int start, boolean rejectLeadingZeros) {
+        int p = start;
+        while (true) {
+            int identifierStart = p;
+            boolean numeric = true;
+            while (p < text.length() && isIdentifierChar(text.charAt(p))) {
+                numeric &= isDigit(text.charAt(p));
+                p++;
+            }
+            if (p == identifierStart) {
+                return -1;
+            }
+            if (rejectLeadingZeros && numeric && p - identifierStart > 1 && text.charAt(identifierStart) == '0') {
+                return -1;
+            }
+            if (p == text.length() || text.charAt(p) != '.') {
+                return p;
+            }
+            p++;
+        }
+    }
+
+    public int getMajor() { return major; }
+    public int getMinor() { return minor; }
+    public int getPatch() { return patch; }
+    public Optional<String> getPreRelease() { return Optional.ofNullable(preRelease); }
+    public Optional<String> getBuild() { return Optional.ofNullable(build); }
+
+    public boolean isPreRelease() {
+        return preRelease != null;
+    }
+
+    /**
+     * Returns whether the version is below 1.0.0, where the public API is not yet stable.
+     */
+    public boolean isInitialDevelopment() {
+        return major == 0;
+    }
+
+    public boolean isOlderThan(SemVer other) {
+        return compareTo(other) < 0;
+    }
+
+    @Override
+    public int compareTo(SemVer other) {
+        if (!oversized && !other.oversized) {
+            int byKey = Long.compare(orderKey, other.orderKey);
+            if (byKey != 0 || this == other) {
+                return byKey;
+            }
+        }
+        int byCore = compareCore(other);
+        if (byCore != 0) {
+            return byCore;
+        }
+        if (preRelease == null || other.preRelease == null) {
+            // A release ranks above its pre-releases
+            return Boolean.compare(preRelease == null, other.preRelease == null);
+        }
+        return comparePreRelease(preRelease, other.preRelease);
+    }
+
+    private int compareCore(SemVer other) {
+        if (major != other.major) {
+            return Integer.compare(major, other.major);
+        }
+        if (minor != other.minor) {
+            return Integer.compare(minor, other.minor);
+        }
+        return Integer.compare(patch, other.patch);
+    }
+
+    /**
+     * Compares pre-release identifiers: numeric ones numerically and below alphanumeric
+     * ones, alphanumeric ones in ASCII order, and a shorter list below a longer one it prefixes.
+     */
+    private static int comparePreRelease(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int aEnd = a.indexOf('.', i);
+            int bEnd = b.indexOf('.', j);
+            aEnd = aEnd < 0 ? a.length() : aEnd;
+            bEnd = bEnd < 0 ? b.length() : bEnd;
+            boolean aNumeric = isNumeric(a, i, aEnd);
+            boolean bNumeric = isNumeric(b, j, bEnd);
+            int result;
+            if (aNumeric && bNumeric) {
+                // No leading zeros, so a longer number is a larger one
+                result = aEnd - i != bEnd - j ? Integer.compare(aEnd - i, bEnd - j)
+                        : CharSequence.compare(a.subSequence(i, aEnd), b.subSequence(j, bEnd));
+            } else if (aNumeric != bNumeric) {
+                result = aNumeric ? -1 : 1;
+            } else {
+                result = CharSequence.compare(a.subSequence(i, aEnd), b.subSequence(j, bEnd));
+            }
+            if (result != 0) {
+                return result;
+            }
+            i = aEnd + 1;
+            j = bEnd + 1;
+        }
+        return Boolean.compare(i < a.length(), j < b.length());
+    }
+
+    private static boolean isNumeric(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return isDigit(c) || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SemVer)) return false;
+        SemVer other = (SemVer) o;
+        return orderKey == other.orderKey && major == other.major && minor == other.minor && patch == other.patch
+                && Objects.equals(preRelease, other.preRelease) && Objects.equals(build, other.build);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -1,6 +1,7 @@
 package com.environment.manager.model;
 
-import java.util.ArrayList;
+import com.environment.manager.validator.StandardRules;
+
 import java.util.List;
 
 public class StagingEnvironment extends Environment {
@@ -19,13 +20,7 @@ public class StagingEnvironment extends Environment {
 
     @Override
     public List<String> validate() {
-        List<String> issues = new ArrayList<>();
-
-        if (!getBaseUrl().contains("staging")) {
-            issues.add("Staging URL should contain 'staging'");
-        }
-
-        return issues;
+        return StandardRules.environmentPolicyEngine().evaluate(this);
     }
 
     @Override
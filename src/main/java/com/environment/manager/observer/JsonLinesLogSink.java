@@ -0,0 +1,441 @@
+package com.environment.manager.observer;
+
+import com.environment.manager.util.util.Constants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asynchronous JSON-lines log file writer.
+ *
+ * <p>Callers copy event fields into preallocated ring slots and return immediately;
+ * a background thread encodes the slots into a reusable buffer and writes them in
+ * batches through a {@link FileChannel}. Steady-state logging allocates nothing:
+ * strings are encoded to UTF-8 by hand and the timestamp bytes are cached and only
+ * rebuilt when the millisecond (digits) or second (prefix) changes.
+ *
+ * <p>When the active file would exceed the size limit it is rotated to
+ * {@code <name>.1}, older files shift up, and only {@code retainedFiles} are kept.
+ * If the ring is full, events are dropped and counted rather than blocking callers.
+ */
+public class JsonLinesLogSink implements AutoCloseable {
+    private static final int TIMESTAMP_LENGTH = 23; // yyyy-MM-ddTHH:mm:ss.SSS
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final Path directory;
+    private final Path activeFile;
+    private final long maxFileBytes;
+    private final int retainedFiles;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private long head;      // next slot to fill (guarded by lock)
+    private long tail;      // next slot to encode (guarded by lock)
+    private long written;   // slots durably handed to the file channel (guarded by lock)
+    private boolean closed;
+    private final LongAdder dropped = new LongAdder();
+
+    // Writer-thread state
+    private final Thread writer;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private byte[] line = new byte[512];
+    private int lineLength;
+    private final byte[] timestamp = new byte[TIMESTAMP_LENGTH];
+    private long cachedSecond = Long.MIN_VALUE;
+    private long cachedMillis = Long.MIN_VALUE;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private FileChannel channel;
+    private long fileSize;
+    private volatile IOException lastError;
+
+    public JsonLinesLogSink(Path directory, String fileName, long maxFileBytes, int retainedFiles, int capacity)
+            throws IOException {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        if (maxFileBytes <= 0 || retainedFiles < 0) {
+            throw new IllegalArgumentException("maxFileBytes must be positive and retainedFiles non-negative");
+        }
+        this.directory = directory;
+        this.activeFile = directory.resolve(fileName);
+        this.maxFileBytes = maxFileBytes;
+        this.retainedFiles = retainedFiles;
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+
+        Files.createDirectories(directory);
+        openActiveFile();
+
+        this.writer = new Thread(this::runWriter, "log-writer-" + fileName);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Opens {@code Constants.LOG_DIR/Constants.LOG_FILE} with the default size and retention limits.
+     */
+    public static JsonLinesLogSink createDefault() throws IOException {
+        return new JsonLinesLogSink(Paths.get(Constants.LOG_DIR), Constants.LOG_FILE,
+                Constants.LOG_MAX_FILE_SIZE_MB * 1024 * 1024, Constants.LOG_RETAINED_FILES, 8192);
+    }
+
+    /**
+     * Queues one event. Null fields are omitted from the JSON line.
+     *
+     * @return false if the event was dropped because the ring was full or the sink closed
+     */
+    public boolean log(String level, String event, String environment, String service,
+                       String version, String error) {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            if (closed || head - tail == slots.length) {
+                dropped.increment();
+                return false;
+            }
+            Slot slot = slots[(int) (head & mask)];
+            slot.timestampMillis = now;
+            slot.level = level;
+            slot.event = event;
+            slot.environment = environment;
+            slot.service = service;
+            slot.version = version;
+            slot.error = error;
+            if (head++ == tail) {
+                notEmpty.signal();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every event queued before this call has been written to the file.
+     */
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            long target = head;
+            notEmpty.signal();
+            while (written < target) {
+                if (remaining <= 0 || !writer.isAlive()) {
+                    return false;
+                }
+                remaining = drained.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (lastError != null) {
+            throw lastError;
+        }
+    }
+
+    public long getDroppedCount() { return dropped.sum(); }
+    public Path getActiveFile() { return activeFile; }
+    public IOException getLastError() { return lastError; }
+
+    private void runWriter() {
+        try {
+            while (true) {
+                long from;
+                long to;
+                boolean finished;
+                lock.lock();
+                try {
+                    while (head == tail && !closed) {
+                        notEmpty.awaitNanos(FLUSH_INTERVAL_NANOS);
+                    }
+                    from = tail;
+                    to = head;
+                    finished = closed && head == tail;
+                } finally {
+                    lock.unlock();
+                }
+                if (finished) {
+                    break;
+                }
+
+                // Slots in [from, to) are not reused by producers until tail advances
+                for (long seq = from; seq < to; seq++) {
+                    Slot slot = slots[(int) (seq & mask)];
+                    encode(slot);
+                    slot.clear();
+                    append();
+                }
+                writeBuffer();
+
+                lock.lock();
+                try {
+                    tail = to;
+                    written = to;
+                    drained.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            lastError = e;
+            System.err.println("Log writer stopped: " + e.getMessage());
+        } finally {
+            closeChannel();
+            lock.lock();
+            try {
+                closed = true;
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // ---- Encoding (writer thread only) ----
+
+    private void encode(Slot slot) {
+        lineLength = 0;
+        putAscii("{\"ts\":\"");
+        refreshTimestamp(slot.timestampMillis);
+        ensureCapacity(TIMESTAMP_LENGTH);
+        System.arraycopy(timestamp, 0, line, lineLength, TIMESTAMP_LENGTH);
+        lineLength += TIMESTAMP_LENGTH;
+        putByte('"');
+        putField("level", slot.level);
+        putField("event", slot.event);
+        putField("environment", slot.environment);
+        putField("service", slot.service);
+        putField("version", slot.version);
+        putField("error", slot.error);
+        putByte('}');
+        putByte('\n');
+    }
+
+    private void putField(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        putByte(',');
+        putByte('"');
+        putAscii(name);
+        putAscii("\":\"");
+        putEscaped(value);
+        putByte('"');
+    }
+
+    private void putEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                putByte('\\');
+                putByte(c);
+            } else if (c == '\n') {
+                putAscii("\\n");
+            } else if (c == '\r') {
+                putAscii("\\r");
+            } else if (c == '\t') {
+                putAscii("\\t");
+            } else if (c < 0x20) {
+                putAscii("\\u00");
+                putByte(Character.forDigit(c >> 4, 16));
+                putByte(Character.forDigit(c & 0xF, 16));
+            } else if (c < 0x80) {
+                putByte(c);
+            } else if (c < 0x800) {
+                putByte(0xC0 | (c >> 6));
+                putByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                putByte(0xF0 | (codePoint >> 18));
+                putByte(0x80 | ((codePoint >> 12) & 0x3F));
+                putByte(0x80 | ((codePoint >> 6) & 0x3F));
+                putByte(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                putByte('?');
+            } else {
+                putByte(0xE0 | (c >> 12));
+                putByte(0x80 | ((c >> 6) & 0x3F));
+                putByte(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void putAscii(String s) {
+        ensureCapacity(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            line[lineLength++] = (byte) s.charAt(i);
+        }
+    }
+
+    private void putByte(int b) {
+        ensureCapacity(1);
+        line[lineLength++] = (byte) b;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (lineLength + extra > line.length) {
+            byte[] grown = new byte[Math.max(line.length * 2, lineLength + extra)];
+            System.arraycopy(line, 0, grown, 0, lineLength);
+            line = grown;
+        }
+    }
+
+    /**
+     * Rewrites the cached timestamp bytes only when the millisecond changes,
+     * and the date/time prefix only when the second changes.
+     */
+    private void refreshTimestamp(long epochMillis) {
+        if (epochMillis == cachedMillis) {
+            return;
+        }
+        long second = Math.floorDiv(epochMillis, 1000);
+        if (second != cachedSecond) {
+            ZoneOffset offset = zone.getRules().getOffset(Instant.ofEpochSecond(second));
+            LocalDateTime time = LocalDateTime.ofEpochSecond(second, 0, offset);
+            writeDigits(0, 4, time.getYear());
+            timestamp[4] = '-';
+            writeDigits(5, 2, time.getMonthValue());
+            timestamp[7] = '-';
+            writeDigits(8, 2, time.getDayOfMonth());
+            timestamp[10] = 'T';
+            writeDigits(11, 2, time.getHour());
+            timestamp[13] = ':';
+            writeDigits(14, 2, time.getMinute());
+            timestamp[16] = ':';
+            writeDigits(17, 2, time.getSecond());
+            timestamp[19] = '.';
+            cachedSecond = second;
+        }
+        writeDigits(20, 3, Math.floorMod(epochMillis, 1000));
+        cachedMillis = epochMillis;
+    }
+
+    private void writeDigits(int offset, int width, int value) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            timestamp[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    // ---- File I/O (writer thread only) ----
+
+    private void append() throws IOException {
+        if (lineLength > buffer.remaining()) {
+            writeBuffer();
+        }
+        if (lineLength > buffer.capacity()) {
+            // Oversized line: write it directly
+            writeToFile(ByteBuffer.wrap(line, 0, lineLength));
+        } else {
+            buffer.put(line, 0, lineLength);
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        if (buffer.hasRemaining()) {
+            writeToFile(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void writeToFile(ByteBuffer bytes) throws IOException {
+        if (fileSize > 0 && fileSize + bytes.remaining() > maxFileBytes) {
+            rotate();
+        }
+        while (bytes.hasRemaining()) {
+            fileSize += channel.write(bytes);
+        }
+    }
+
+    private void rotate() throws IOException {
+        closeChannel();
+        if (retainedFiles == 0) {
+            Files.deleteIfExists(activeFile);
+        } else {
+            Files.deleteIfExists(rotatedFile(retainedFiles));
+            for (int i = retainedFiles - 1; i >= 1; i--) {
+                Path source = rotatedFile(i);
+                if (Files.exists(source)) {
+                    Files.move(source, rotatedFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(activeFile, rotatedFile(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        openActiveFile();
+    }
+
+    private Path rotatedFile(int index) {
+        return directory.resolve(activeFile.getFileName() + "." + index);
+    }
+
+    private void openActiveFile() throws IOException {
+        channel = FileChannel.open(activeFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    private void closeChannel() {
+        try {
+            if (channel != null && channel.isOpen()) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            lastError = e;
+        }
+    }
+
+    private static final class Slot {
+        private long timestampMillis;
+        private String level;
+        private String event;
+        private String environment;
+        private String service;
+        private String version;
+        private String error;
+
+        private void clear() {
+            level = event = environment = service = version = error = null;
+        }
+    }
+}
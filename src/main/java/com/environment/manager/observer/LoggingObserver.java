@@ -2,13 +2,32 @@ package com.environment.manager.observer;
 
 import com.environment.manager.model.Environment;
 import com.environment.manager.model.Service;
+import com.environment.manager.util.util.Constants;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * Logs deployment events to the console, or as JSON lines to a {@link JsonLinesLogSink}
+ * when one is supplied.
+ */
 public class LoggingObserver implements DeploymentObserver {
+    private final JsonLinesLogSink sink;
+
+    public LoggingObserver() {
+        this(null);
+    }
+
+    public LoggingObserver(JsonLinesLogSink sink) {
+        this.sink = sink;
+    }
 
     @Override
     public void onDeploymentStart(Environment environment, Service service, String version) {
+        if (sink != null) {
+            sink.log(Constants.LOG_LEVEL_INFO, "DEPLOYMENT_START",
+                    environment.getName(), service.getName(), version, null);
+            return;
+        }
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         System.out.printf("[%s] 🚀 START: Deploying %s v%s to %s%n",
                 timestamp, service.getName(), version, environment.getName());
@@ -16,6 +35,11 @@ public class LoggingObserver implements DeploymentObserver {
 
     @Override
     public void onDeploymentSuccess(Environment environment, Service service, String version) {
+        if (sink != null) {
+            sink.log(Constants.LOG_LEVEL_INFO, "DEPLOYMENT_SUCCESS",
+                    environment.getName(), service.getName(), version, null);
+            return;
+        }
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         System.out.printf("[%s] ✅ SUCCESS: %s v%s deployed to %s%n",
                 timestamp, service.getName(), version, environment.getName());
@@ -23,6 +47,11 @@ public class LoggingObserver implements DeploymentObserver {
 
     @Override
     public void onDeploymentFailure(Environment environment, Service service, String version, String error) {
+        if (sink != null) {
+            sink.log(Constants.LOG_LEVEL_ERROR, "DEPLOYMENT_FAILURE",
+                    environment.getName(), service.getName(), version, error);
+            return;
+        }
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         System.out.printf("[%s] ❌ FAILURE: Failed to deploy %s v%s to %s. Error: %s%n",
                 timestamp, service.getName(), version, environment.getName(), error);
@@ -30,8 +59,13 @@ public class LoggingObserver implements DeploymentObserver {
 
     @Override
     public void onRollback(Environment environment, Service service) {
+        if (sink != null) {
+            sink.log(Constants.LOG_LEVEL_WARN, "ROLLBACK",
+                    environment.getName(), service.getName(), service.getVersion(), null);
+            return;
+        }
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         System.out.printf("[%s] ↩️ ROLLBACK: Rolling back %s in %s%n",
                 timestamp, service.getName(), environment.getName());
     }
-}
\ No newline at end of file
+}
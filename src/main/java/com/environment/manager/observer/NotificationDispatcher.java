@@ -0,0 +1,275 @@
+package com.environment.manager.observer;
+
+import com.environment.manager.observer.NotificationObserver.NotificationPriority;
+import com.environment.manager.util.util.LatencyHistogram;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers notifications through one lane per {@link NotificationPriority}.
+ * Each lane has its own bounded queue and dedicated workers. A worker always
+ * takes the most urgent pending notification it is allowed to serve: workers of
+ * a lane also serve every higher lane, so CRITICAL alerts never wait behind a
+ * backlog of INFO messages, while INFO workers can never starve CRITICAL ones.
+ */
+public class NotificationDispatcher {
+    private static final NotificationPriority[] PRIORITIES = NotificationPriority.values();
+
+    private final Map<NotificationPriority, Lane> lanes = new EnumMap<>(NotificationPriority.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition idle = lock.newCondition();
+    private final List<Thread> workers = new ArrayList<>();
+    private int inFlight;
+    private volatile boolean running = true;
+
+    public NotificationDispatcher(Map<NotificationPriority, LaneConfig> laneConfigs) {
+        for (NotificationPriority priority : PRIORITIES) {
+            LaneConfig config = laneConfigs.getOrDefault(priority, LaneConfig.DEFAULT);
+            lanes.put(priority, new Lane(priority, config, lock.newCondition()));
+        }
+        for (NotificationPriority priority : PRIORITIES) {
+            Lane lane = lanes.get(priority);
+            for (int i = 1; i <= lane.config.workers(); i++) {
+                Thread worker = new Thread(() -> runWorker(lane),
+                        "notify-" + priority.name().toLowerCase() + "-" + i);
+                worker.setDaemon(true);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+    }
+
+    /**
+     * Returns the process-wide dispatcher with default lanes, starting it on first use. Its
+     * workers are daemon threads, so it needs no shutdown; it is shared by every
+     * {@link NotificationObserver} created without a dispatcher of its own.
+     */
+    public static NotificationDispatcher shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    private static final class SharedHolder {
+        static final NotificationDispatcher INSTANCE = withDefaultLanes();
+    }
+
+    /**
+     * Creates a dispatcher with capacities sized for typical deployment traffic.
+     */
+    public static NotificationDispatcher withDefaultLanes() {
+        Map<NotificationPriority, LaneConfig> configs = new EnumMap<>(NotificationPriority.class);
+        configs.put(NotificationPriority.INFO, new LaneConfig(4096, 1));
+        configs.put(NotificationPriority.WARNING, new LaneConfig(2048, 1));
+        configs.put(NotificationPriority.ERROR, new LaneConfig(1024, 1));
+        configs.put(NotificationPriority.CRITICAL, new LaneConfig(1024, 2));
+        return new NotificationDispatcher(configs);
+    }
+
+    /**
+     * Queues a delivery on the lane for the given priority.
+     *
+     * @return false if the dispatcher is shut down or the lane is full
+     */
+    public boolean submit(NotificationPriority priority, Runnable delivery) {
+        Lane lane = lanes.get(priority);
+        lock.lock();
+        try {
+            if (!running || lane.queue.size() >= lane.config.capacity()) {
+                lane.dropped.increment();
+                return false;
+            }
+            lane.queue.addLast(new PendingDelivery(delivery, System.nanoTime()));
+            wakeWorkerFor(priority);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every queued notification has been delivered.
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (inFlight > 0 || hasPending()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = idle.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting notifications, drains the queues and stops the workers.
+     */
+    public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        awaitIdle(timeout, unit);
+        lock.lock();
+        try {
+            running = false;
+            for (Lane lane : lanes.values()) {
+                lane.available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Thread worker : workers) {
+            worker.join(unit.toMillis(timeout));
+        }
+    }
+
+    public LatencyHistogram getLatencyHistogram(NotificationPriority priority) {
+        return lanes.get(priority).latency;
+    }
+
+    public int getQueueDepth(NotificationPriority priority) {
+        lock.lock();
+        try {
+            return lanes.get(priority).queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDroppedCount(NotificationPriority priority) {
+        return lanes.get(priority).dropped.sum();
+    }
+
+    public long getDeliveredCount(NotificationPriority priority) {
+        return lanes.get(priority).latency.getCount();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runWorker(Lane home) {
+        while (true) {
+            PendingDelivery delivery;
+            Lane source;
+            lock.lock();
+            try {
+                while ((source = highestPendingFrom(home.priority)) == null) {
+                    if (!running) {
+                        return;
+                    }
+                    home.waiting++;
+                    try {
+                        home.available.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } finally {
+                        home.waiting--;
+                    }
+                }
+                delivery = source.queue.pollFirst();
+                inFlight++;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                delivery.task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Notification delivery failed on " + source.priority + " lane: " + e.getMessage());
+            } finally {
+                source.latency.record(System.nanoTime() - delivery.enqueuedAtNanos);
+                lock.lock();
+                try {
+                    inFlight--;
+                    if (inFlight == 0 && !hasPending()) {
+                        idle.signalAll();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the most urgent non-empty lane a worker of the given lane may serve.
+     * Must be called with the lock held.
+     */
+    private Lane highestPendingFrom(NotificationPriority floor) {
+        for (int i = PRIORITIES.length - 1; i >= floor.ordinal(); i--) {
+            Lane lane = lanes.get(PRIORITIES[i]);
+            if (!lane.queue.isEmpty()) {
+                return lane;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wakes an idle worker eligible for the given priority, preferring the lane's own workers.
+     * Must be called with the lock held.
+     */
+    private void wakeWorkerFor(NotificationPriority priority) {
+        for (int i = priority.ordinal(); i >= 0; i--) {
+            Lane lane = lanes.get(PRIORITIES[i]);
+            if (lane.waiting > 0) {
+                lane.available.signal();
+                return;
+            }
+        }
+    }
+
+    private boolean hasPending() {
+        for (Lane lane : lanes.values()) {
+            if (!lane.queue.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Capacity settings for a single priority lane.
+     */
+    public record LaneConfig(int capacity, int workers) {
+        static final LaneConfig DEFAULT = new LaneConfig(1024, 1);
+
+        public LaneConfig {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Lane capacity must be positive");
+            }
+            if (workers <= 0) {
+                throw new IllegalArgumentException("Lane must have at least one worker");
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final NotificationPriority priority;
+        private final LaneConfig config;
+        private final Condition available;
+        private final ArrayDeque<PendingDelivery> queue = new ArrayDeque<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder dropped = new LongAdder();
+        private int waiting;
+
+        private Lane(NotificationPriority priority, LaneConfig config, Condition available) {
+            this.priority = priority;
+            this.config = config;
+            this.available = available;
+        }
+    }
+
+    private record PendingDelivery(Runnable task, long enqueuedAtNanos) {
+    }
+}
@@ -1,25 +1,54 @@
 package com.environment.manager.observer;
 
+import com.environment.manager.event.DeploymentEvent;
+import com.environment.manager.event.EnvironmentLifecycleEvent;
+import com.environment.manager.event.EventBus;
+import com.environment.manager.event.HealthEvent;
+import com.environment.manager.event.RollbackEvent;
+import com.environment.manager.event.ValidationEvent;
 import com.environment.manager.model.Environment;
 import com.environment.manager.model.Service;
 
-import java.util.ArrayList;
+import com.environment.manager.util.util.LatencyHistogram;
+
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Observer for sending notifications about environment and deployment events.
  * Supports multiple notification channels (email, slack, etc.)
+ * Delivery is asynchronous, through one lane per {@link NotificationPriority}.
  */
 public class NotificationObserver {
-    private final List<NotificationChannel> channels = new ArrayList<>();
-    private boolean enabled = true;
-
+    private final List<NotificationChannel> channels = new CopyOnWriteArrayList<>();
+    private final NotificationDispatcher dispatcher;
+    // Only a dispatcher passed in by the caller is shut down with this observer
+    private final boolean ownsDispatcher;
+    private volatile boolean enabled = true;
+
+    /**
+     * Creates an observer with the default channels that delivers through
+     * {@link NotificationDispatcher#shared()}, so observers created this way share one set of
+     * worker threads.
+     */
     public NotificationObserver() {
+        this.dispatcher = NotificationDispatcher.shared();
+        this.ownsDispatcher = false;
         // Initialize with default channels
         channels.add(new EmailNotificationChannel());
         channels.add(new SlackNotificationChannel());
     }
 
+    /**
+     * Creates an observer without default channels that delivers through the given dispatcher,
+     * which {@link #shutdown()} shuts down.
+     */
+    public NotificationObserver(NotificationDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.ownsDispatcher = true;
+    }
+
     public void addChannel(NotificationChannel channel) {
         channels.add(channel);
     }
@@ -40,6 +69,82 @@ public class NotificationObserver {
         return enabled;
     }
 
+    /**
+     * Waits until all queued notifications have been delivered.
+     */
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        return dispatcher.awaitIdle(timeout, unit);
+    }
+
+    /**
+     * Shuts down the dispatcher this observer was given, after delivering what is queued. On
+     * the shared dispatcher it only waits for queued notifications to be delivered.
+     */
+    public void shutdown() throws InterruptedException {
+        if (ownsDispatcher) {
+            dispatcher.shutdown(30, TimeUnit.SECONDS);
+        } else {
+            dispatcher.awaitIdle(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Returns the enqueue-to-delivery latency histogram of a priority lane.
+     */
+    public LatencyHistogram getDeliveryLatency(NotificationPriority priority) {
+        return dispatcher.getLatencyHistogram(priority);
+    }
+
+    public NotificationDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Subscribes this observer to every topic of the event bus that produces notifications.
+     *
+     * @return the subscriptions, so callers can cancel them
+     */
+    public List<EventBus.Subscription> subscribeTo(EventBus eventBus) {
+        return List.of(
+                eventBus.subscribe(DeploymentEvent.class, event -> {
+                    switch (event.phase()) {
+                        case STARTED -> onDeploymentStarted(event.environment(), event.service(),
+                                event.version(), event.deployedBy());
+                        case SUCCEEDED -> onDeploymentCompleted(event.environment(), event.service(),
+                                event.version(), true);
+                        case FAILED -> onDeploymentFailed(event.environment(), event.service(),
+                                event.version(), event.error());
+                    }
+                }),
+                eventBus.subscribe(RollbackEvent.class, event -> {
+                    if (event.phase() == RollbackEvent.Phase.STARTED) {
+                        onRollbackStarted(event.environment(), event.service().getId(), event.initiatedBy());
+                    } else {
+                        onRollbackCompleted(event.environment(), event.service().getId(),
+                                event.phase() == RollbackEvent.Phase.SUCCEEDED);
+                    }
+                }),
+                eventBus.on(ValidationEvent.class)
+                        .filter(event -> !event.passed())
+                        .subscribe(event -> onValidationFailed(event.environment(), event.errors())),
+                eventBus.subscribe(HealthEvent.class, event -> {
+                    switch (event.severity()) {
+                        case WARNING -> onHealthCheckWarning(event.environment(), event.message());
+                        case CRITICAL -> onHealthCheckCritical(event.environment(), event.message());
+                        default -> { }
+                    }
+                }),
+                eventBus.subscribe(EnvironmentLifecycleEvent.class, event -> {
+                    switch (event.change()) {
+                        case CREATED -> onEnvironmentCreated(event.environment(), event.actor());
+                        case UPDATED -> onEnvironmentUpdated(event.environment(), event.actor(), event.details());
+                        case ERROR -> onEnvironmentError(event.environment(), event.details());
+                        default -> { }
+                    }
+                })
+        );
+    }
+
     // Deployment Events
     public void onDeploymentStarted(Environment environment, Service service, String version, String deployedBy) {
         if (!enabled) return;
@@ -272,8 +377,15 @@ public class NotificationObserver {
         sendNotification("MANUAL_NOTIFICATION", fullMessage, priority);
     }
 
-    // Private helper method
+    // Private helper methods
     private void sendNotification(String eventType, String message, NotificationPriority priority) {
+        boolean queued = dispatcher.submit(priority, () -> deliver(eventType, message, priority));
+        if (!queued) {
+            System.err.println("Dropped " + priority + " notification " + eventType + ": lane is full or shut down");
+        }
+    }
+
+    private void deliver(String eventType, String message, NotificationPriority priority) {
         for (NotificationChannel channel : channels) {
             try {
                 if (channel.isEnabled() && channel.supportsPriority(priority)) {
@@ -295,6 +407,7 @@ public class NotificationObserver {
         void setEnabled(boolean enabled);
     }
 
+    // Declared in ascending urgency; NotificationDispatcher relies on this order
     public enum NotificationPriority {
         INFO,       // Informational messages
         WARNING,    // Warning messages
@@ -0,0 +1,168 @@
+package com.environment.manager.observer;
+
+import com.environment.manager.observer.NotificationObserver.NotificationChannel;
+import com.environment.manager.observer.NotificationObserver.NotificationPriority;
+import com.environment.manager.util.util.LatencyHistogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Notification channel that POSTs a compact JSON payload to a webhook endpoint.
+ * A single {@link HttpClient} is shared by all sends, so connections are reused
+ * (multiplexed over HTTP/2 when the endpoint supports it, keep-alive otherwise).
+ * Sends are asynchronous; at most {@code maxConcurrentRequests} are in flight and
+ * callers block once that limit is reached.
+ */
+public class WebhookNotificationChannel implements NotificationChannel {
+    private final HttpClient client;
+    private final URI endpoint;
+    private final Duration requestTimeout;
+    private final int maxConcurrentRequests;
+    private final Semaphore inFlight;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile NotificationPriority minimumPriority = NotificationPriority.INFO;
+    private volatile boolean enabled = true;
+
+    public WebhookNotificationChannel(URI endpoint) {
+        this(endpoint, 64, Duration.ofSeconds(10));
+    }
+
+    public WebhookNotificationChannel(URI endpoint, int maxConcurrentRequests, Duration requestTimeout) {
+        this(endpoint, maxConcurrentRequests, requestTimeout, HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(requestTimeout)
+                .build());
+    }
+
+    WebhookNotificationChannel(URI endpoint, int maxConcurrentRequests, Duration requestTimeout, HttpClient client) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+        }
+        this.endpoint = Objects.requireNonNull(endpoint, "Webhook endpoint cannot be null");
+        this.requestTimeout = Objects.requireNonNull(requestTimeout, "Request timeout cannot be null");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.inFlight = new Semaphore(maxConcurrentRequests);
+        this.client = client;
+    }
+
+    @Override
+    public void sendNotification(String eventType, String message, NotificationPriority priority) {
+        sendAsync(eventType, message, priority);
+    }
+
+    /**
+     * Sends a notification without waiting for the response.
+     *
+     * @return future completing with the HTTP status code, or exceptionally on transport failure
+     */
+    public CompletableFuture<Integer> sendAsync(String eventType, String message, NotificationPriority priority) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(encodePayload(eventType, message, priority)))
+                .build();
+
+        inFlight.acquireUninterruptibly();
+        long startedAt = System.nanoTime();
+        CompletableFuture<HttpResponse<Void>> pending;
+        try {
+            pending = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        } catch (RuntimeException e) {
+            // Rejected before anything was sent; the permit would otherwise never be released
+            failed.increment();
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        return pending
+                .whenComplete((response, error) -> {
+                    latency.record(System.nanoTime() - startedAt);
+                    if (error == null && response.statusCode() < 400) {
+                        delivered.increment();
+                    } else {
+                        failed.increment();
+                    }
+                    inFlight.release();
+                })
+                .thenApply(HttpResponse::statusCode);
+    }
+
+    /**
+     * Waits until every in-flight request has completed.
+     */
+    public boolean awaitInFlight(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!inFlight.tryAcquire(maxConcurrentRequests, timeout, unit)) {
+            return false;
+        }
+        inFlight.release(maxConcurrentRequests);
+        return true;
+    }
+
+    /**
+     * Encodes a notification as single-line JSON, e.g.
+     * {@code {"event":"DEPLOYMENT_FAILED","priority":"ERROR","text":"..."}}.
+     */
+    static String encodePayload(String eventType, String message, NotificationPriority priority) {
+        StringBuilder json = new StringBuilder(48 + eventType.length() + message.length());
+        json.append("{\"event\":");
+        appendJsonString(json, eventType);
+        json.append(",\"priority\":\"").append(priority.name()).append("\",\"text\":");
+        appendJsonString(json, message);
+        return json.append('}').toString();
+    }
+
+    private static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    @Override
+    public boolean supportsPriority(NotificationPriority priority) {
+        return priority.compareTo(minimumPriority) >= 0;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setMinimumPriority(NotificationPriority minimumPriority) {
+        this.minimumPriority = Objects.requireNonNull(minimumPriority);
+    }
+
+    public URI getEndpoint() { return endpoint; }
+    public LatencyHistogram getLatency() { return latency; }
+    public long getDeliveredCount() { return delivered.sum(); }
+    public long getFailedCount() { return failed.sum(); }
+}
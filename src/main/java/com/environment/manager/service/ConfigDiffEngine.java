@@ -0,0 +1,141 @@
+package com.environment.manager.service;
+
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.Environment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Compares the configuration of environments key by key.
+ *
+ * <p>Each environment's configuration is reduced, once per configuration version, to its
+ * keys in sorted order and the content hash of each item. Two environments are then
+ * compared by merging their sorted keys in a single linear pass, comparing hashes instead
+ * of values. Differences are reported through {@link ConfigDifference}, which never
+ * carries the value of an encrypted item.
+ */
+public class ConfigDiffEngine {
+
+    private final Map<String, Digest> digests = new ConcurrentHashMap<>();
+
+    /**
+     * Returns every difference of the other environment from the baseline, in key order.
+     */
+    public ConfigDiff diff(Environment baseline, Environment other) {
+        List<ConfigDifference> differences = new ArrayList<>();
+        compare(baseline, other, differences::add);
+        return new ConfigDiff(baseline.getId(), other.getId(), List.copyOf(differences));
+    }
+
+    /**
+     * Reports every difference of the other environment from the baseline, in key order.
+     */
+    public void compare(Environment baseline, Environment other, Consumer<? super ConfigDifference> sink) {
+        Digest a = digest(baseline);
+        Digest b = digest(other);
+        if (a.snapshot() == b.snapshot()) {
+            return;
+        }
+        String environmentId = other.getId();
+        int i = 0;
+        int j = 0;
+        while (i < a.keys().length || j < b.keys().length) {
+            int order = i == a.keys().length ? 1
+                    : j == b.keys().length ? -1
+                    : a.keys()[i].compareTo(b.keys()[j]);
+            if (order < 0) {
+                sink.accept(ConfigDifference.of(environmentId, a.items()[i++], null));
+            } else if (order > 0) {
+                sink.accept(ConfigDifference.of(environmentId, null, b.items()[j++]));
+            } else {
+                if (a.hashes()[i] != b.hashes()[j]) {
+                    sink.accept(ConfigDifference.of(environmentId, a.items()[i], b.items()[j]));
+                }
+                i++;
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Lazily compares the baseline with every other environment of the fleet, one
+     * environment at a time, so results can be consumed while the fleet is still being compared.
+     */
+    public Stream<ConfigDifference> compareWithFleet(Environment baseline, Collection<? extends Environment> fleet) {
+        return fleet.stream()
+                .filter(environment -> environment != baseline)
+                .flatMap(environment -> {
+                    List<ConfigDifference> differences = new ArrayList<>();
+                    compare(baseline, environment, differences::add);
+                    return differences.stream();
+                });
+    }
+
+    public void invalidate(String environmentId) {
+        digests.remove(environmentId);
+    }
+
+    private Digest digest(Environment environment) {
+        Digest digest = digests.get(environment.getId());
+        if (digest == null || digest.environment() != environment
+                || digest.configVersion() != environment.getConfigurationVersion()) {
+            digest = Digest.of(environment);
+            digests.put(environment.getId(), digest);
+        }
+        return digest;
+    }
+
+    /**
+     * An environment's items sorted by key, with their content hashes alongside.
+     */
+    private record Digest(Environment environment, long configVersion, Map<String, ConfigItem> snapshot,
+                          String[] keys, long[] hashes, ConfigItem[] items) {
+
+        static Digest of(Environment environment) {
+            long configVersion = environment.getConfigurationVersion();
+            Map<String, ConfigItem> snapshot = environment.getConfigurations();
+            ConfigItem[] items = snapshot.values().toArray(new ConfigItem[0]);
+            Arrays.sort(items, (x, y) -> x.getKey().compareTo(y.getKey()));
+            String[] keys = new String[items.length];
+            long[] hashes = new long[items.length];
+            for (int i = 0; i < items.length; i++) {
+                keys[i] = items[i].getKey();
+                hashes[i] = items[i].getContentHash();
+            }
+            return new Digest(environment, configVersion, snapshot, keys, hashes, items);
+        }
+    }
+
+    /**
+     * The differences of one environment from a baseline.
+     */
+    public record ConfigDiff(String baselineId, String otherId, List<ConfigDifference> differences) {
+
+        public List<ConfigDifference> getAdded() {
+            return ofKind(ConfigDifference.Kind.ADDED);
+        }
+
+        public List<ConfigDifference> getRemoved() {
+            return ofKind(ConfigDifference.Kind.REMOVED);
+        }
+
+        public List<ConfigDifference> getChanged() {
+            return ofKind(ConfigDifference.Kind.CHANGED);
+        }
+
+        public boolean isEmpty() {
+            return differences.isEmpty();
+        }
+
+        private List<ConfigDifference> ofKind(ConfigDifference.Kind kind) {
+            return differences.stream().filter(difference -> difference.kind() == kind).toList();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.environment.manager.service;
+
+import com.environment.manager.model.ConfigItem;
+
+/**
+ * One configuration key that differs between a baseline environment and another one.
+ * Values of encrypted items are replaced by {@link ConfigItem#MASKED_VALUE}; a change to
+ * them is reported, but never what it was.
+ *
+ * @param baselineValue null when the key was added
+ * @param otherValue    null when the key was removed
+ */
+public record ConfigDifference(String environmentId, String key, Kind kind,
+                               String baselineValue, String otherValue, boolean encrypted) {
+
+    public enum Kind {
+        /** Present in the other environment only. */
+        ADDED,
+        /** Present in the baseline only. */
+        REMOVED,
+        /** Present in both with a different value, type or encryption. */
+        CHANGED
+    }
+
+    static ConfigDifference of(String environmentId, ConfigItem baseline, ConfigItem other) {
+        String key = baseline != null ? baseline.getKey() : other.getKey();
+        Kind kind = baseline == null ? Kind.ADDED : other == null ? Kind.REMOVED : Kind.CHANGED;
+        boolean encrypted = (baseline != null && baseline.isEncrypted()) || (other != null && other.isEncrypted());
+        return new ConfigDifference(environmentId, key, kind,
+                displayValue(baseline, encrypted), displayValue(other, encrypted), encrypted);
+    }
+
+    private static String displayValue(ConfigItem item, boolean encrypted) {
+        if (item == null) {
+            return null;
+        }
+        // Once either side is encrypted, neither side's value is shown
+        return encrypted ? ConfigItem.MASKED_VALUE : item.getValue();
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case ADDED -> String.format("+ %s=%s", key, otherValue);
+            case REMOVED -> String.format("- %s=%s", key, baselineValue);
+            case CHANGED -> String.format("~ %s: %s -> %s", key, baselineValue, otherValue);
+        };
+    }
+}
@@ -1,14 +1,34 @@
 package com.environment.manager.service;
 
+import com.environment.manager.io.ConfigExporter;
+import com.environment.manager.io.ConfigImporter;
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.ConfigLayer;
+import com.environment.manager.model.ConfigMerkleTree;
 import com.environment.manager.model.Environment;
+import com.environment.manager.model.EnvironmentType;
 import com.environment.manager.repository.EnvironmentRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class ConfigurationService {
     private final EnvironmentRepository repository;
+    // Global defaults, overridden per tier, overridden per environment
+    private final ConfigLayer globalLayer = new ConfigLayer("global");
+    private final Map<EnvironmentType, ConfigLayer> tierLayers = new EnumMap<>(EnvironmentType.class);
+    private final ConfigDiffEngine diffEngine = new ConfigDiffEngine();
 
     public ConfigurationService(EnvironmentRepository repository) {
         this.repository = repository;
+        for (EnvironmentType type : EnvironmentType.values()) {
+            tierLayers.put(type, globalLayer.child(type.getCode()));
+        }
     }
 
     public List<Environment> getEnvironmentsByType(String type) {
@@ -16,4 +36,72 @@ public class ConfigurationService {
                 .filter(env -> env.getType().name().equalsIgnoreCase(type))
                 .toList();
     }
+
+    /**
+     * Returns how the configuration of one environment differs from a baseline environment.
+     */
+    public ConfigDiffEngine.ConfigDiff diff(String baselineId, String otherId) {
+        return diffEngine.diff(findEnvironment(baselineId), findEnvironment(otherId));
+    }
+
+    /**
+     * Streams the differences of every other stored environment from the baseline.
+     */
+    public Stream<ConfigDifference> compareWithFleet(String baselineId) {
+        return diffEngine.compareWithFleet(findEnvironment(baselineId), repository.findAll());
+    }
+
+    /**
+     * Returns, for each stored environment of the type whose configuration differs from the
+     * template, the keys that differ. Environments are compared by the root hash of their
+     * configuration tree first, and key by key only inside differing buckets.
+     */
+    public Map<String, List<String>> detectDrift(EnvironmentType type, Map<String, ConfigItem> template) {
+        ConfigMerkleTree expected = ConfigMerkleTree.of(template);
+        Map<String, List<String>> drift = new LinkedHashMap<>();
+        for (Environment environment : repository.findByType(type)) {
+            ConfigMerkleTree actual = environment.getConfigurationTree();
+            if (actual.getRootHash() != expected.getRootHash()) {
+                drift.put(environment.getId(), expected.differingKeys(actual));
+            }
+        }
+        return drift;
+    }
+
+    /**
+     * Imports a properties, JSON or YAML file into the environment; see {@link ConfigImporter}.
+     */
+    public ConfigImporter.ImportResult importConfiguration(String environmentId, Path file, String importedBy)
+            throws IOException {
+        return new ConfigImporter(importedBy).importFile(file, findEnvironment(environmentId));
+    }
+
+    /**
+     * Exports the environment's unencrypted configuration to a properties, JSON or YAML file.
+     */
+    public int exportConfiguration(String environmentId, Path file) throws IOException {
+        return new ConfigExporter().exportFile(findEnvironment(environmentId), file);
+    }
+
+    private Environment findEnvironment(String environmentId) {
+        return repository.findById(environmentId)
+                .orElseThrow(() -> new IllegalArgumentException("Environment not found: " + environmentId));
+    }
+
+    public ConfigLayer getGlobalLayer() {
+        return globalLayer;
+    }
+
+    public ConfigLayer getTierLayer(EnvironmentType type) {
+        return tierLayers.get(type);
+    }
+
+    /**
+     * Makes every stored environment inherit the configuration of its tier layer.
+     */
+    public void inheritTierConfiguration() {
+        for (Environment environment : repository.findAll()) {
+            environment.inheritConfiguration(getTierLayer(environment.getType()));
+        }
+    }
 }
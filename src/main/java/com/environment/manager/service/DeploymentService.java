@@ -1,32 +1,86 @@
 package com.environment.manager.service;
 
+import com.environment.manager.event.DeploymentEvent;
+import com.environment.manager.event.EventBus;
+import com.environment.manager.event.HealthEvent;
+import com.environment.manager.event.RollbackEvent;
+import com.environment.manager.event.ValidationEvent;
 import com.environment.manager.model.*;
 import com.environment.manager.repository.EnvironmentRepository;
 import com.environment.manager.strategy.DeploymentStrategy;
 import com.environment.manager.observer.DeploymentObserver;
+import com.environment.manager.validator.CircuitBreaker;
+import com.environment.manager.validator.CircuitBreakerRegistry;
+import com.environment.manager.validator.HealthMonitor;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DeploymentService {
     private final EnvironmentRepository repository;
+    private final EventBus eventBus;
     private DeploymentStrategy deploymentStrategy;
-    private final List<DeploymentObserver> observers = new ArrayList<>();
+    private volatile HealthMonitor healthMonitor;
+    private volatile CircuitBreakerRegistry circuitBreakers;
+    private final Map<DeploymentObserver, List<EventBus.Subscription>> observerSubscriptions =
+            new ConcurrentHashMap<>();
 
     public DeploymentService(EnvironmentRepository repository) {
+        this(repository, new EventBus());
+    }
+
+    public DeploymentService(EnvironmentRepository repository, EventBus eventBus) {
         this.repository = repository;
+        this.eventBus = eventBus;
+    }
+
+    public EventBus getEventBus() {
+        return eventBus;
     }
 
     public void setDeploymentStrategy(DeploymentStrategy strategy) {
         this.deploymentStrategy = strategy;
     }
 
+    /**
+     * Refuses deployments to environments whose cached health is critical.
+     */
+    public void setHealthMonitor(HealthMonitor healthMonitor) {
+        this.healthMonitor = healthMonitor;
+    }
+
+    /**
+     * Fails deployments fast while an environment's circuit breaker is open, and feeds
+     * deployment outcomes back into the breakers.
+     */
+    public void setCircuitBreakers(CircuitBreakerRegistry circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    /**
+     * Registers a classic observer as deployment and rollback subscriptions on the event bus.
+     */
     public void addObserver(DeploymentObserver observer) {
-        observers.add(observer);
+        EventBus.Subscription deployments = eventBus.subscribe(DeploymentEvent.class, event -> {
+            switch (event.phase()) {
+                case STARTED -> observer.onDeploymentStart(event.environment(), event.service(), event.version());
+                case SUCCEEDED -> observer.onDeploymentSuccess(event.environment(), event.service(), event.version());
+                case FAILED -> observer.onDeploymentFailure(event.environment(), event.service(), event.version(),
+                        event.error());
+            }
+        });
+        EventBus.Subscription rollbacks = eventBus.on(RollbackEvent.class)
+                .filter(event -> event.phase() == RollbackEvent.Phase.STARTED)
+                .subscribe(event -> observer.onRollback(event.environment(), event.service()));
+        observerSubscriptions.put(observer, List.of(deployments, rollbacks));
     }
 
     public void removeObserver(DeploymentObserver observer) {
-        observers.remove(observer);
+        List<EventBus.Subscription> subscriptions = observerSubscriptions.remove(observer);
+        if (subscriptions != null) {
+            subscriptions.forEach(EventBus.Subscription::cancel);
+        }
     }
 
     public boolean deployToEnvironment(String environmentName, Service service, String version, String deployedBy) {
@@ -35,11 +89,27 @@ public class DeploymentService {
                     // Validate environment
                     List<String> validationIssues = environment.validate();
                     if (!validationIssues.isEmpty()) {
+                        eventBus.publish(ValidationEvent.of(environment, validationIssues, List.of()));
                         System.out.println("❌ Validation failed:");
                         validationIssues.forEach(System.out::println);
                         return false;
                     }
 
+                    // Check cached health; no network round trip
+                    HealthMonitor monitor = healthMonitor;
+                    if (monitor != null) {
+                        List<String> healthIssues = monitor.getCachedHealth(environment.getId())
+                                .filter(snapshot -> snapshot.severity() == HealthEvent.Severity.CRITICAL)
+                                .map(HealthMonitor.HealthSnapshot::getProblems)
+                                .orElse(List.of());
+                        if (!healthIssues.isEmpty()) {
+                            eventBus.publish(ValidationEvent.of(environment, healthIssues, List.of()));
+                            System.out.println("❌ Environment is unhealthy:");
+                            healthIssues.forEach(System.out::println);
+                            return false;
+                        }
+                    }
+
                     // Check if approval is required
                     if (environment.requiresApproval()) {
                         System.out.println("⚠️ Approval required for " + environment.getType().getDescription());
@@ -48,15 +118,29 @@ public class DeploymentService {
                         // For demo, auto-approve if user enters 'yes' in console
                     }
 
-                    // Record deployment
-                    environment.recordDeployment(version, deployedBy);
-                    environment.updateStatus(DeploymentStatus.IN_PROGRESS);
-
-                    // Notify observers
-                    notifyDeploymentStart(environment, service, version);
+                    // Fail fast while the environment's circuit breaker is open. Once a permit is
+                    // held, the finally block reports the outcome whatever fails below, so a
+                    // half-open breaker never keeps its trial call in flight.
+                    CircuitBreaker breaker = circuitBreakers == null ? null
+                            : circuitBreakers.forEnvironment(environment.getId());
+                    if (breaker != null && !breaker.tryAcquire()) {
+                        String error = "Circuit breaker open for " + environment.getId() + ", retry in "
+                                + breaker.getRemainingOpenTime().toSeconds() + "s";
+                        System.out.println("❌ " + error);
+                        eventBus.publish(DeploymentEvent.failed(environment, service, version, deployedBy, error));
+                        return false;
+                    }
 
-                    // Perform deployment using strategy
+                    boolean succeeded = false;
                     try {
+                        // Record deployment
+                        environment.recordDeployment(version, deployedBy);
+                        environment.updateStatus(DeploymentStatus.IN_PROGRESS);
+
+                        // Notify observers
+                        eventBus.publish(DeploymentEvent.started(environment, service, version, deployedBy));
+
+                        // Perform deployment using strategy
                         if (deploymentStrategy != null) {
                             deploymentStrategy.deploy(environment, service, version);
                         } else {
@@ -70,16 +154,26 @@ public class DeploymentService {
                         environment.setCurrentVersion(version);
                         environment.addService(service);
                         repository.save(environment);
-
-                        // Notify success
-                        notifyDeploymentSuccess(environment, service, version);
-                        return true;
+                        succeeded = true;
 
                     } catch (Exception e) {
                         environment.updateStatus(DeploymentStatus.FAILED);
-                        notifyDeploymentFailure(environment, service, version, e.getMessage());
+                        eventBus.publish(DeploymentEvent.failed(environment, service, version, deployedBy,
+                                e.getMessage()));
                         return false;
+                    } finally {
+                        if (breaker != null) {
+                            if (succeeded) {
+                                breaker.recordSuccess();
+                            } else {
+                                breaker.recordFailure();
+                            }
+                        }
                     }
+
+                    // Notify success
+                    eventBus.publish(DeploymentEvent.succeeded(environment, service, version, deployedBy));
+                    return true;
                 })
                 .orElseGet(() -> {
                     System.out.println("❌ Environment not found: " + environmentName);
@@ -119,8 +213,8 @@ public class DeploymentService {
                             .filter(service -> service.getId().equals(serviceId))
                             .findFirst()
                             .ifPresent(service -> {
-                                // Notify observers
-                                observers.forEach(obs -> obs.onRollback(environment, service));
+                                // Notify subscribers
+                                eventBus.publish(RollbackEvent.started(environment, service, "system"));
 
                                 // Remove service
                                 environment.removeService(serviceId);
@@ -130,21 +224,10 @@ public class DeploymentService {
                                 environment.updateStatus(DeploymentStatus.ROLLED_BACK);
 
                                 repository.save(environment);
+                                eventBus.publish(RollbackEvent.completed(environment, service, "system", true));
                             });
                     return true;
                 })
                 .orElse(false);
     }
-
-    private void notifyDeploymentStart(Environment environment, Service service, String version) {
-        observers.forEach(obs -> obs.onDeploymentStart(environment, service, version));
-    }
-
-    private void notifyDeploymentSuccess(Environment environment, Service service, String version) {
-        observers.forEach(obs -> obs.onDeploymentSuccess(environment, service, version));
-    }
-
-    private void notifyDeploymentFailure(Environment environment, Service service, String version, String error) {
-        observers.forEach(obs -> obs.onDeploymentFailure(environment, service, version, error));
-    }
 }
\ No newline at end of file
@@ -1,15 +1,48 @@
 package com.environment.manager.service;
 
 import com.environment.manager.model.Environment;
+import com.environment.manager.model.FleetVersions;
+import com.environment.manager.model.SemVer;
 import com.environment.manager.repository.EnvironmentRepository;
+import com.environment.manager.util.util.Constants;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 public class ValidationService {
     private final EnvironmentRepository repository;
+    private final int parallelism;
+    private final ExecutorService executor;
 
     public ValidationService(EnvironmentRepository repository) {
+        this(repository, Constants.MAX_CONCURRENT_VALIDATIONS);
+    }
+
+    public ValidationService(EnvironmentRepository repository, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
         this.repository = repository;
+        this.parallelism = parallelism;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "fleet-validation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     public List<String> validateAllEnvironments() {
@@ -17,7 +50,7 @@ public class ValidationService {
         List<Environment> environments = repository.findAll();
 
         for (Environment env : environments) {
-            List<String> issues = env.validate();
+            List<String> issues = env.getValidationIssues();
             if (!issues.isEmpty()) {
                 allIssues.add("Environment: " + env.getName());
                 allIssues.addAll(issues);
@@ -27,9 +60,175 @@ public class ValidationService {
         return allIssues;
     }
 
+    /**
+     * Validates every environment in parallel, using at most {@code parallelism} threads.
+     *
+     * <p>Each environment's result is passed to the listener on a worker thread as soon as it
+     * is available, so the listener must be thread-safe. The returned handle can cancel the
+     * sweep or wait for it with a timeout and collect whatever results are ready.
+     */
+    public FleetValidation validateAllEnvironmentsParallel(Consumer<? super EnvironmentReport> listener) {
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        List<Environment> environments = repository.findAll();
+        FleetValidation validation = new FleetValidation(environments.size());
+
+        // Workers pull environments from a shared cursor, so a cancelled sweep stops between
+        // environments without leaving thousands of queued tasks behind
+        AtomicInteger cursor = new AtomicInteger();
+        int workers = Math.min(parallelism, environments.size());
+        for (int i = 0; i < workers; i++) {
+            validation.workers.add(executor.submit(() -> {
+                int next;
+                while (!validation.cancelled && (next = cursor.getAndIncrement()) < environments.size()) {
+                    EnvironmentReport report = validate(environments.get(next));
+                    validation.results.add(report);
+                    try {
+                        listener.accept(report);
+                    } catch (RuntimeException e) {
+                        System.err.println("Validation listener failed: " + e.getMessage());
+                    }
+                }
+            }));
+        }
+        return validation;
+    }
+
+    /**
+     * Validates every environment in parallel and waits up to the timeout for the results.
+     * Environments not validated in time are left out and the sweep is cancelled.
+     */
+    public FleetReport validateAllEnvironmentsParallel(long timeout, TimeUnit unit) {
+        FleetValidation validation = validateAllEnvironmentsParallel(report -> { });
+        if (!validation.await(timeout, unit).complete()) {
+            validation.cancel();
+        }
+        return validation.getReport();
+    }
+
+    /**
+     * Returns a snapshot of the versions deployed across all environments.
+     */
+    public FleetVersions getFleetVersions() {
+        return FleetVersions.of(repository.findAll());
+    }
+
+    /**
+     * Returns the environments whose current version is below the floor, oldest first.
+     *
+     * @throws IllegalArgumentException if the floor is not a semantic version
+     */
+    public List<Environment> findEnvironmentsBelow(String floor) {
+        return getFleetVersions().findBelow(SemVer.parse(floor));
+    }
+
     public boolean isValidForDeployment(String environmentId) {
         return repository.findById(environmentId)
-                .map(env -> env.validate().isEmpty())
+                .map(env -> env.getValidationIssues().isEmpty())
                 .orElse(false);
     }
-}
\ No newline at end of file
+
+    /**
+     * Stops the validation threads.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static EnvironmentReport validate(Environment environment) {
+        long start = System.nanoTime();
+        List<String> issues;
+        try {
+            issues = environment.getValidationIssues();
+        } catch (RuntimeException e) {
+            issues = List.of("Validation failed: " + e.getMessage());
+        }
+        return new EnvironmentReport(environment.getId(), environment.getName(), issues,
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Validation outcome for one environment.
+     */
+    public record EnvironmentReport(String environmentId, String environmentName,
+                                    List<String> issues, long durationNanos) {
+        public boolean isValid() {
+            return issues.isEmpty();
+        }
+    }
+
+    /**
+     * Results of a fleet validation sweep, possibly partial.
+     */
+    public record FleetReport(List<EnvironmentReport> results, int totalEnvironments,
+                              boolean complete, boolean cancelled) {
+        public List<EnvironmentReport> getInvalid() {
+            return results.stream().filter(report -> !report.isValid()).toList();
+        }
+
+        public int getPendingCount() {
+            return totalEnvironments - results.size();
+        }
+    }
+
+    /**
+     * Handle to a running fleet validation sweep.
+     */
+    public static final class FleetValidation {
+        private final int totalEnvironments;
+        private final Queue<EnvironmentReport> results = new ConcurrentLinkedQueue<>();
+        // Written while the sweep starts, possibly while another thread cancels or awaits it
+        private final List<Future<?>> workers = new CopyOnWriteArrayList<>();
+        private volatile boolean cancelled;
+
+        private FleetValidation(int totalEnvironments) {
+            this.totalEnvironments = totalEnvironments;
+        }
+
+        /**
+         * Stops the sweep; environments already being validated finish, the rest are skipped.
+         */
+        public void cancel() {
+            cancelled = true;
+            for (Future<?> worker : workers) {
+                worker.cancel(true);
+            }
+        }
+
+        public boolean isDone() {
+            return workers.stream().allMatch(Future::isDone);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Waits for the sweep to finish, returning the results gathered when it finishes,
+         * is cancelled, or the timeout expires, whichever comes first.
+         */
+        public FleetReport await(long timeout, TimeUnit unit) {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            try {
+                for (Future<?> worker : workers) {
+                    worker.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (TimeoutException | CancellationException e) {
+                // Report what is available so far
+            } catch (ExecutionException e) {
+                System.err.println("Validation worker failed: " + e.getCause().getMessage());
+            }
+            return getReport();
+        }
+
+        /**
+         * Returns the results gathered so far without waiting.
+         */
+        public FleetReport getReport() {
+            List<EnvironmentReport> snapshot = List.copyOf(results);
+            return new FleetReport(snapshot, totalEnvironments,
+                    snapshot.size() == totalEnvironments, cancelled);
+        }
+    }
+}
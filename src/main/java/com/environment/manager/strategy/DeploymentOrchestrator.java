@@ -1,64 +1,117 @@
 package com.environment.manager.strategy;
 
+import com.environment.manager.event.DeploymentEvent;
+import com.environment.manager.event.EventBus;
+import com.environment.manager.event.RollbackEvent;
 import com.environment.manager.model.Environment;
 import com.environment.manager.model.Service;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class DeploymentOrchestrator {
     private DeploymentStrategy strategy;
-    private final List<DeploymentObserver> observers = new ArrayList<>();
+    private final EventBus eventBus;
+    private final List<DeploymentObserver> observers = new CopyOnWriteArrayList<>();
+    private final Map<DeploymentObserver, List<EventBus.Subscription>> observerSubscriptions =
+            new ConcurrentHashMap<>();
 
     public DeploymentOrchestrator(DeploymentStrategy strategy) {
+        this(strategy, new EventBus());
+    }
+
+    public DeploymentOrchestrator(DeploymentStrategy strategy, EventBus eventBus) {
         this.strategy = strategy;
+        this.eventBus = eventBus;
+    }
+
+    public EventBus getEventBus() {
+        return eventBus;
     }
 
     public void setStrategy(DeploymentStrategy strategy) {
         this.strategy = strategy;
-        notifyObservers("Strategy changed to: " + strategy.getClass().getSimpleName());
+        // Strategy changes are not environment events, so only message observers hear about them
+        for (DeploymentObserver observer : observers) {
+            observer.onDeploymentEvent("Strategy changed to: " + strategy.getClass().getSimpleName());
+        }
     }
 
     public boolean deploy(Environment environment, Service service, String version, String deployedBy) {
-        notifyObservers("Starting deployment to " + environment.getName());
+        eventBus.publish(DeploymentEvent.started(environment, service, version, deployedBy));
         boolean result = deployWithStrategy(strategy, environment, service, version, deployedBy);
 
-
         if (result) {
-            notifyObservers("Deployment successful to " + environment.getName());
+            eventBus.publish(DeploymentEvent.succeeded(environment, service, version, deployedBy));
         } else {
-            notifyObservers("Deployment failed to " + environment.getName());
+            eventBus.publish(DeploymentEvent.failed(environment, service, version, deployedBy,
+                    strategy.getStrategyName() + " failed"));
         }
 
         return result;
     }
 
     public boolean rollback(Environment environment, String serviceId) {
-        notifyObservers("Starting rollback for service: " + serviceId);
-        boolean result = rollbackWithStrategy(strategy, environment, serviceId);
+        Service service = findService(environment, serviceId);
+        if (service == null) {
+            // Without a service there is no typed event; tell message observers directly
+            for (DeploymentObserver observer : observers) {
+                observer.onDeploymentEvent("Rollback failed for service: " + serviceId);
+            }
+            return false;
+        }
 
-        if (result) {
-            notifyObservers("Rollback successful for service: " + serviceId);
-        } else {
-            notifyObservers("Rollback failed for service: " + serviceId);
+        eventBus.publish(RollbackEvent.started(environment, service, "orchestrator"));
+        try {
+            strategy.rollback(environment, service);
+        } catch (RuntimeException e) {
+            // Announce the failure, then let the caller see the cause as before
+            eventBus.publish(RollbackEvent.completed(environment, service, "orchestrator", false));
+            throw e;
         }
+        eventBus.publish(RollbackEvent.completed(environment, service, "orchestrator", true));
 
-        return result;
+        return true;
     }
 
+    /**
+     * Registers a message observer; deployment and rollback events are rendered as text for it.
+     */
     public void addObserver(DeploymentObserver observer) {
         observers.add(observer);
+        EventBus.Subscription deployments = eventBus.subscribe(DeploymentEvent.class, event -> {
+            switch (event.phase()) {
+                case STARTED -> observer.onDeploymentEvent("Starting deployment to " + event.environment().getName());
+                case SUCCEEDED -> observer.onDeploymentEvent("Deployment successful to " + event.environment().getName());
+                case FAILED -> observer.onDeploymentEvent("Deployment failed to " + event.environment().getName());
+            }
+        });
+        EventBus.Subscription rollbacks = eventBus.subscribe(RollbackEvent.class, event -> {
+            String serviceId = event.service().getId();
+            switch (event.phase()) {
+                case STARTED -> observer.onDeploymentEvent("Starting rollback for service: " + serviceId);
+                case SUCCEEDED -> observer.onDeploymentEvent("Rollback successful for service: " + serviceId);
+                case FAILED -> observer.onDeploymentEvent("Rollback failed for service: " + serviceId);
+            }
+        });
+        observerSubscriptions.put(observer, List.of(deployments, rollbacks));
     }
 
     public void removeObserver(DeploymentObserver observer) {
         observers.remove(observer);
-    }
-
-    private void notifyObservers(String message) {
-        for (DeploymentObserver observer : observers) {
-            observer.onDeploymentEvent(message);
+        List<EventBus.Subscription> subscriptions = observerSubscriptions.remove(observer);
+        if (subscriptions != null) {
+            subscriptions.forEach(EventBus.Subscription::cancel);
         }
     }
 
+    /**
+     * Plain-text observer kept for existing callers.
+     *
+     * @deprecated subscribe to {@link DeploymentEvent} and {@link RollbackEvent} on {@link #getEventBus()} instead
+     */
+    @Deprecated
     public interface DeploymentObserver {
         void onDeploymentEvent(String message);
     }
@@ -71,18 +124,10 @@ public class DeploymentOrchestrator {
             return false;
         }
     }
-    private boolean rollbackWithStrategy(DeploymentStrategy strategy, Environment environment,
-                                         String serviceId) {
-        // Find the service first
-        Service service = environment.getServices().stream()
+    private Service findService(Environment environment, String serviceId) {
+        return environment.getServices().stream()
                 .filter(s -> s.getId().equals(serviceId))
                 .findFirst()
                 .orElse(null);
-
-        if (service != null) {
-            strategy.rollback(environment, service);
-            return true;
-        }
-        return false;
     }
-}
\ No newline at end of file
+}
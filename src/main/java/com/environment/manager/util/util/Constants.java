@@ -46,7 +46,6 @@ public final class Constants {
     public static final String ENVIRONMENT_NAME_PATTERN = "^[A-Za-z0-9][A-Za-z0-9\\s-_]{2,99}$";
     public static final String SERVICE_ID_PATTERN = "^[a-z0-9][a-z0-9-]{2,99}$";
     public static final String SERVICE_NAME_PATTERN = "^[A-Za-z0-9][A-Za-z0-9\\s-_]{1,199}$";
-    public static final String VERSION_PATTERN = "^\\d+\\.\\d+\\.\\d+(-[A-Za-z0-9]+(\\.\\d+)?)?$";
     public static final String EMAIL_PATTERN = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
     public static final String URL_PATTERN = "^(https?|ftp)://[^\\s/$.?#].[^\\s]*$";
 
@@ -146,6 +145,10 @@ public final class Constants {
     public static final String LOG_LEVEL_ERROR = "ERROR";
     public static final String LOG_LEVEL_FATAL = "FATAL";
 
+    // Log File Rotation
+    public static final long LOG_MAX_FILE_SIZE_MB = 10; // rotate after 10MB
+    public static final int LOG_RETAINED_FILES = 5; // keep 5 rotated log files
+
     // Exit Codes
     public static final int EXIT_SUCCESS = 0;
     public static final int EXIT_ERROR = 1;
@@ -177,5 +180,10 @@ public final class Constants {
     // Performance Constants
     public static final int MAX_CONCURRENT_DEPLOYMENTS = 5;
     public static final int MAX_CONCURRENT_VALIDATIONS = 10;
+    public static final int MAX_HEALTH_CHECKS_PER_HOST = 16;
+    public static final int CIRCUIT_BREAKER_FAILURE_THRESHOLD = 3; // consecutive failures
+    public static final int CIRCUIT_BREAKER_OPEN_SECONDS = 30; // before a trial call
     public static final int CACHE_TTL_SECONDS = 300; // 5 minutes
+    public static final int MAX_CACHED_URLS = 10_000; // distinct URL strings with memoized syntax checks
+    public static final int CONFIG_IMPORT_BATCH_SIZE = 1000; // items staged per batch on import
 }
\ No newline at end of file
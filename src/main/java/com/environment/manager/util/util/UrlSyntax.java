@@ -0,0 +1,375 @@
+package com.environment.manager.util.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-pass URL syntax checks and scheme/host extraction.
+ *
+ * <p>A URL is valid when {@link java.net.URI} would parse it as an absolute URI with a
+ * server-based authority, that is, with a scheme and a host. {@link #check(String)} follows
+ * the same grammar over the characters of the string, without allocating. Strings with
+ * non-ASCII characters or IPv6 literals are rare enough to be handed to {@code URI} itself.
+ *
+ * <p>{@link #parse(String)} memoizes its result per distinct URL string, so re-validating
+ * the same fleet costs one map lookup per URL.
+ */
+public final class UrlSyntax {
+
+    /**
+     * Parsed parts of a URL; {@code scheme} and {@code host} are null and {@code port} is -1
+     * unless the URL is valid.
+     */
+    public record UrlParts(boolean valid, String scheme, String host, int port) {
+    }
+
+    private static final UrlParts INVALID = new UrlParts(false, null, null, -1);
+
+    private static final Map<String, UrlParts> PARSED = new ConcurrentHashMap<>();
+
+    // Character classes of RFC 2396 as used by java.net.URI, one bit per ASCII character
+    private static final long L_DIGIT = lowMask('0', '9');
+    private static final long H_ALPHA = highMask('A', 'Z') | highMask('a', 'z');
+    private static final long L_ALPHANUM = L_DIGIT;
+    private static final long H_ALPHANUM = H_ALPHA;
+    private static final long L_HEX = L_DIGIT;
+    private static final long H_HEX = highMask('A', 'F') | highMask('a', 'f');
+    private static final long L_SCHEME = L_ALPHANUM | lowMask("+-.");
+    private static final long H_SCHEME = H_ALPHANUM | highMask("+-.");
+    private static final long L_UNRESERVED = L_ALPHANUM | lowMask("-_.!~*'()");
+    private static final long H_UNRESERVED = H_ALPHANUM | highMask("-_.!~*'()");
+    private static final long L_RESERVED = lowMask(";/?:@&=+$,[]");
+    private static final long H_RESERVED = highMask(";/?:@&=+$,[]");
+    private static final long L_URIC = L_RESERVED | L_UNRESERVED;
+    private static final long H_URIC = H_RESERVED | H_UNRESERVED;
+    private static final long L_PATH = L_UNRESERVED | lowMask(":@&=+$,;/");
+    private static final long H_PATH = H_UNRESERVED | highMask(":@&=+$,;/");
+    private static final long L_SERVER = L_UNRESERVED | lowMask(";:&=+$,.:@[]");
+    private static final long H_SERVER = H_UNRESERVED | highMask(";:&=+$,.:@[]");
+
+    private UrlSyntax() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Returns whether the URL is syntactically valid, using the memoized result if present.
+     */
+    public static boolean isValid(String url) {
+        return parse(url).valid();
+    }
+
+    /**
+     * Returns the parts of the URL, parsing each distinct URL string only once.
+     */
+    public static UrlParts parse(String url) {
+        if (url == null) {
+            return INVALID;
+        }
+        UrlParts parts = PARSED.get(url);
+        if (parts == null) {
+            if (needsUri(url)) {
+                parts = parseWithUri(url);
+            } else {
+                parts = check(url) ? extract(url) : INVALID;
+            }
+            if (PARSED.size() >= Constants.MAX_CACHED_URLS) {
+                PARSED.clear();
+            }
+            PARSED.put(url, parts);
+        }
+        return parts;
+    }
+
+    /**
+     * Checks the URL's syntax without memoizing or allocating.
+     */
+    public static boolean check(String url) {
+        if (needsUri(url)) {
+            return parseWithUri(url).valid();
+        }
+        int n = url.length();
+
+        // scheme ":"
+        int colon = 0;
+        while (colon < n && url.charAt(colon) != ':' && !endsAuthority(url.charAt(colon))) {
+            colon++;
+        }
+        if (colon == 0 || colon == n || url.charAt(colon) != ':' || !matches(url.charAt(0), 0L, H_ALPHA)) {
+            return false;
+        }
+        for (int i = 1; i < colon; i++) {
+            if (!matches(url.charAt(i), L_SCHEME, H_SCHEME)) {
+                return false;
+            }
+        }
+
+        // "//" authority; without one there is no host
+        int p = colon + 1;
+        if (p + 1 >= n || url.charAt(p) != '/' || url.charAt(p + 1) != '/') {
+            return false;
+        }
+        p += 2;
+        int authorityEnd = p;
+        while (authorityEnd < n && !endsAuthority(url.charAt(authorityEnd))) {
+            authorityEnd++;
+        }
+        if (authorityEnd == p || !checkServer(url, p, authorityEnd)) {
+            return false;
+        }
+
+        // path [ "?" query ] [ "#" fragment ]
+        p = authorityEnd;
+        int q = p;
+        while (q < n && url.charAt(q) != '?' && url.charAt(q) != '#') {
+            q++;
+        }
+        if (!checkChars(url, p, q, L_PATH, H_PATH)) {
+            return false;
+        }
+        if (q < n && url.charAt(q) == '?') {
+            p = q + 1;
+            q = p;
+            while (q < n && url.charAt(q) != '#') {
+                q++;
+            }
+            if (!checkChars(url, p, q, L_URIC, H_URIC)) {
+                return false;
+            }
+        }
+        return q == n || checkChars(url, q + 1, n, L_URIC, H_URIC);
+    }
+
+    /**
+     * Checks a server-based authority, {@code [userinfo@]host[:port]}.
+     */
+    private static boolean checkServer(String url, int start, int end) {
+        // Every character must be a server character or an escape; this also covers the user info
+        if (!checkChars(url, start, end, L_SERVER, H_SERVER)) {
+            return false;
+        }
+        int p = start;
+        int at = url.indexOf('@', start);
+        if (at >= 0 && at < end) {
+            p = at + 1;
+        }
+
+        int q = scanIpv4(url, p, end);
+        if (q <= p) {
+            q = scanHostname(url, p, end);
+            if (q < 0) {
+                return false;
+            }
+        }
+        p = q;
+
+        if (p < end && url.charAt(p) == ':') {
+            long port = 0;
+            for (p++; p < end; p++) {
+                char c = url.charAt(p);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+                port = Math.min(port * 10 + (c - '0'), (long) Integer.MAX_VALUE + 1);
+            }
+            return port <= Integer.MAX_VALUE;
+        }
+        return p == end;
+    }
+
+    /**
+     * Scans a dotted-quad IPv4 address.
+     *
+     * @return the end of the address, or -1 if the host is not one
+     */
+    private static int scanIpv4(String url, int start, int end) {
+        int m = start;
+        while (m < end && (isDigit(url.charAt(m)) || url.charAt(m) == '.')) {
+            m++;
+        }
+        if (m == start) {
+            return -1;
+        }
+        int p = start;
+        for (int part = 0; part < 4; part++) {
+            if (part > 0) {
+                if (p >= m || url.charAt(p) != '.') {
+                    return -1;
+                }
+                p++;
+            }
+            int digits = p;
+            int value = 0;
+            while (p < m && isDigit(url.charAt(p))) {
+                value = Math.min(value * 10 + (url.charAt(p) - '0'), 256);
+                p++;
+            }
+            if (p == digits || value > 255) {
+                return -1;
+            }
+        }
+        if (p < m || (p < end && url.charAt(p) != ':')) {
+            return -1;
+        }
+        return p;
+    }
+
+    /**
+     * Scans a host name: dot-separated labels of letters, digits and inner hyphens, the last
+     * one starting with a letter.
+     *
+     * @return the end of the host name, or -1 if it is malformed
+     */
+    private static int scanHostname(String url, int start, int end) {
+        int p = start;
+        int lastLabel = -1;
+        while (p < end) {
+            if (!isAlphanumeric(url.charAt(p))) {
+                break;
+            }
+            lastLabel = p;
+            p++;
+            int labelEnd = p;
+            while (labelEnd < end && (isAlphanumeric(url.charAt(labelEnd)) || url.charAt(labelEnd) == '-')) {
+                labelEnd++;
+            }
+            if (url.charAt(labelEnd - 1) == '-') {
+                return -1;
+            }
+            p = labelEnd;
+            if (p == end || url.charAt(p) != '.') {
+                break;
+            }
+            p++;
+        }
+        if (p < end && url.charAt(p) != ':') {
+            return -1;
+        }
+        if (lastLabel < 0 || (lastLabel > start && !matches(url.charAt(lastLabel), 0L, H_ALPHA))) {
+            return -1;
+        }
+        return p;
+    }
+
+    /**
+     * Checks that every character in the range is in the class or is part of an escape.
+     */
+    private static boolean checkChars(String url, int start, int end, long lowMask, long highMask) {
+        for (int p = start; p < end; p++) {
+            char c = url.charAt(p);
+            if (matches(c, lowMask, highMask)) {
+                continue;
+            }
+            if (c != '%' || p + 3 > end || !matches(url.charAt(p + 1), L_HEX, H_HEX)
+                    || !matches(url.charAt(p + 2), L_HEX, H_HEX)) {
+                return false;
+            }
+            p += 2;
+        }
+        return true;
+    }
+
+    /**
+     * Extracts the parts of a URL known to be valid.
+     */
+    private static UrlParts extract(String url) {
+        int colon = url.indexOf(':');
+        int authorityStart = colon + 3;
+        int authorityEnd = authorityStart;
+        while (authorityEnd < url.length() && !endsAuthority(url.charAt(authorityEnd))) {
+            authorityEnd++;
+        }
+        int at = url.indexOf('@', authorityStart);
+        int hostStart = at >= 0 && at < authorityEnd ? at + 1 : authorityStart;
+        int hostEnd = url.indexOf(':', hostStart);
+        if (hostEnd < 0 || hostEnd > authorityEnd) {
+            hostEnd = authorityEnd;
+        }
+        int port = hostEnd + 1 < authorityEnd ? Integer.parseInt(url, hostEnd + 1, authorityEnd, 10) : -1;
+        return new UrlParts(true, url.substring(0, colon), url.substring(hostStart, hostEnd), port);
+    }
+
+    /**
+     * Returns whether the URL has non-ASCII characters or an IPv6 literal, which are left to {@code URI}.
+     */
+    private static boolean needsUri(String url) {
+        for (int i = 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c >= 128 || c == '[' || c == ']') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static UrlParts parseWithUri(String url) {
+        try {
+            URI uri = new URI(url);
+            if (uri.getScheme() != null && uri.getHost() != null) {
+                return new UrlParts(true, uri.getScheme(), uri.getHost(), uri.getPort());
+            }
+        } catch (URISyntaxException e) {
+            // Falls through to invalid
+        }
+        return INVALID;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return matches(c, L_ALPHANUM, H_ALPHANUM);
+    }
+
+    private static boolean endsAuthority(char c) {
+        return c == '/' || c == '?' || c == '#';
+    }
+
+    private static boolean matches(char c, long lowMask, long highMask) {
+        if (c < 64) {
+            return ((1L << c) & lowMask) != 0;
+        }
+        if (c < 128) {
+            return ((1L << (c - 64)) & highMask) != 0;
+        }
+        return false;
+    }
+
+    private static long lowMask(char first, char last) {
+        long mask = 0;
+        for (char c = first; c <= last; c++) {
+            if (c < 64) {
+                mask |= 1L << c;
+            }
+        }
+        return mask;
+    }
+
+    private static long highMask(char first, char last) {
+        long mask = 0;
+        for (char c = first; c <= last; c++) {
+            if (c >= 64 && c < 128) {
+                mask |= 1L << (c - 64);
+            }
+        }
+        return mask;
+    }
+
+    private static long lowMask(String chars) {
+        long mask = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            mask |= lowMask(chars.charAt(i), chars.charAt(i));
+        }
+        return mask;
+    }
+
+    private static long highMask(String chars) {
+        long mask = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            mask |= highMask(chars.charAt(i), chars.charAt(i));
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,93 @@
+package com.environment.manager.util.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable, append-only sink for validation messages.
+ *
+ * <p>Validators append messages instead of throwing, so a failing rule costs one array
+ * store rather than an exception with a captured stack trace. A sink can be cleared and
+ * reused across validations; {@link #toList()} copies out the messages to keep.
+ */
+public final class ValidationErrors {
+    private String[] messages;
+    private int size;
+
+    public ValidationErrors() {
+        this(8);
+    }
+
+    public ValidationErrors(int initialCapacity) {
+        this.messages = new String[Math.max(1, initialCapacity)];
+    }
+
+    public void add(String message) {
+        if (size == messages.length) {
+            messages = Arrays.copyOf(messages, size * 2);
+        }
+        messages[size++] = message;
+    }
+
+    public void addAll(List<String> messagesToAdd) {
+        for (String message : messagesToAdd) {
+            add(message);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return messages[index];
+    }
+
+    /**
+     * Drops every message appended after the first {@code newSize} ones.
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("Size " + newSize + " out of bounds for size " + size);
+        }
+        Arrays.fill(messages, newSize, size, null);
+        size = newSize;
+    }
+
+    public void clear() {
+        truncate(0);
+    }
+
+    /**
+     * Joins the messages appended since {@code fromIndex} with the delimiter.
+     */
+    public String join(int fromIndex, String delimiter) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = fromIndex; i < size; i++) {
+            if (i > fromIndex) {
+                sb.append(delimiter);
+            }
+            sb.append(messages[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a mutable copy of the messages.
+     */
+    public List<String> toList() {
+        List<String> copy = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            copy.add(messages[i]);
+        }
+        return copy;
+    }
+}
@@ -2,10 +2,10 @@ package com.environment.manager.util.util;
 
 import com.environment.manager.exception.ValidationException;
 import com.environment.manager.model.Environment;
+import com.environment.manager.model.SemVer;
 import com.environment.manager.model.Service;
+import com.environment.manager.validator.StandardRules;
 
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -22,14 +22,25 @@ public final class ValidationUtils {
     // Validation patterns
     private static final Pattern ID_PATTERN = Pattern.compile("^[A-Z0-9][A-Z0-9-_]{2,49}$");
     private static final Pattern NAME_PATTERN = Pattern.compile("^[A-Za-z0-9][A-Za-z0-9\\s-_]{2,99}$");
-    private static final Pattern VERSION_PATTERN = Pattern.compile("^\\d+\\.\\d+\\.\\d+(-[A-Za-z0-9]+)?$");
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$");
 
     /**
      * Validates an environment ID.
      */
     public static void validateEnvironmentId(String id) throws ValidationException {
-        List<String> errors = new ArrayList<>();
+        ValidationErrors errors = new ValidationErrors();
+        if (!validateEnvironmentId(id, errors)) {
+            throw new ValidationException("Environment ID validation failed", errors.toList());
+        }
+    }
+
+    /**
+     * Validates an environment ID, appending any errors to the sink.
+     *
+     * @return true if the ID is valid
+     */
+    public static boolean validateEnvironmentId(String id, ValidationErrors errors) {
+        int before = errors.size();
 
         if (id == null || id.trim().isEmpty()) {
             errors.add("Environment ID cannot be null or empty");
@@ -42,16 +53,26 @@ public final class ValidationUtils {
             }
         }
 
-        if (!errors.isEmpty()) {
-            throw new ValidationException("Environment ID validation failed", errors);
-        }
+        return errors.size() == before;
     }
 
     /**
      * Validates an environment name.
      */
     public static void validateEnvironmentName(String name) throws ValidationException {
-        List<String> errors = new ArrayList<>();
+        ValidationErrors errors = new ValidationErrors();
+        if (!validateEnvironmentName(name, errors)) {
+            throw new ValidationException("Environment name validation failed", errors.toList());
+        }
+    }
+
+    /**
+     * Validates an environment name, appending any errors to the sink.
+     *
+     * @return true if the name is valid
+     */
+    public static boolean validateEnvironmentName(String name, ValidationErrors errors) {
+        int before = errors.size();
 
         if (name == null || name.trim().isEmpty()) {
             errors.add("Environment name cannot be null or empty");
@@ -64,23 +85,31 @@ public final class ValidationUtils {
             }
         }
 
-        if (!errors.isEmpty()) {
-            throw new ValidationException("Environment name validation failed", errors);
-        }
+        return errors.size() == before;
     }
 
     /**
      * Validates a URL string.
      */
     public static void validateUrl(String url, String fieldName) throws ValidationException {
-        List<String> errors = new ArrayList<>();
+        ValidationErrors errors = new ValidationErrors();
+        if (!validateUrl(url, fieldName, errors)) {
+            throw new ValidationException(fieldName + " validation failed", errors.toList());
+        }
+    }
+
+    /**
+     * Validates a URL string, appending any errors to the sink.
+     *
+     * @return true if the URL is valid
+     */
+    public static boolean validateUrl(String url, String fieldName, ValidationErrors errors) {
+        int before = errors.size();
 
         if (url == null || url.trim().isEmpty()) {
             errors.add(fieldName + " cannot be null or empty");
         } else {
-            try {
-                new URL(url);
-            } catch (MalformedURLException e) {
+            if (!UrlSyntax.isValid(url)) {
                 errors.add("Invalid URL format for " + fieldName + ": " + url);
             }
 
@@ -89,43 +118,61 @@ public final class ValidationUtils {
             }
         }
 
-        if (!errors.isEmpty()) {
-            throw new ValidationException(fieldName + " validation failed", errors);
-        }
+        return errors.size() == before;
     }
 
     /**
      * Validates a version string.
      */
     public static void validateVersion(String version) throws ValidationException {
-        List<String> errors = new ArrayList<>();
+        ValidationErrors errors = new ValidationErrors();
+        if (!validateVersion(version, errors)) {
+            throw new ValidationException("Version validation failed", errors.toList());
+        }
+    }
 
+    /**
+     * Validates a version string, appending any errors to the sink.
+     *
+     * @return true if the version is valid
+     */
+    public static boolean validateVersion(String version, ValidationErrors errors) {
         if (version == null || version.trim().isEmpty()) {
             errors.add("Version cannot be null or empty");
-        } else if (!VERSION_PATTERN.matcher(version).matches()) {
-            errors.add("Version must follow semantic versioning (e.g., 1.2.3 or 1.2.3-beta)");
+            return false;
         }
-
-        if (!errors.isEmpty()) {
-            throw new ValidationException("Version validation failed", errors);
+        if (!SemVer.isValid(version)) {
+            errors.add("Version must follow semantic versioning (e.g., 1.2.3 or 1.2.3-beta)");
+            return false;
         }
+        return true;
     }
 
     /**
      * Validates an email address.
      */
     public static void validateEmail(String email) throws ValidationException {
-        List<String> errors = new ArrayList<>();
+        ValidationErrors errors = new ValidationErrors();
+        if (!validateEmail(email, errors)) {
+            throw new ValidationException("Email validation failed", errors.toList());
+        }
+    }
 
+    /**
+     * Validates an email address, appending any errors to the sink.
+     *
+     * @return true if the email address is valid
+     */
+    public static boolean validateEmail(String email, ValidationErrors errors) {
         if (email == null || email.trim().isEmpty()) {
             errors.add("Email cannot be null or empty");
-        } else if (!EMAIL_PATTERN.matcher(email).matches()) {
-            errors.add("Invalid email format: " + email);
+            return false;
         }
-
-        if (!errors.isEmpty()) {
-            throw new ValidationException("Email validation failed", errors);
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
+            errors.add("Invalid email format: " + email);
+            return false;
         }
+        return true;
     }
 
     /**
@@ -137,6 +184,17 @@ public final class ValidationUtils {
         }
     }
 
+    /**
+     * Sink variant of {@link #validateNotNull(Object, String)}.
+     */
+    public static boolean validateNotNull(Object obj, String fieldName, ValidationErrors errors) {
+        if (obj == null) {
+            errors.add(fieldName + " cannot be null");
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Validates that a string is not blank.
      */
@@ -146,6 +204,17 @@ public final class ValidationUtils {
         }
     }
 
+    /**
+     * Sink variant of {@link #validateNotBlank(String, String)}.
+     */
+    public static boolean validateNotBlank(String str, String fieldName, ValidationErrors errors) {
+        if (str == null || str.trim().isEmpty()) {
+            errors.add(fieldName + " cannot be blank");
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Validates that a number is positive.
      */
@@ -155,6 +224,17 @@ public final class ValidationUtils {
         }
     }
 
+    /**
+     * Sink variant of {@link #validatePositive(int, String)}.
+     */
+    public static boolean validatePositive(int number, String fieldName, ValidationErrors errors) {
+        if (number <= 0) {
+            errors.add(fieldName + " must be positive");
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Validates that a number is within a range.
      */
@@ -165,69 +245,70 @@ public final class ValidationUtils {
     }
 
     /**
-     * Validates an entire environment object.
+     * Sink variant of {@link #validateRange(int, int, int, String)}.
      */
-    public static List<String> validateEnvironment(Environment environment) {
-        List<String> errors = new ArrayList<>();
-
-        try {
-            validateEnvironmentId(environment.getId());
-        } catch (ValidationException e) {
-            if (e.getValidationErrors() != null) {
-                errors.addAll(e.getValidationErrors());
-            } else {
-                errors.add(e.getMessage());
-            }
-        }
-
-        try {
-            validateEnvironmentName(environment.getName());
-        } catch (ValidationException e) {
-            if (e.getValidationErrors() != null) {
-                errors.addAll(e.getValidationErrors());
-            } else {
-                errors.add(e.getMessage());
-            }
+    public static boolean validateRange(int number, int min, int max, String fieldName, ValidationErrors errors) {
+        if (number < min || number > max) {
+            errors.add(fieldName + " must be between " + min + " and " + max);
+            return false;
         }
+        return true;
+    }
 
-        try {
-            validateUrl(environment.getBaseUrl(), "Base URL");
-        } catch (ValidationException e) {
-            if (e.getValidationErrors() != null) {
-                errors.addAll(e.getValidationErrors());
-            } else {
-                errors.add(e.getMessage());
-            }
-        }
+    /**
+     * Validates an entire environment object.
+     */
+    public static List<String> validateEnvironment(Environment environment) {
+        ValidationErrors errors = new ValidationErrors();
+        validateEnvironment(environment, errors);
+        return errors.toList();
+    }
 
-        if (environment.getType() == null) {
-            errors.add("Environment type cannot be null");
-        }
+    /**
+     * Validates an entire environment object against the field rules of {@link StandardRules},
+     * appending any errors to the sink.
+     *
+     * @return true if the environment is valid
+     */
+    public static boolean validateEnvironment(Environment environment, ValidationErrors errors) {
+        return StandardRules.fieldEngine().evaluate(environment, errors);
+    }
 
-        // Validate all services in the environment
-        if (environment.getServices() != null) {
-            for (Service service : environment.getServices()) {
-                List<String> serviceErrors = validateService(service);
-                if (!serviceErrors.isEmpty()) {
-                    errors.add("Service '" + service.getName() + "': " + String.join("; ", serviceErrors));
-                }
-            }
+    /**
+     * Validates a service and appends a single summary line, "Service 'name': error; error",
+     * if it has errors.
+     */
+    public static void appendServiceErrors(Service service, ValidationErrors errors) {
+        int mark = errors.size();
+        if (!validateService(service, errors)) {
+            String summary = "Service '" + service.getName() + "': " + errors.join(mark, "; ");
+            errors.truncate(mark);
+            errors.add(summary);
         }
-
-        return errors;
     }
 
     /**
      * Validates a service object.
      */
     public static List<String> validateService(Service service) {
-        List<String> errors = new ArrayList<>();
+        ValidationErrors errors = new ValidationErrors();
+        validateService(service, errors);
+        return errors.toList();
+    }
 
+    /**
+     * Validates a service object, appending any errors to the sink.
+     *
+     * @return true if the service is valid
+     */
+    public static boolean validateService(Service service, ValidationErrors errors) {
         if (service == null) {
             errors.add("Service cannot be null");
-            return errors;
+            return false;
         }
 
+        int before = errors.size();
+
         if (service.getId() == null || service.getId().trim().isEmpty()) {
             errors.add("Service ID cannot be null or empty");
         } else if (service.getId().length() > 100) {
@@ -240,21 +321,13 @@ public final class ValidationUtils {
             errors.add("Service name cannot exceed 200 characters");
         }
 
-        try {
-            validateVersion(service.getVersion());
-        } catch (ValidationException e) {
-            if (e.getValidationErrors() != null) {
-                errors.addAll(e.getValidationErrors());
-            } else {
-                errors.add(e.getMessage());
-            }
-        }
+        validateVersion(service.getVersion(), errors);
 
         if (service.getType() == null) {
             errors.add("Service type cannot be null");
         }
 
-        return errors;
+        return errors.size() == before;
     }
 
     /**
@@ -0,0 +1,93 @@
+package com.environment.manager.validator;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker guarding calls to one environment.
+ *
+ * <p>The breaker opens after {@code failureThreshold} consecutive failures. While open,
+ * {@link #tryAcquire()} refuses calls so callers fail fast instead of waiting on connect
+ * timeouts. Once {@code openDuration} has passed, the breaker turns half-open and lets a
+ * single trial call through: its success closes the breaker, its failure opens it again.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String environmentId;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String environmentId, int failureThreshold, Duration openDuration) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Failure threshold must be positive");
+        }
+        this.environmentId = environmentId;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Returns whether a call may proceed. A caller that was let through must report the
+     * outcome with {@link #recordSuccess()} or {@link #recordFailure()}.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (currentState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void recordFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    public synchronized State getState() {
+        return currentState();
+    }
+
+    /**
+     * Returns how long the breaker stays open before allowing a trial call; zero unless open.
+     */
+    public synchronized Duration getRemainingOpenTime() {
+        if (currentState() != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(openDurationNanos - (System.nanoTime() - openedAt));
+    }
+
+    public String getEnvironmentId() {
+        return environmentId;
+    }
+
+    private State currentState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+        }
+        return state;
+    }
+}
@@ -0,0 +1,54 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.util.util.Constants;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-environment circuit breakers shared by the health, validation and deployment paths.
+ */
+public class CircuitBreakerRegistry {
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerRegistry() {
+        this(Constants.CIRCUIT_BREAKER_FAILURE_THRESHOLD,
+                Duration.ofSeconds(Constants.CIRCUIT_BREAKER_OPEN_SECONDS));
+    }
+
+    /**
+     * @param failureThreshold consecutive failures that open a breaker
+     * @param openDuration     how long an open breaker waits before allowing a trial call
+     */
+    public CircuitBreakerRegistry(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    public CircuitBreaker forEnvironment(String environmentId) {
+        return breakers.computeIfAbsent(environmentId,
+                id -> new CircuitBreaker(id, failureThreshold, openDuration));
+    }
+
+    public CircuitBreaker.State getState(String environmentId) {
+        CircuitBreaker breaker = breakers.get(environmentId);
+        return breaker == null ? CircuitBreaker.State.CLOSED : breaker.getState();
+    }
+
+    /**
+     * Returns the state of every breaker, sorted by environment ID.
+     */
+    public Map<String, CircuitBreaker.State> getStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((id, breaker) -> states.put(id, breaker.getState()));
+        return states;
+    }
+
+    public void remove(String environmentId) {
+        breakers.remove(environmentId);
+    }
+}
@@ -0,0 +1,303 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.event.EventBus;
+import com.environment.manager.event.HealthEvent;
+import com.environment.manager.event.HealthEvent.Severity;
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.EnvironmentType;
+import com.environment.manager.util.util.Constants;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background health monitor for environment endpoints.
+ *
+ * <p>Each monitored environment's base URL and API endpoint are probed on an interval
+ * that depends on its tier. Every delay is jittered by up to {@code jitterFraction} of the
+ * interval, and the first probe is spread over a whole interval, so probes of a large
+ * fleet do not fire in bursts. Results go into a cache, so validators and deployments can
+ * read an environment's health without a network round trip. Entries expire after
+ * {@link Constants#CACHE_TTL_SECONDS}, or, for a monitored environment, once its next probe
+ * is overdue if that is later, so a tier probed less often than the TTL never drops out of
+ * the cache between probes. Whenever an environment's severity
+ * changes, a {@link HealthEvent} is published on the event bus, which
+ * {@code NotificationObserver} turns into warning and critical notifications.
+ */
+public class HealthMonitor {
+    private final HttpHealthChecker healthChecker;
+    private final EventBus eventBus;
+    private final Duration cacheTtl;
+    private final double jitterFraction;
+    private final Map<EnvironmentType, Duration> intervals = new EnumMap<>(EnvironmentType.class);
+    private final Map<String, MonitoredEnvironment> monitored = new ConcurrentHashMap<>();
+    private final Map<String, CachedHealth> cache = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private volatile CircuitBreakerRegistry circuitBreakers;
+
+    public HealthMonitor(HttpHealthChecker healthChecker, EventBus eventBus) {
+        this(healthChecker, eventBus, Duration.ofSeconds(Constants.CACHE_TTL_SECONDS), 0.1);
+    }
+
+    public HealthMonitor(HttpHealthChecker healthChecker, EventBus eventBus, Duration cacheTtl, double jitterFraction) {
+        if (jitterFraction < 0 || jitterFraction >= 1) {
+            throw new IllegalArgumentException("Jitter fraction must be in [0, 1)");
+        }
+        this.healthChecker = healthChecker;
+        this.eventBus = eventBus;
+        this.cacheTtl = cacheTtl;
+        this.jitterFraction = jitterFraction;
+
+        // Critical tiers are probed more often
+        intervals.put(EnvironmentType.PRODUCTION, Duration.ofSeconds(30));
+        intervals.put(EnvironmentType.STAGING, Duration.ofSeconds(60));
+        intervals.put(EnvironmentType.USER_ACCEPTANCE, Duration.ofSeconds(120));
+        intervals.put(EnvironmentType.QUALITY_ASSURANCE, Duration.ofSeconds(120));
+        intervals.put(EnvironmentType.DEVELOPMENT, Duration.ofSeconds(300));
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Changes the probe interval for a tier; applies from each environment's next probe.
+     */
+    public void setInterval(EnvironmentType type, Duration interval) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        synchronized (intervals) {
+            intervals.put(type, interval);
+        }
+    }
+
+    public Duration getInterval(EnvironmentType type) {
+        synchronized (intervals) {
+            return intervals.get(type);
+        }
+    }
+
+    /**
+     * Feeds probe outcomes into the environments' circuit breakers. Probes keep running while a
+     * breaker is open; a probe that reaches any endpoint closes it again.
+     */
+    public void setCircuitBreakers(CircuitBreakerRegistry circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    /**
+     * Starts probing an environment in the background; the first probe runs at a random
+     * point within its tier's interval.
+     */
+    public void monitor(Environment environment) {
+        MonitoredEnvironment entry = new MonitoredEnvironment(environment);
+        MonitoredEnvironment previous = monitored.put(environment.getId(), entry);
+        if (previous != null) {
+            previous.cancel();
+        }
+        long intervalMillis = getInterval(environment.getType()).toMillis();
+        entry.schedule(ThreadLocalRandom.current().nextLong(intervalMillis));
+    }
+
+    /**
+     * Stops probing an environment and drops its cached health.
+     */
+    public void unmonitor(String environmentId) {
+        MonitoredEnvironment entry = monitored.remove(environmentId);
+        if (entry != null) {
+            entry.cancel();
+        }
+        cache.remove(environmentId);
+    }
+
+    public boolean isMonitored(String environmentId) {
+        return monitored.containsKey(environmentId);
+    }
+
+    /**
+     * Probes an environment immediately, updating the cache and publishing any transition.
+     */
+    public CompletableFuture<HealthSnapshot> probeNow(Environment environment) {
+        return check(environment).thenApply(statuses -> record(environment, statuses));
+    }
+
+    /**
+     * Returns the environment's cached health unless it has expired.
+     */
+    public Optional<HealthSnapshot> getCachedHealth(String environmentId) {
+        CachedHealth cached = cache.get(environmentId);
+        if (cached == null || System.currentTimeMillis() > cached.expiresAtMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.snapshot());
+    }
+
+    /**
+     * Stops all background probes.
+     */
+    public void shutdown() {
+        monitored.values().forEach(MonitoredEnvironment::cancel);
+        monitored.clear();
+        scheduler.shutdownNow();
+    }
+
+    private CompletableFuture<List<HttpHealthChecker.HealthStatus>> check(Environment environment) {
+        List<String> urls = new ArrayList<>(2);
+        urls.add(environment.getBaseUrl());
+        if (environment.getApiEndpoint() != null && !environment.getApiEndpoint().isEmpty()) {
+            urls.add(environment.getApiEndpoint());
+        }
+        return healthChecker.checkAll(urls);
+    }
+
+    private HealthSnapshot record(Environment environment, List<HttpHealthChecker.HealthStatus> statuses) {
+        int failing = 0;
+        List<String> problems = new ArrayList<>();
+        for (HttpHealthChecker.HealthStatus status : statuses) {
+            if (!status.healthy()) {
+                failing++;
+                problems.add(status.message());
+            }
+        }
+        Severity severity = failing == 0 ? Severity.HEALTHY
+                : failing == statuses.size() ? Severity.CRITICAL : Severity.WARNING;
+        HealthSnapshot snapshot = new HealthSnapshot(environment.getId(), severity, List.copyOf(statuses),
+                System.currentTimeMillis());
+
+        CircuitBreakerRegistry breakers = circuitBreakers;
+        if (breakers != null) {
+            if (severity == Severity.CRITICAL) {
+                breakers.forEnvironment(environment.getId()).recordFailure();
+            } else {
+                breakers.forEnvironment(environment.getId()).recordSuccess();
+            }
+        }
+
+        CachedHealth previous = cache.put(environment.getId(),
+                new CachedHealth(snapshot, snapshot.checkedAtMillis() + timeToLive(environment).toMillis()));
+        Severity previousSeverity = previous == null ? Severity.HEALTHY : previous.snapshot().severity();
+        if (severity != previousSeverity) {
+            String message = severity == Severity.HEALTHY ? "All endpoints healthy" : String.join("; ", problems);
+            eventBus.publish(HealthEvent.of(environment, severity, message));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns how long a snapshot of the environment stays fresh: the cache TTL or, while the
+     * environment is monitored, the longest gap between two of its probes if that is longer.
+     * The gap is the tier's interval plus the full jitter, plus two request timeouts for a
+     * probe that is retried.
+     */
+    private Duration timeToLive(Environment environment) {
+        if (!monitored.containsKey(environment.getId())) {
+            return cacheTtl;
+        }
+        long intervalMillis = getInterval(environment.getType()).toMillis();
+        Duration longestGap = Duration.ofMillis(intervalMillis + (long) (intervalMillis * jitterFraction))
+                .plus(healthChecker.getRequestTimeout().multipliedBy(2));
+        return longestGap.compareTo(cacheTtl) > 0 ? longestGap : cacheTtl;
+    }
+
+    private long jittered(long intervalMillis) {
+        long spread = (long) (intervalMillis * jitterFraction);
+        if (spread == 0) {
+            return intervalMillis;
+        }
+        return intervalMillis + ThreadLocalRandom.current().nextLong(-spread, spread + 1);
+    }
+
+    /**
+     * Latest health of one environment.
+     */
+    public record HealthSnapshot(String environmentId, Severity severity,
+                                 List<HttpHealthChecker.HealthStatus> statuses, long checkedAtMillis) {
+        public boolean isHealthy() {
+            return severity == Severity.HEALTHY;
+        }
+
+        public List<String> getProblems() {
+            return statuses.stream().filter(status -> !status.healthy())
+                    .map(HttpHealthChecker.HealthStatus::message).toList();
+        }
+    }
+
+    private record CachedHealth(HealthSnapshot snapshot, long expiresAtMillis) {
+    }
+
+    /**
+     * Probe schedule of one environment. The next probe is scheduled only after the
+     * current one completes, so a slow endpoint never has overlapping probes.
+     */
+    private final class MonitoredEnvironment {
+        private final Environment environment;
+        private volatile ScheduledFuture<?> next;
+        private volatile boolean cancelled;
+
+        private MonitoredEnvironment(Environment environment) {
+            this.environment = environment;
+        }
+
+        private void schedule(long delayMillis) {
+            if (cancelled) {
+                return;
+            }
+            try {
+                next = scheduler.schedule(this::probe, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Monitor was shut down
+            }
+        }
+
+        private void probe() {
+            if (cancelled) {
+                return;
+            }
+            check(environment).thenApply(this::record).whenComplete((snapshot, error) -> {
+                if (error != null) {
+                    System.err.println("Health probe failed for " + environment.getName() + ": " + error.getMessage());
+                }
+                schedule(jittered(getInterval(environment.getType()).toMillis()));
+            });
+        }
+
+        /**
+         * Records the outcome of a background probe unless the environment has been
+         * unmonitored while it was in flight; a late answer must neither re-cache the
+         * environment nor publish an event for it.
+         */
+        private synchronized HealthSnapshot record(List<HttpHealthChecker.HealthStatus> statuses) {
+            if (cancelled) {
+                return null;
+            }
+            return HealthMonitor.this.record(environment, statuses);
+        }
+
+        /**
+         * Stops the schedule. Waits for a probe being recorded, so nothing is cached for the
+         * environment once this returns.
+         */
+        private synchronized void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> scheduled = next;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
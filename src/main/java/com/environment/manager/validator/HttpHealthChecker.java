@@ -0,0 +1,202 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.util.util.Constants;
+import com.environment.manager.util.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Asynchronous endpoint health checker.
+ *
+ * <p>All probes share one {@link HttpClient}, so connections to a host are kept alive and
+ * reused between probes. Probes are HEAD requests sent without blocking a thread while they
+ * wait for the response. At most {@code maxConcurrentPerHost} probes are in flight per host;
+ * further probes to that host queue up without holding a thread, so a large sweep cannot
+ * overload a single server while probes to other hosts continue.
+ */
+public class HttpHealthChecker {
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final int maxConcurrentPerHost;
+    private final Map<String, HostLimiter> hosts = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public HttpHealthChecker() {
+        this(Constants.MAX_HEALTH_CHECKS_PER_HOST, Duration.ofSeconds(5));
+    }
+
+    public HttpHealthChecker(int maxConcurrentPerHost, Duration requestTimeout) {
+        if (maxConcurrentPerHost <= 0) {
+            throw new IllegalArgumentException("maxConcurrentPerHost must be positive");
+        }
+        this.maxConcurrentPerHost = maxConcurrentPerHost;
+        this.requestTimeout = requestTimeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * Probes one URL. The future always completes normally; failures are reported in the status.
+     */
+    public CompletableFuture<HealthStatus> check(String url) {
+        URI uri;
+        try {
+            uri = url == null ? null : URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(HealthStatus.failure(url, e.getMessage()));
+        }
+        if (uri == null || uri.getHost() == null) {
+            return CompletableFuture.completedFuture(HealthStatus.failure(url, "no host"));
+        }
+
+        String hostKey = uri.getHost() + ":" + uri.getPort();
+        HostLimiter limiter = hosts.computeIfAbsent(hostKey, key -> new HostLimiter());
+        CompletableFuture<HealthStatus> result = new CompletableFuture<>();
+        limiter.submit(() -> probe(url, uri, limiter, true).whenComplete((status, error) -> {
+            limiter.release();
+            result.complete(status);
+        }));
+        return result;
+    }
+
+    /**
+     * Probes all URLs concurrently, subject to the per-host limit.
+     *
+     * @return future completing with one status per URL, in input order
+     */
+    public CompletableFuture<List<HealthStatus>> checkAll(Collection<String> urls) {
+        List<CompletableFuture<HealthStatus>> futures = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            futures.add(check(url));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<HealthStatus> statuses = new ArrayList<>(futures.size());
+                    for (CompletableFuture<HealthStatus> future : futures) {
+                        statuses.add(future.join());
+                    }
+                    return statuses;
+                });
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    private CompletableFuture<HealthStatus> probe(String url, URI uri, HostLimiter limiter, boolean mayRetry) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(uri)
+                    .timeout(requestTimeout)
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(HealthStatus.failure(url, e.getMessage()));
+        }
+        long startedAt = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    long elapsed = System.nanoTime() - startedAt;
+                    if (error != null && mayRetry && limiter.connected && isStaleConnection(error)) {
+                        // A pooled keep-alive connection may have been closed by the server
+                        // just before reuse; HEAD is idempotent, so retry once
+                        return null;
+                    }
+                    if (error == null) {
+                        limiter.connected = true;
+                    }
+                    latency.record(elapsed);
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        String reason = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+                        return new HealthStatus(url, false, 0, elapsed, "Cannot connect to " + url + ": " + reason);
+                    }
+                    int code = response.statusCode();
+                    if (code >= 200 && code < 400) {
+                        return new HealthStatus(url, true, code, elapsed,
+                                url + " is accessible (HTTP " + code + ")");
+                    }
+                    return new HealthStatus(url, false, code, elapsed, url + " returned error code: " + code);
+                })
+                .thenCompose(status -> status != null ? CompletableFuture.completedFuture(status)
+                        : probe(url, uri, limiter, false));
+    }
+
+    /**
+     * Whether a failure looks like a kept-alive connection closed under us: a plain I/O error,
+     * not a timeout or a refused connection, which a retry would only repeat.
+     */
+    private static boolean isStaleConnection(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof IOException
+                && !(cause instanceof HttpTimeoutException)
+                && !(cause instanceof ConnectException);
+    }
+
+    /**
+     * Outcome of one probe.
+     */
+    public record HealthStatus(String url, boolean healthy, int statusCode, long latencyNanos, String message) {
+        static HealthStatus failure(String url, String reason) {
+            return new HealthStatus(url, false, 0, 0, "Cannot connect to " + url + ": " + reason);
+        }
+    }
+
+    /**
+     * Non-blocking per-host permit counter; probes beyond the limit wait in a queue.
+     */
+    private final class HostLimiter {
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int inFlight;
+        // Set once the host has answered, so later probes may be reusing a pooled connection
+        volatile boolean connected;
+
+        void submit(Runnable probe) {
+            synchronized (this) {
+                if (inFlight >= maxConcurrentPerHost) {
+                    waiting.add(probe);
+                    return;
+                }
+                inFlight++;
+            }
+            probe.run();
+        }
+
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            }
+            // Hand the permit straight to the next waiting probe; run it asynchronously so a
+            // chain of probes failing synchronously cannot recurse through release()
+            CompletableFuture.runAsync(next);
+        }
+    }
+}
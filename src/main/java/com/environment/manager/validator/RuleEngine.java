@@ -0,0 +1,222 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.EnvironmentType;
+import com.environment.manager.util.util.ValidationErrors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validation rules compiled into one rule chain per environment type.
+ *
+ * <p>Compilation deduplicates rules by ID, drops the rules that do not apply to a type and
+ * orders the rest by cost, so each environment is checked by a flat array of only the rules
+ * relevant to it, cheapest first. Rules of equal cost keep their declaration order, which
+ * keeps the order of the reported messages stable.
+ *
+ * <p>The engine counts, per rule, how often it was evaluated, how often it fired and how
+ * long it took. It is thread-safe.
+ */
+public final class RuleEngine {
+
+    private static final ThreadLocal<ValidationErrors> SCRATCH = ThreadLocal.withInitial(ValidationErrors::new);
+
+    private final List<CompiledRule> rules;
+    private final Map<EnvironmentType, CompiledRule[]> chains = new EnumMap<>(EnvironmentType.class);
+    private final CompiledRule[] untypedChain;
+
+    private RuleEngine(List<CompiledRule> rules) {
+        this.rules = List.copyOf(rules);
+        for (EnvironmentType type : EnvironmentType.values()) {
+            chains.put(type, chain(type));
+        }
+        this.untypedChain = chain(null);
+    }
+
+    /**
+     * Compiles the rules. Rules sharing an ID are merged into one that applies to the union
+     * of their environment types; the first declaration's cost and check are kept.
+     */
+    public static RuleEngine compile(Collection<ValidationRule> rules) {
+        Map<String, ValidationRule> unique = new LinkedHashMap<>();
+        for (ValidationRule rule : rules) {
+            unique.merge(rule.id(), rule, ValidationRule::mergedWith);
+        }
+        List<CompiledRule> compiled = new ArrayList<>(unique.size());
+        for (ValidationRule rule : unique.values()) {
+            compiled.add(new CompiledRule(rule, compiled.size()));
+        }
+        return new RuleEngine(compiled);
+    }
+
+    private CompiledRule[] chain(EnvironmentType type) {
+        return rules.stream()
+                .filter(compiled -> compiled.rule.appliesTo(type))
+                .sorted(Comparator.comparing((CompiledRule compiled) -> compiled.rule.cost())
+                        .thenComparingInt(compiled -> compiled.position))
+                .toArray(CompiledRule[]::new);
+    }
+
+    /**
+     * Evaluates every rule that applies to the environment, appending their messages.
+     *
+     * @return true if no rule fired
+     */
+    public boolean evaluate(Environment environment, ValidationErrors errors) {
+        int before = errors.size();
+        for (CompiledRule compiled : chainFor(environment)) {
+            compiled.apply(environment, errors);
+        }
+        return errors.size() == before;
+    }
+
+    /**
+     * Evaluates every rule that applies to the environment.
+     *
+     * @return the messages of the rules that fired
+     */
+    public List<String> evaluate(Environment environment) {
+        ValidationErrors errors = new ValidationErrors();
+        evaluate(environment, errors);
+        return errors.toList();
+    }
+
+    /**
+     * Evaluates the environment and reports the outcome of every rule.
+     */
+    public Evaluation evaluateWithReport(Environment environment) {
+        ValidationErrors errors = new ValidationErrors();
+        CompiledRule[] chain = chainFor(environment);
+        List<RuleOutcome> outcomes = new ArrayList<>(chain.length);
+        for (CompiledRule compiled : chain) {
+            int mark = errors.size();
+            long nanos = compiled.apply(environment, errors);
+            outcomes.add(new RuleOutcome(compiled.rule.id(), errors.size() > mark, nanos));
+        }
+        return new Evaluation(environment.getId(), errors.toList(), outcomes);
+    }
+
+    /**
+     * Returns whether the environment passes every rule, stopping at the first one that fires.
+     */
+    public boolean isValid(Environment environment) {
+        ValidationErrors scratch = SCRATCH.get();
+        try {
+            for (CompiledRule compiled : chainFor(environment)) {
+                compiled.apply(environment, scratch);
+                if (!scratch.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            scratch.clear();
+        }
+    }
+
+    /**
+     * Returns the IDs of the rules checked for an environment type, in evaluation order.
+     */
+    public List<String> getRuleIds(EnvironmentType type) {
+        CompiledRule[] chain = type == null ? untypedChain : chains.get(type);
+        List<String> ids = new ArrayList<>(chain.length);
+        for (CompiledRule compiled : chain) {
+            ids.add(compiled.rule.id());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the statistics of every rule, in declaration order.
+     */
+    public List<RuleStatistics> getStatistics() {
+        List<RuleStatistics> statistics = new ArrayList<>(rules.size());
+        for (CompiledRule compiled : rules) {
+            statistics.add(new RuleStatistics(compiled.rule.id(), compiled.rule.cost(),
+                    compiled.evaluations.sum(), compiled.firings.sum(), compiled.nanos.sum()));
+        }
+        return statistics;
+    }
+
+    public void resetStatistics() {
+        for (CompiledRule compiled : rules) {
+            compiled.evaluations.reset();
+            compiled.firings.reset();
+            compiled.nanos.reset();
+        }
+    }
+
+    private CompiledRule[] chainFor(Environment environment) {
+        EnvironmentType type = environment.getType();
+        return type == null ? untypedChain : chains.get(type);
+    }
+
+    private static final class CompiledRule {
+        final ValidationRule rule;
+        final int position;
+        final LongAdder evaluations = new LongAdder();
+        final LongAdder firings = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        CompiledRule(ValidationRule rule, int position) {
+            this.rule = rule;
+            this.position = position;
+        }
+
+        /**
+         * Applies the rule and records its statistics.
+         *
+         * @return the time the rule took, in nanoseconds
+         */
+        long apply(Environment environment, ValidationErrors errors) {
+            int mark = errors.size();
+            long start = System.nanoTime();
+            rule.check().apply(environment, errors);
+            long elapsed = System.nanoTime() - start;
+            evaluations.increment();
+            nanos.add(elapsed);
+            if (errors.size() > mark) {
+                firings.increment();
+            }
+            return elapsed;
+        }
+    }
+
+    /**
+     * Outcome of one rule in one evaluation.
+     */
+    public record RuleOutcome(String ruleId, boolean fired, long nanos) {
+    }
+
+    /**
+     * Result of evaluating one environment, with the outcome of every rule checked.
+     */
+    public record Evaluation(String environmentId, List<String> errors, List<RuleOutcome> outcomes) {
+
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+
+        public List<String> getFiredRules() {
+            return outcomes.stream().filter(RuleOutcome::fired).map(RuleOutcome::ruleId).toList();
+        }
+    }
+
+    /**
+     * Accumulated statistics of one rule.
+     */
+    public record RuleStatistics(String ruleId, ValidationRule.Cost cost, long evaluations, long firings,
+                                 long totalNanos) {
+
+        public double getAverageNanos() {
+            return evaluations == 0 ? 0 : (double) totalNanos / evaluations;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.ConfigType;
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.EnvironmentType;
+import com.environment.manager.model.Service;
+import com.environment.manager.util.util.ValidationUtils;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.environment.manager.validator.ValidationRule.Cost;
+
+/**
+ * The built-in validation rules.
+ *
+ * <p>Every rule the application checks is declared here. The field rules back
+ * {@link ValidationUtils#validateEnvironment(Environment)}; the structural rules back
+ * {@code EnvironmentValidator}; the tier policies back the UAT, staging and production
+ * environments created by the environment manager; the environment policies back the
+ * environment classes of the model. A rule that belongs to more than one set is declared
+ * once and shared, so a problem is reported with the same message wherever it is checked.
+ */
+public final class StandardRules {
+
+    private static final Set<EnvironmentType> ALL = EnumSet.allOf(EnvironmentType.class);
+    private static final Set<EnvironmentType> DEVELOPMENT = EnumSet.of(EnvironmentType.DEVELOPMENT);
+    private static final Set<EnvironmentType> QA = EnumSet.of(EnvironmentType.QUALITY_ASSURANCE);
+    private static final Set<EnvironmentType> UAT = EnumSet.of(EnvironmentType.USER_ACCEPTANCE);
+    private static final Set<EnvironmentType> STAGING = EnumSet.of(EnvironmentType.STAGING);
+    private static final Set<EnvironmentType> PRODUCTION = EnumSet.of(EnvironmentType.PRODUCTION);
+
+    private static final ValidationRule PRODUCTION_DATABASE = ValidationRule.when("production.database-url",
+            Cost.CONSTANT, PRODUCTION, environment -> isBlank(environment.getDatabaseUrl()),
+            "Production environment must have a database URL configured");
+    private static final ValidationRule PRODUCTION_HTTPS = ValidationRule.when("production.https",
+            Cost.STRING, PRODUCTION, environment -> !environment.getBaseUrl().startsWith("https://"),
+            "Production environment must use HTTPS");
+    private static final ValidationRule UAT_URL = ValidationRule.when("uat.url",
+            Cost.STRING, UAT, environment -> !environment.getBaseUrl().contains("uat"),
+            "UAT environment URL should contain 'uat'");
+
+    private StandardRules() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Rules on the fields every environment has: its identifiers, base URL and services.
+     */
+    public static List<ValidationRule> fields() {
+        List<ValidationRule> rules = new ArrayList<>();
+
+        rules.add(ValidationRule.forAll("environment.id", Cost.PATTERN,
+                (environment, errors) -> ValidationUtils.validateEnvironmentId(environment.getId(), errors)));
+        rules.add(ValidationRule.forAll("environment.name", Cost.PATTERN,
+                (environment, errors) -> ValidationUtils.validateEnvironmentName(environment.getName(), errors)));
+        rules.add(ValidationRule.forAll("environment.base-url", Cost.PARSE,
+                (environment, errors) -> ValidationUtils.validateUrl(environment.getBaseUrl(), "Base URL", errors)));
+        rules.add(ValidationRule.forAll("services.valid", Cost.SCAN, (environment, errors) -> {
+            for (Service service : environment.getServices()) {
+                ValidationUtils.appendServiceErrors(service, errors);
+            }
+        }));
+
+        return rules;
+    }
+
+    /**
+     * Rules on the shape of an environment: the field rules plus the URLs, services and
+     * configuration every environment of a type needs.
+     */
+    public static List<ValidationRule> structural() {
+        List<ValidationRule> rules = fields();
+
+        rules.add(ValidationRule.when("environment.database-url", Cost.STRING, ALL,
+                environment -> !isBlank(environment.getDatabaseUrl()) && !environment.getDatabaseUrl().startsWith("jdbc:"),
+                "Database URL should start with 'jdbc:'"));
+        rules.add(ValidationRule.forAll("environment.api-endpoint", Cost.PARSE, (environment, errors) -> {
+            if (!isBlank(environment.getApiEndpoint())) {
+                ValidationUtils.validateUrl(environment.getApiEndpoint(), "API Endpoint", errors);
+            }
+        }));
+        rules.add(ValidationRule.when("services.present", Cost.CONSTANT, ALL,
+                environment -> environment.getServices().isEmpty(), "Environment must contain at least one service"));
+
+        rules.add(PRODUCTION_DATABASE);
+        rules.add(ValidationRule.when("staging.api-endpoint", Cost.CONSTANT, STAGING,
+                environment -> isBlank(environment.getApiEndpoint()),
+                "Staging environment should have an API endpoint configured"));
+
+        return rules;
+    }
+
+    /**
+     * Policies of the UAT, staging and production tiers created by the environment manager.
+     */
+    public static List<ValidationRule> tierPolicies() {
+        List<ValidationRule> rules = new ArrayList<>();
+
+        rules.add(UAT_URL);
+
+        rules.add(ValidationRule.when("staging.no-localhost", Cost.STRING, STAGING,
+                environment -> environment.getBaseUrl().contains("localhost"),
+                "Staging environment should not use localhost"));
+        rules.add(ValidationRule.when("staging.https", Cost.STRING, STAGING,
+                environment -> !environment.getBaseUrl().startsWith("https://"), "Staging environment should use HTTPS"));
+
+        rules.add(PRODUCTION_HTTPS);
+        rules.add(PRODUCTION_DATABASE);
+
+        return rules;
+    }
+
+    /**
+     * Policies of the development, QA, UAT, staging and production environment classes.
+     */
+    public static List<ValidationRule> environmentPolicies() {
+        List<ValidationRule> rules = new ArrayList<>();
+
+        rules.add(ValidationRule.when("development.http", Cost.STRING, DEVELOPMENT,
+                environment -> environment.getBaseUrl().startsWith("https://"),
+                "Dev environment should use HTTP, not HTTPS"));
+        rules.add(ValidationRule.when("development.database-localhost", Cost.STRING, DEVELOPMENT,
+                environment -> !isBlank(environment.getDatabaseUrl()) && !environment.getDatabaseUrl().contains("localhost"),
+                "Dev database should be on localhost"));
+        rules.add(ValidationRule.when("development.feature-flags", Cost.SCAN, DEVELOPMENT,
+                environment -> environment.getConfigurationsByType(ConfigType.FEATURE_FLAG).size() < 2,
+                "Dev environment should have at least 2 feature flags"));
+
+        rules.add(ValidationRule.when("qa.url", Cost.STRING, QA,
+                environment -> !environment.getBaseUrl().contains("qa"), "QA environment URL should contain 'qa'"));
+        rules.add(ValidationRule.when("qa.database", Cost.STRING, QA,
+                environment -> isBlank(environment.getDatabaseUrl()) || !environment.getDatabaseUrl().contains("qa-db"),
+                "QA database URL should point to qa-db"));
+        rules.add(ValidationRule.when("qa.max-users", Cost.LOOKUP, QA,
+                environment -> environment.getConfiguration("MAX_USERS") == null,
+                "MAX_USERS configuration is required for QA"));
+
+        rules.add(UAT_URL);
+
+        rules.add(ValidationRule.when("staging.url", Cost.STRING, STAGING,
+                environment -> !environment.getBaseUrl().contains("staging"), "Staging URL should contain 'staging'"));
+
+        rules.add(PRODUCTION_HTTPS);
+        rules.add(PRODUCTION_DATABASE);
+        rules.add(ValidationRule.when("production.database-cluster", Cost.STRING, PRODUCTION,
+                environment -> !isBlank(environment.getDatabaseUrl()) && !environment.getDatabaseUrl().contains("cluster"),
+                "Production database should use a cluster"));
+        rules.add(ValidationRule.when("production.ssl", Cost.LOOKUP, PRODUCTION,
+                environment -> environment.getConfiguration("security.SSL_ENABLED") == null,
+                "SSL configuration is required for production"));
+        rules.add(ValidationRule.when("production.debug-mode", Cost.LOOKUP, PRODUCTION, environment -> {
+            ConfigItem debugMode = environment.getConfiguration("DEBUG_MODE");
+            return debugMode != null && debugMode.getBoolean(false);
+        }, "Debug mode should be false in production"));
+
+        return rules;
+    }
+
+    /**
+     * Returns the field rules, compiled once and shared.
+     */
+    public static RuleEngine fieldEngine() {
+        return Compiled.FIELDS;
+    }
+
+    /**
+     * Returns the environment policies, compiled once and shared.
+     */
+    public static RuleEngine environmentPolicyEngine() {
+        return Compiled.ENVIRONMENT_POLICIES;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    /**
+     * Compiles the shared engines on first use rather than when the rules are first declared.
+     */
+    private static final class Compiled {
+        static final RuleEngine FIELDS = RuleEngine.compile(fields());
+        static final RuleEngine ENVIRONMENT_POLICIES = RuleEngine.compile(environmentPolicies());
+    }
+}
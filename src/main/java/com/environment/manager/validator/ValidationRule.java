@@ -0,0 +1,100 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.EnvironmentType;
+import com.environment.manager.util.util.ValidationErrors;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A single declarative validation rule.
+ *
+ * <p>A rule applies to a set of environment types and appends its messages to the sink when
+ * it fires. Rules sharing an ID are the same rule; {@link RuleEngine} compiles each of them
+ * only once, however many rule sets declare it.
+ *
+ * @param id               stable identifier, used for deduplication and statistics
+ * @param cost             rough evaluation cost, cheaper rules run first
+ * @param environmentTypes environment types the rule applies to
+ * @param check            appends the rule's messages when the environment violates it
+ */
+public record ValidationRule(String id, Cost cost, Set<EnvironmentType> environmentTypes, Check check) {
+
+    /**
+     * Rough evaluation cost, declared cheapest first.
+     */
+    public enum Cost {
+        /** Null checks and field comparisons. */
+        CONSTANT,
+        /** Prefix or substring tests. */
+        STRING,
+        /** Configuration lookups. */
+        LOOKUP,
+        /** Regular expression matching. */
+        PATTERN,
+        /** URL parsing. */
+        PARSE,
+        /** Iteration over services or configuration. */
+        SCAN
+    }
+
+    /**
+     * Appends a rule's messages to the sink; appending nothing means the rule passed.
+     */
+    @FunctionalInterface
+    public interface Check {
+        void apply(Environment environment, ValidationErrors errors);
+    }
+
+    public ValidationRule {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Rule ID cannot be blank");
+        }
+        if (environmentTypes.isEmpty()) {
+            throw new IllegalArgumentException("Rule " + id + " applies to no environment type");
+        }
+        environmentTypes = Collections.unmodifiableSet(EnumSet.copyOf(environmentTypes));
+    }
+
+    /**
+     * Creates a rule that applies to every environment type.
+     */
+    public static ValidationRule forAll(String id, Cost cost, Check check) {
+        return new ValidationRule(id, cost, EnumSet.allOf(EnvironmentType.class), check);
+    }
+
+    /**
+     * Creates a rule that adds {@code message} when {@code violated} matches.
+     */
+    public static ValidationRule when(String id, Cost cost, Set<EnvironmentType> environmentTypes,
+                                      Predicate<Environment> violated, String message) {
+        return new ValidationRule(id, cost, environmentTypes, (environment, errors) -> {
+            if (violated.test(environment)) {
+                errors.add(message);
+            }
+        });
+    }
+
+    public boolean appliesTo(EnvironmentType type) {
+        return type == null ? appliesToAll() : environmentTypes.contains(type);
+    }
+
+    public boolean appliesToAll() {
+        return environmentTypes.size() == EnvironmentType.values().length;
+    }
+
+    /**
+     * Returns this rule extended to the environment types of another declaration of it.
+     */
+    ValidationRule mergedWith(ValidationRule other) {
+        if (environmentTypes.containsAll(other.environmentTypes)) {
+            return this;
+        }
+        Set<EnvironmentType> types = EnumSet.copyOf(environmentTypes);
+        types.addAll(other.environmentTypes);
+        return new ValidationRule(id, cost, types, check);
+    }
+}
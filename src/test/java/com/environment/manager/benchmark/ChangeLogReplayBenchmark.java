@@ -0,0 +1,62 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.history.EnvironmentChangeLog;
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.ProductionEnvironment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replaying a long change log, and rebuilding the latest state of an environment
+ * from its nearest snapshot.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.ChangeLogReplayBenchmark},
+ * adding {@code -prof gc} to confirm that replay does not allocate per change.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChangeLogReplayBenchmark {
+
+    @Param({"1000000"})
+    private int changes;
+
+    private EnvironmentChangeLog log;
+
+    @Setup
+    public void setUp() {
+        log = new EnvironmentChangeLog();
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        log.track(environment);
+        for (int i = 0; i < changes; i++) {
+            environment.setActive((i & 1) == 0);
+        }
+    }
+
+    @Benchmark
+    public void replayAll(Blackhole blackhole) {
+        log.replayAll((sequence, timestamp, environmentId, type, payload) -> blackhole.consume(payload));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object latestState() {
+        return log.stateAt("PROD-001", log.getLastSequence()).orElseThrow();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ChangeLogReplayBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
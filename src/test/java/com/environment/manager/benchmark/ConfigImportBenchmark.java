@@ -0,0 +1,78 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.io.ConfigFormat;
+import com.environment.manager.io.ConfigImporter;
+import com.environment.manager.model.DevelopmentEnvironment;
+import com.environment.manager.model.Environment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures streaming a large configuration document into a fresh environment, staged in
+ * batches and committed as one version, for each supported format.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.ConfigImportBenchmark},
+ * adding {@code -prof gc} to see the allocation per import.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigImportBenchmark {
+
+    @Param({"100000"})
+    private int keys;
+
+    @Param({"JSON", "YAML", "PROPERTIES"})
+    private ConfigFormat format;
+
+    private final ConfigImporter importer = new ConfigImporter("bench");
+    private byte[] document;
+    private Environment environment;
+
+    @Setup
+    public void setUp() {
+        StringBuilder text = new StringBuilder(format == ConfigFormat.JSON ? "{\n" : "");
+        for (int i = 0; i < keys; i++) {
+            String key = "service." + (i % 100) + ".setting" + i;
+            String value = "value-" + i;
+            switch (format) {
+                case JSON -> text.append(i == 0 ? "" : ",\n").append("  \"").append(key).append("\": \"")
+                        .append(value).append('"');
+                case YAML -> text.append(key).append(": ").append(value).append('\n');
+                case PROPERTIES -> text.append(key).append('=').append(value).append('\n');
+            }
+        }
+        if (format == ConfigFormat.JSON) {
+            text.append("\n}\n");
+        }
+        document = text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Invocation)
+    public void newEnvironment() {
+        environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+    }
+
+    @Benchmark
+    public ConfigImporter.ImportResult importDocument() throws IOException {
+        return importer.importFrom(new ByteArrayInputStream(document), format, environment);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ConfigImportBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
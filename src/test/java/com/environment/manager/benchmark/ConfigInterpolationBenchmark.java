@@ -0,0 +1,76 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.DevelopmentEnvironment;
+import com.environment.manager.model.Environment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving {@code ${key}} references in 100 groups of 100 keys, each key referring
+ * to its group's root: reading a memoized value, and changing one root and re-resolving
+ * only its group.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.ConfigInterpolationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigInterpolationBenchmark {
+
+    private static final int GROUPS = 100;
+    private static final int GROUP_SIZE = 100;
+
+    private Environment environment;
+    private boolean flip;
+
+    @Setup
+    public void setUp() {
+        environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        List<ConfigItem> items = new ArrayList<>();
+        for (int group = 0; group < GROUPS; group++) {
+            items.add(ConfigItem.apiConfig("root." + group, "r" + group, "Root", "bench"));
+            for (int i = 1; i < GROUP_SIZE; i++) {
+                items.add(ConfigItem.apiConfig("key." + group + "." + i, "${root." + group + "}-" + i, "Key", "bench"));
+            }
+        }
+        environment.addConfigurations(items);
+        for (int group = 0; group < GROUPS; group++) {
+            for (int i = 1; i < GROUP_SIZE; i++) {
+                environment.getResolvedConfiguration("key." + group + "." + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public String memoized() {
+        return environment.getResolvedConfiguration("key.42.7");
+    }
+
+    @Benchmark
+    public void changeOneRoot(Blackhole blackhole) {
+        flip = !flip;
+        environment.addConfiguration(ConfigItem.apiConfig("root.42", flip ? "changed" : "r42", "Root", "bench"));
+        for (int i = 1; i < GROUP_SIZE; i++) {
+            blackhole.consume(environment.getResolvedConfiguration("key.42." + i));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ConfigInterpolationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.ProductionEnvironment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares resolving a setting through a key-to-value map rebuilt on every call with the
+ * maintained {@link Environment#getConfigMap()}, in the steady state where the
+ * configuration does not change between reads.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.ConfigMapBenchmark},
+ * adding {@code -prof gc} to see the allocation rate per read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigMapBenchmark {
+
+    @Param({"50"})
+    private int configCount;
+
+    private Environment environment;
+
+    @Setup
+    public void setUp() {
+        environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        for (int i = 0; i < configCount; i++) {
+            environment.addConfiguration(ConfigItem.apiConfig("api.setting" + i, String.valueOf(i), "Setting", "bench"));
+        }
+    }
+
+    @Benchmark
+    public void rebuiltPerCall(Blackhole blackhole) {
+        Map<String, String> values = environment.getConfigurations().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getValue()));
+        blackhole.consume(values.get("LOG_LEVEL"));
+    }
+
+    @Benchmark
+    public void maintained(Blackhole blackhole) {
+        blackhole.consume(environment.getConfigMap().get("LOG_LEVEL"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ConfigMapBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.EnvironmentType;
+import com.environment.manager.model.ProductionEnvironment;
+import com.environment.manager.repository.InMemoryEnvironmentRepository;
+import com.environment.manager.service.ConfigurationService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a configuration drift scan over a production fleet in which one environment in
+ * a thousand has drifted from the template.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.DriftDetectionBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DriftDetectionBenchmark {
+
+    @Param({"10000"})
+    private int fleetSize;
+
+    private ConfigurationService configurationService;
+    private Map<String, ConfigItem> template;
+
+    @Setup
+    public void setUp() {
+        InMemoryEnvironmentRepository repository = new InMemoryEnvironmentRepository();
+        configurationService = new ConfigurationService(repository);
+        for (int i = 0; i < fleetSize; i++) {
+            Environment environment = new ProductionEnvironment(String.format("PROD-%05d", i), "Prod " + i,
+                    "https://app.company.com");
+            if (i % 1000 == 7) {
+                environment.addConfiguration(ConfigItem.securityConfig("SSL_ENABLED", "false", "SSL off", "bench"));
+            }
+            repository.save(environment);
+        }
+        template = new ProductionEnvironment("TEMPLATE", "Template", "https://app.company.com").getConfigurations();
+    }
+
+    @Benchmark
+    public Map<String, List<String>> detectDrift() {
+        return configurationService.detectDrift(EnvironmentType.PRODUCTION, template);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DriftDetectionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
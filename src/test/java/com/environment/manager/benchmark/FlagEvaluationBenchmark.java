@@ -0,0 +1,80 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.flags.FeatureFlagEngine;
+import com.environment.manager.model.ConfigItem;
+import com.environment.manager.model.ConfigType;
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.ProductionEnvironment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FeatureFlagEngine} on an environment with dozens of flags, a third of them
+ * in percentage rollouts and a few targeted at tenants: evaluating a tenant's whole flag
+ * set, and checking a single flag by position.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.FlagEvaluationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlagEvaluationBenchmark {
+
+    @Param({"48"})
+    private int flagCount;
+
+    private final FeatureFlagEngine engine = new FeatureFlagEngine();
+    private final String[] tenants = new String[1024];
+    private Environment environment;
+    private int flag;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        for (int i = 0; i < flagCount; i++) {
+            String name = "feature.flag" + i;
+            environment.addConfiguration(ConfigItem.featureFlag(name, i % 4 != 3, "Flag " + i, "bench"));
+            if (i % 3 == 0) {
+                environment.addConfiguration(ConfigItem.numeric(name + FeatureFlagEngine.ROLLOUT_SUFFIX,
+                        (i * 7) % 100, "Rollout " + i, "bench"));
+            }
+            if (i % 8 == 3) {
+                environment.addConfiguration(new ConfigItem(name + FeatureFlagEngine.TENANTS_SUFFIX,
+                        "tenant-1,tenant-2,tenant-" + i, "Targets " + i, ConfigType.GENERAL,
+                        LocalDateTime.now(), "bench", false));
+            }
+        }
+        for (int i = 0; i < tenants.length; i++) {
+            tenants[i] = "tenant-" + i;
+        }
+        flag = engine.indexOf("feature.flag3");
+    }
+
+    @Benchmark
+    public void evaluateAll(Blackhole blackhole) {
+        blackhole.consume(engine.evaluate(environment, tenants[next++ & (tenants.length - 1)]));
+    }
+
+    @Benchmark
+    public boolean checkOne() {
+        return engine.isEnabled(environment, tenants[next++ & (tenants.length - 1)], flag);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FlagEvaluationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
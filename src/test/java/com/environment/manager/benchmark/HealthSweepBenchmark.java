@@ -0,0 +1,79 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.validator.HttpHealthChecker;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a health sweep over many stub endpoints on one embedded loopback host, where the
+ * per-host limit bounds how many probes are in flight.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.HealthSweepBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HealthSweepBenchmark {
+
+    @Param({"10000"})
+    private int endpoints;
+
+    @Param({"32"})
+    private int maxConcurrentPerHost;
+
+    private ExecutorService executor;
+    private HttpServer server;
+    private HttpHealthChecker checker;
+    private List<String> urls;
+
+    @Setup
+    public void setUp() throws IOException {
+        executor = Executors.newFixedThreadPool(32);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        checker = new HttpHealthChecker(maxConcurrentPerHost, Duration.ofSeconds(10));
+        urls = new ArrayList<>();
+        for (int i = 0; i < endpoints; i++) {
+            urls.add("http://127.0.0.1:" + server.getAddress().getPort() + "/svc/" + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<HttpHealthChecker.HealthStatus> sweep() throws Exception {
+        return checker.checkAll(urls).get(120, TimeUnit.SECONDS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(HealthSweepBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
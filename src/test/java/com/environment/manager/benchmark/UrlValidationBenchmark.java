@@ -0,0 +1,87 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.util.util.UrlSyntax;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares URL syntax validation by {@code new URL()}, {@code new URI()}, the single-pass
+ * {@link UrlSyntax#check(String)} and its memoized {@link UrlSyntax#isValid(String)}.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.UrlValidationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlValidationBenchmark {
+
+    private final String[] urls = new String[256];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = switch (i % 4) {
+                case 0 -> "https://prod" + i + ".example.com/api/v1";
+                case 1 -> "http://localhost:" + (8000 + i);
+                case 2 -> "https://staging-" + i + ".example.com:8443/health?probe=" + i;
+                default -> "not a url " + i;
+            };
+        }
+    }
+
+    @Benchmark
+    public void newUrl(Blackhole blackhole) {
+        for (String url : urls) {
+            try {
+                blackhole.consume(new URL(url));
+            } catch (MalformedURLException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void newUri(Blackhole blackhole) {
+        for (String url : urls) {
+            try {
+                blackhole.consume(new URI(url));
+            } catch (URISyntaxException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        for (String url : urls) {
+            blackhole.consume(UrlSyntax.check(url));
+        }
+    }
+
+    @Benchmark
+    public void memoized(Blackhole blackhole) {
+        for (String url : urls) {
+            blackhole.consume(UrlSyntax.isValid(url));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(UrlValidationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
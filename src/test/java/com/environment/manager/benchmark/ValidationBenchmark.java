@@ -0,0 +1,117 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.exception.ValidationException;
+import com.environment.manager.model.*;
+import com.environment.manager.util.util.ValidationErrors;
+import com.environment.manager.util.util.ValidationUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares exception-based validation with appending into a reusable error sink, on a
+ * fleet where most environments fail at least one rule.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.ValidationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"1000"})
+    private int fleetSize;
+
+    /** Share of environments that fail at least one rule. */
+    @Param({"0.8"})
+    private double invalidRatio;
+
+    private List<Environment> fleet;
+    private final ValidationErrors sink = new ValidationErrors();
+
+    @Setup
+    public void setUp() {
+        fleet = createFleet(fleetSize, invalidRatio);
+    }
+
+    @Benchmark
+    public void exceptions(Blackhole blackhole) {
+        for (Environment environment : fleet) {
+            blackhole.consume(validateWithExceptions(environment));
+        }
+    }
+
+    @Benchmark
+    public void reusableSink(Blackhole blackhole) {
+        for (Environment environment : fleet) {
+            sink.clear();
+            ValidationUtils.validateEnvironment(environment, sink);
+            blackhole.consume(sink.size());
+        }
+    }
+
+    /**
+     * Builds a fleet in which {@code invalidRatio} of the environments have a lower-case ID,
+     * and every other one of those also a service with a malformed version.
+     */
+    static List<Environment> createFleet(int size, double invalidRatio) {
+        List<Environment> fleet = new ArrayList<>(size);
+        int invalid = (int) Math.round(size * invalidRatio);
+        for (int i = 0; i < size; i++) {
+            boolean broken = i < invalid;
+            String id = (broken ? "dev-" : "DEV-") + i;
+            Environment environment = new DevelopmentEnvironment(id, "Development " + i, "http://dev" + i + ".example.com");
+            String version = broken && i % 2 == 0 ? "1.0" : "1.0.0";
+            environment.addService(new Service("svc-" + i, "Service " + i, version, ServiceType.WEB_SERVICE));
+            fleet.add(environment);
+        }
+        return fleet;
+    }
+
+    /**
+     * The catch-and-unwrap pattern the sink API replaces.
+     */
+    static List<String> validateWithExceptions(Environment environment) {
+        List<String> errors = new ArrayList<>();
+        try {
+            ValidationUtils.validateEnvironmentId(environment.getId());
+        } catch (ValidationException e) {
+            errors.addAll(e.getValidationErrors());
+        }
+        try {
+            ValidationUtils.validateEnvironmentName(environment.getName());
+        } catch (ValidationException e) {
+            errors.addAll(e.getValidationErrors());
+        }
+        try {
+            ValidationUtils.validateUrl(environment.getBaseUrl(), "Base URL");
+        } catch (ValidationException e) {
+            errors.addAll(e.getValidationErrors());
+        }
+        for (Service service : environment.getServices()) {
+            try {
+                ValidationUtils.validateVersion(service.getVersion());
+            } catch (ValidationException e) {
+                errors.add("Service '" + service.getName() + "': " + String.join("; ", e.getValidationErrors()));
+            }
+        }
+        return errors;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ValidationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
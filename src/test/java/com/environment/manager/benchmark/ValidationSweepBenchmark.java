@@ -0,0 +1,67 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.ProductionEnvironment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a validation sweep over a fleet whose content changes before every sweep with
+ * one over an unchanged fleet, where every environment returns its memoized result.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.ValidationSweepBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationSweepBenchmark {
+
+    @Param({"10000"})
+    private int fleetSize;
+
+    private List<Environment> fleet;
+    private boolean flip;
+
+    @Setup
+    public void setUp() {
+        fleet = new ArrayList<>();
+        for (int i = 0; i < fleetSize; i++) {
+            fleet.add(new ProductionEnvironment("PROD-" + i, "Prod " + i, "https://app-" + i + ".company.com"));
+        }
+    }
+
+    @Benchmark
+    public void changed(Blackhole blackhole) {
+        flip = !flip;
+        String databaseUrl = flip ? "jdbc:postgresql://db-a:5432/app" : "jdbc:postgresql://db-b:5432/app";
+        for (Environment environment : fleet) {
+            environment.setDatabaseUrl(databaseUrl);
+            blackhole.consume(environment.getValidationIssues());
+        }
+    }
+
+    @Benchmark
+    public void unchanged(Blackhole blackhole) {
+        for (Environment environment : fleet) {
+            blackhole.consume(environment.getValidationIssues());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ValidationSweepBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.environment.manager.benchmark;
+
+import com.environment.manager.observer.NotificationObserver.NotificationPriority;
+import com.environment.manager.observer.WebhookNotificationChannel;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures webhook delivery against an embedded receiver on the loopback interface: the
+ * sustained rate of a burst throttled by the in-flight limit, and the latency of a single
+ * delivery.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.environment.manager.benchmark.WebhookDeliveryBenchmark}.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebhookDeliveryBenchmark {
+
+    private static final int BURST = 500;
+
+    @Param({"32"})
+    private int maxConcurrentRequests;
+
+    private ExecutorService executor;
+    private HttpServer server;
+    private WebhookNotificationChannel channel;
+
+    @Setup
+    public void setUp() throws IOException {
+        executor = Executors.newFixedThreadPool(8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/hook", WebhookDeliveryBenchmark::handle);
+        server.start();
+        URI endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/hook");
+        channel = new WebhookNotificationChannel(endpoint, maxConcurrentRequests, Duration.ofSeconds(10));
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+        }
+        exchange.sendResponseHeaders(200, -1);
+        exchange.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BURST)
+    public void burst() throws InterruptedException {
+        for (int i = 0; i < BURST; i++) {
+            channel.sendNotification("DEPLOYMENT_STARTED", "Deployment #" + i, NotificationPriority.INFO);
+        }
+        if (!channel.awaitInFlight(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Webhook burst did not drain");
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int single() throws Exception {
+        return channel.sendAsync("DEPLOYMENT_STARTED", "Deployment", NotificationPriority.INFO).get(10, TimeUnit.SECONDS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(WebhookDeliveryBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,169 @@
+package com.environment.manager.event;
+
+import com.environment.manager.model.*;
+import com.environment.manager.observer.DeploymentObserver;
+import com.environment.manager.repository.InMemoryEnvironmentRepository;
+import com.environment.manager.service.DeploymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventBusTest {
+
+    private EventBus bus;
+    private Environment dev;
+    private Environment prod;
+    private Service service;
+
+    @BeforeEach
+    void setUp() {
+        bus = new EventBus();
+        dev = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        prod = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        service = new Service("web-001", "Web App", "1.0.0", ServiceType.WEB_SERVICE);
+    }
+
+    @Test
+    @DisplayName("Events only reach subscribers of their topic")
+    void testTopicRouting() {
+        List<EnvironmentEvent> deployments = new ArrayList<>();
+        List<EnvironmentEvent> health = new ArrayList<>();
+        bus.subscribe(DeploymentEvent.class, deployments::add);
+        bus.subscribe(HealthEvent.class, health::add);
+
+        bus.publish(DeploymentEvent.started(dev, service, "2.0.0", "alice"));
+
+        assertEquals(1, deployments.size());
+        assertTrue(health.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Environment type and ID subscriptions are routed by index")
+    void testIndexedRouting() {
+        AtomicInteger prodOnly = new AtomicInteger();
+        AtomicInteger devById = new AtomicInteger();
+        AtomicInteger devByIdAndWrongType = new AtomicInteger();
+        bus.on(HealthEvent.class).forEnvironmentType(EnvironmentType.PRODUCTION)
+                .subscribe(event -> prodOnly.incrementAndGet());
+        bus.on(HealthEvent.class).forEnvironment("DEV-001")
+                .subscribe(event -> devById.incrementAndGet());
+        bus.on(HealthEvent.class).forEnvironment("DEV-001").forEnvironmentType(EnvironmentType.PRODUCTION)
+                .subscribe(event -> devByIdAndWrongType.incrementAndGet());
+
+        bus.publish(HealthEvent.of(dev, HealthEvent.Severity.WARNING, "slow"));
+        bus.publish(HealthEvent.of(prod, HealthEvent.Severity.CRITICAL, "down"));
+
+        assertEquals(1, prodOnly.get());
+        assertEquals(1, devById.get());
+        assertEquals(0, devByIdAndWrongType.get());
+    }
+
+    @Test
+    @DisplayName("Predicates filter events and cancelled subscriptions stop receiving")
+    void testFilterAndCancel() {
+        List<DeploymentEvent> failures = new ArrayList<>();
+        EventBus.Subscription subscription = bus.on(DeploymentEvent.class)
+                .filter(event -> event.phase() == DeploymentEvent.Phase.FAILED)
+                .subscribe(failures::add);
+        assertEquals(1, bus.getSubscriberCount(EventTopic.DEPLOYMENT));
+
+        bus.publish(DeploymentEvent.succeeded(dev, service, "2.0.0", "alice"));
+        bus.publish(DeploymentEvent.failed(dev, service, "2.0.0", "alice", "boom"));
+        assertEquals(1, failures.size());
+        assertEquals("boom", failures.get(0).error());
+
+        subscription.cancel();
+        assertFalse(subscription.isActive());
+        assertEquals(0, bus.getSubscriberCount(EventTopic.DEPLOYMENT));
+        bus.publish(DeploymentEvent.failed(dev, service, "2.0.1", "alice", "again"));
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    @DisplayName("Cancelling the last subscription for an environment drops its index entry")
+    void testEnvironmentIndexIsPruned() throws Exception {
+        List<EventBus.Subscription> subscriptions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            subscriptions.add(bus.on(DeploymentEvent.class).forEnvironment("ENV-" + i).subscribe(event -> { }));
+        }
+        EventBus.Subscription second = bus.on(DeploymentEvent.class).forEnvironment("ENV-0").subscribe(event -> { });
+        assertEquals(1000, bus.getSubscribedEnvironmentCount(EventTopic.DEPLOYMENT));
+
+        subscriptions.forEach(EventBus.Subscription::cancel);
+        assertEquals(1, bus.getSubscribedEnvironmentCount(EventTopic.DEPLOYMENT));
+        second.cancel();
+        second.cancel();
+        assertEquals(0, bus.getSubscribedEnvironmentCount(EventTopic.DEPLOYMENT));
+        assertEquals(0, bus.getSubscriberCount(EventTopic.DEPLOYMENT));
+
+        // Subscribing while another thread cancels on the same key never loses the new subscription
+        AtomicInteger received = new AtomicInteger();
+        Thread churn = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                bus.on(DeploymentEvent.class).forEnvironment("DEV-001").subscribe(event -> { }).cancel();
+            }
+        });
+        churn.start();
+        List<EventBus.Subscription> kept = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            kept.add(bus.on(DeploymentEvent.class).forEnvironment("DEV-001")
+                    .subscribe(event -> received.incrementAndGet()));
+        }
+        churn.join();
+        bus.publish(DeploymentEvent.started(dev, service, "2.0.0", "alice"));
+        assertEquals(1000, received.get());
+        kept.forEach(EventBus.Subscription::cancel);
+        assertEquals(0, bus.getSubscribedEnvironmentCount(EventTopic.DEPLOYMENT));
+    }
+
+    @Test
+    @DisplayName("A failing handler does not block other subscribers")
+    void testHandlerIsolation() {
+        AtomicInteger delivered = new AtomicInteger();
+        bus.subscribe(ValidationEvent.class, event -> { throw new IllegalStateException("broken handler"); });
+        bus.subscribe(ValidationEvent.class, event -> delivered.incrementAndGet());
+
+        bus.publish(ValidationEvent.of(dev, List.of("error"), List.of()));
+
+        assertEquals(1, delivered.get());
+    }
+
+    @Test
+    @DisplayName("DeploymentService routes classic observers through the bus")
+    void testDeploymentServiceObserverAdapter() {
+        InMemoryEnvironmentRepository repository = new InMemoryEnvironmentRepository();
+        repository.save(dev);
+        DeploymentService deploymentService = new DeploymentService(repository, bus);
+        List<String> calls = new ArrayList<>();
+        DeploymentObserver observer = new DeploymentObserver() {
+            public void onDeploymentStart(Environment e, Service s, String v) { calls.add("start " + v); }
+            public void onDeploymentSuccess(Environment e, Service s, String v) { calls.add("success " + v); }
+            public void onDeploymentFailure(Environment e, Service s, String v, String err) { calls.add("failure"); }
+            public void onRollback(Environment e, Service s) { calls.add("rollback " + s.getId()); }
+        };
+        deploymentService.addObserver(observer);
+
+        deploymentService.setDeploymentStrategy(new NoOpStrategy());
+        assertTrue(deploymentService.deployToEnvironment("Dev", service, "2.0.0", "alice"));
+        assertTrue(deploymentService.rollback("Dev", "web-001"));
+        assertEquals(List.of("start 2.0.0", "success 2.0.0", "rollback web-001"), calls);
+
+        deploymentService.removeObserver(observer);
+        assertEquals(0, bus.getSubscriberCount(EventTopic.DEPLOYMENT));
+    }
+
+    private static class NoOpStrategy implements com.environment.manager.strategy.DeploymentStrategy {
+        public void deploy(Environment environment, Service service, String version) {
+            environment.updateStatus(DeploymentStatus.SUCCESS);
+        }
+        public void rollback(Environment environment, Service service) { }
+        public String getStrategyName() { return "No-op"; }
+        public String getDescription() { return "Test strategy"; }
+    }
+}
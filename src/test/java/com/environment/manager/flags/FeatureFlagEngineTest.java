@@ -0,0 +1,89 @@
+package com.environment.manager.flags;
+
+import com.environment.manager.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureFlagEngineTest {
+
+    private FeatureFlagEngine engine;
+    private Environment environment;
+
+    @BeforeEach
+    void setUp() {
+        engine = new FeatureFlagEngine();
+        environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        environment.addConfiguration(ConfigItem.featureFlag("feature.newUi", true, "New UI", "alice"));
+        environment.addConfiguration(ConfigItem.numeric("feature.newUi.rollout", 25, "New UI rollout", "alice"));
+        environment.addConfiguration(ConfigItem.featureFlag("feature.beta", false, "Beta", "alice"));
+        environment.addConfiguration(new ConfigItem("feature.beta.tenants", "acme, globex", "Beta tenants",
+                ConfigType.GENERAL, LocalDateTime.now(), "alice", false));
+        environment.addConfiguration(ConfigItem.featureFlag("feature.search", true, "Search", "alice"));
+    }
+
+    @Test
+    @DisplayName("Combines global flags, rollouts and tenant targeting")
+    void testEvaluation() {
+        FlagSet acme = engine.evaluate(environment, "acme");
+        assertTrue(acme.isEnabled("feature.search"));
+        assertTrue(acme.isEnabled("feature.beta"));
+        assertFalse(acme.isEnabled("DEBUG_MODE"));
+        assertFalse(acme.isEnabled("feature.unknown"));
+        assertEquals(acme.isEnabled("feature.newUi"), CompiledFlags.bucketOf("acme") < 25);
+
+        FlagSet anonymous = engine.evaluate(environment, null);
+        assertEquals(List.of("feature.search"), anonymous.getEnabledFlags());
+        assertTrue(acme.containsAll(anonymous));
+        assertFalse(engine.isEnabled(environment, "initech", "feature.beta"));
+
+        int newUi = engine.indexOf("feature.newUi");
+        int enabled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String tenant = "tenant-" + i;
+            boolean expected = CompiledFlags.bucketOf(tenant) < 25;
+            assertEquals(expected, engine.isEnabled(environment, tenant, newUi), tenant);
+            assertEquals(expected, engine.evaluate(environment, tenant).isEnabled(newUi), tenant);
+            enabled += expected ? 1 : 0;
+        }
+        // Buckets spread tenants evenly
+        assertTrue(enabled > 2200 && enabled < 2800, "enabled: " + enabled);
+    }
+
+    @Test
+    @DisplayName("Recompiles after the configuration changes and keeps flag positions stable")
+    void testRecompilation() {
+        int search = engine.indexOf("feature.search");
+        assertTrue(engine.isEnabled(environment, "acme", search));
+
+        environment.addConfiguration(ConfigItem.featureFlag("feature.search", false, "Search", "bob"));
+        assertFalse(engine.isEnabled(environment, "acme", search));
+
+        environment.addConfiguration(ConfigItem.numeric("feature.newUi.rollout", 100, "New UI rollout", "bob"));
+        assertTrue(engine.evaluate(environment, "initech").isEnabled("feature.newUi"));
+        environment.addConfiguration(ConfigItem.numeric("feature.newUi.rollout", 0, "New UI rollout", "bob"));
+        assertFalse(engine.evaluate(environment, "initech").isEnabled("feature.newUi"));
+
+        Environment other = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        other.addConfiguration(ConfigItem.featureFlag("feature.search", true, "Search", "bob"));
+        assertTrue(engine.evaluate(other, "acme").isEnabled(search));
+        assertEquals(search, engine.indexOf("feature.search"));
+    }
+
+    @Test
+    @DisplayName("Treats a rollout that is not an integer as no rollout")
+    void testMalformedRollout() {
+        for (String rollout : List.of("10%", "10s", "ten", "")) {
+            environment.addConfiguration(new ConfigItem("feature.newUi.rollout", rollout, "New UI rollout",
+                    ConfigType.GENERAL, LocalDateTime.now(), "bob", false));
+            for (int i = 0; i < 100; i++) {
+                assertFalse(engine.isEnabled(environment, "tenant-" + i, "feature.newUi"), rollout);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.environment.manager.history;
+
+import com.environment.manager.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnvironmentChangeLogTest {
+
+    private EnvironmentChangeLog log;
+    private Environment environment;
+
+    @BeforeEach
+    void setUp() {
+        log = new EnvironmentChangeLog(4);
+        environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        log.track(environment);
+    }
+
+    @Test
+    @DisplayName("Every mutation is recorded as a sequenced change")
+    void testMutationsAreRecorded() {
+        Service service = new Service("web-001", "Web App", "1.0.0", ServiceType.WEB_SERVICE);
+        environment.addService(service);
+        environment.addConfiguration(ConfigItem.apiConfig("TIMEOUT", "30", "Timeout", "alice"));
+        environment.removeConfiguration("TIMEOUT");
+        environment.updateStatus(DeploymentStatus.SUCCESS);
+        environment.setCurrentVersion("2.0.0");
+        environment.removeService("web-001");
+        environment.removeService("missing");
+
+        List<EnvironmentChangeType> types = new ArrayList<>();
+        log.replayAll((sequence, timestamp, environmentId, type, payload) -> types.add(type));
+
+        assertEquals(List.of(EnvironmentChangeType.SERVICE_ADDED, EnvironmentChangeType.CONFIG_PUT,
+                EnvironmentChangeType.CONFIG_REMOVED, EnvironmentChangeType.STATUS_CHANGED,
+                EnvironmentChangeType.VERSION_CHANGED, EnvironmentChangeType.SERVICE_REMOVED), types);
+        assertEquals(6, log.getLastSequence());
+    }
+
+    @Test
+    @DisplayName("State can be rebuilt at any sequence number")
+    void testRebuildAtSequence() {
+        environment.setCurrentVersion("2.0.0");
+        long afterFirstDeploy = log.getLastSequence();
+        environment.addConfiguration(ConfigItem.featureFlag("NEW_UI", true, "New UI", "alice"));
+        environment.updateStatus(DeploymentStatus.SUCCESS);
+        for (int i = 0; i < 10; i++) {
+            environment.setCurrentVersion("3.0." + i);
+        }
+
+        EnvironmentState early = log.stateAt("DEV-001", afterFirstDeploy).orElseThrow();
+        assertEquals("2.0.0", early.currentVersion());
+        assertNull(early.getConfiguration("NEW_UI"));
+        assertEquals(DeploymentStatus.PENDING, early.status());
+        assertFalse(early.active());
+
+        EnvironmentState latest = log.stateAt("DEV-001", log.getLastSequence()).orElseThrow();
+        assertEquals("3.0.9", latest.currentVersion());
+        assertNotNull(latest.getConfiguration("NEW_UI"));
+        assertTrue(latest.active());
+        assertEquals(environment.getConfigurations().size(), latest.configurations().size());
+
+        assertTrue(log.getSnapshotCount("DEV-001") > 1);
+        assertTrue(log.stateAt("UNKNOWN", 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("State can be rebuilt at a point in time")
+    void testRebuildAtInstant() throws Exception {
+        environment.setCurrentVersion("2.0.0");
+        Thread.sleep(5);
+        Instant between = Instant.now();
+        Thread.sleep(5);
+        environment.setCurrentVersion("3.0.0");
+
+        assertEquals("2.0.0", log.stateAt("DEV-001", between).orElseThrow().currentVersion());
+        assertEquals("3.0.0", log.fleetStateAt(Instant.now()).get("DEV-001").currentVersion());
+    }
+
+    @Test
+    @DisplayName("Untracked environments stop recording")
+    void testUntrack() {
+        log.untrack(environment);
+        environment.setCurrentVersion("9.9.9");
+        assertEquals(0, log.getLastSequence());
+    }
+
+    @Test
+    @DisplayName("Replay visits every change in order")
+    void testReplayAll() {
+        EnvironmentChangeLog bigLog = new EnvironmentChangeLog();
+        Environment prod = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        bigLog.track(prod);
+        int events = 10_000;
+        for (int i = 0; i < events; i++) {
+            prod.setActive((i & 1) == 0);
+        }
+
+        AtomicLong trueCount = new AtomicLong();
+        AtomicLong lastSequence = new AtomicLong();
+        bigLog.replayAll((sequence, timestamp, environmentId, type, payload) -> {
+            assertTrue(sequence > lastSequence.getAndSet(sequence));
+            if (payload == Boolean.TRUE) {
+                trueCount.incrementAndGet();
+            }
+        });
+
+        assertEquals(events / 2, trueCount.get());
+        assertEquals(bigLog.getLastSequence(), lastSequence.get());
+        assertFalse(bigLog.stateAt("PROD-001", bigLog.getLastSequence()).orElseThrow().active());
+    }
+}
@@ -0,0 +1,248 @@
+package com.environment.manager.io;
+
+import com.environment.manager.exception.ConfigImportException;
+import com.environment.manager.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigImporterTest {
+
+    private final ConfigImporter importer = new ConfigImporter("alice");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Reads nested keys, comments and typed values from every format")
+    void testFormats() throws IOException {
+        String json = """
+                {
+                  "app": {"name": "demo", "debug": true, "workers": 8, "note": null},
+                  "db.password": "s3cr#t",
+                  "timeout": "30s",
+                  "escaped": "tab\\there \\u00e9"
+                }
+                """;
+        String yaml = """
+                # Demo settings
+                app:
+                  name: demo   # trailing comment
+                  debug: true
+                  workers: 8
+                  note: ~
+                db.password: 's3cr#t'
+                timeout: "30s"
+                escaped: "tab\\there \\u00e9"
+                """;
+        String properties = """
+                # Demo settings
+                ! another comment
+                app.name = demo
+                app.debug: true
+                app.workers 8
+                db.password=s3cr#t
+                escaped=tab\\there \\
+                    \\u00e9
+                """;
+
+        for (Map.Entry<ConfigFormat, String> document : Map.of(
+                ConfigFormat.JSON, json, ConfigFormat.YAML, yaml, ConfigFormat.PROPERTIES, properties).entrySet()) {
+            Environment environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+            importer.importFrom(stream(document.getValue()), document.getKey(), environment);
+            String format = document.getKey().name();
+
+            assertEquals("demo", environment.getConfiguration("app.name").getValue(), format);
+            assertEquals(ConfigType.GENERAL, environment.getConfiguration("app.name").getType(), format);
+            assertTrue(environment.getConfiguration("app.debug").getBoolean(), format);
+            assertEquals(ConfigType.FEATURE_FLAG, environment.getConfiguration("app.debug").getType(), format);
+            assertEquals(8, environment.getConfiguration("app.workers").getLong(), format);
+            assertNull(environment.getConfiguration("app.note"), format);
+            ConfigItem password = environment.getConfiguration("db.password");
+            assertEquals("s3cr#t", password.getValue(), format);
+            assertEquals(ConfigType.SECRET, password.getType(), format);
+            assertTrue(password.isEncrypted(), format);
+            assertEquals("tab\there é", environment.getConfiguration("escaped").getValue(), format);
+            assertEquals("alice", environment.getConfiguration("app.name").getModifiedBy(), format);
+        }
+    }
+
+    @Test
+    @DisplayName("Exports and re-imports awkward keys and values unchanged in every format")
+    void testRoundTrip() throws IOException {
+        Environment source = new StagingEnvironment("STG-001", "Staging", "https://staging.company.com");
+        source.addConfiguration(ConfigItem.apiConfig("api.greeting", " leading = and: trailing ", "", "bob"));
+        source.addConfiguration(ConfigItem.apiConfig("api.multiline", "line 1\nline 2\ttabbed \\ slash", "", "bob"));
+        source.addConfiguration(ConfigItem.apiConfig("api.quotes", "say \"hi\" and 'bye' # not a comment", "", "bob"));
+        source.addConfiguration(ConfigItem.apiConfig("odd key: #1", "héllo ✓", "", "bob"));
+        source.addConfiguration(ConfigItem.apiConfig("api.empty", "", "", "bob"));
+        source.addConfiguration(ConfigItem.apiConfig("api.looks_numeric", "42", "", "bob"));
+        source.addConfiguration(ConfigItem.numeric("api.retries", 3, "", "bob"));
+        source.addConfiguration(ConfigItem.secret("API_TOKEN", "t0k3n", "", "bob"));
+
+        for (ConfigFormat format : ConfigFormat.values()) {
+            Path file = tempDir.resolve("export" + (format == ConfigFormat.YAML ? ".yml" : "." + format.name().toLowerCase()));
+            int written = new ConfigExporter(true).exportFile(source, file);
+            assertEquals(source.getConfigMap().size(), written, format.name());
+
+            Environment target = new StagingEnvironment("STG-002", "Staging 2", "https://staging.company.com");
+            ConfigImporter.ImportResult result = importer.importFile(file, target);
+
+            assertEquals(written, result.imported(), format.name());
+            assertEquals(source.getConfigMap(), target.getConfigMap(), format.name());
+            assertEquals(ConfigType.NUMERIC, target.getConfiguration("api.retries").getType(), format.name());
+            if (format != ConfigFormat.PROPERTIES) {
+                // Properties are untyped, so only JSON and YAML keep a number-like string a string
+                assertEquals(ConfigType.API_CONFIG, target.getConfiguration("api.looks_numeric").getType());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Brings back the types each format can express")
+    void testTypeRoundTrip() throws IOException {
+        Environment source = new StagingEnvironment("STG-001", "Staging", "https://staging.company.com");
+        source.addConfiguration(item("security.sslEnabled", "true", ConfigType.SECURITY_CONFIG));
+        source.addConfiguration(item("security.strict", "false", ConfigType.FEATURE_FLAG));
+        source.addConfiguration(item("cache.ttl", "3600", ConfigType.GENERAL));
+        source.addConfiguration(item("cache.enabled", "true", ConfigType.GENERAL));
+        source.addConfiguration(item("cache.size", "-512", ConfigType.NUMERIC));
+        source.addConfiguration(item("api.timeout", "30s", ConfigType.NUMERIC));
+
+        Map<ConfigFormat, Map<String, ConfigType>> expected = Map.of(
+                ConfigFormat.YAML, Map.of("security.sslEnabled", ConfigType.SECURITY_CONFIG,
+                        "security.strict", ConfigType.FEATURE_FLAG, "cache.ttl", ConfigType.GENERAL,
+                        "cache.enabled", ConfigType.GENERAL, "cache.size", ConfigType.NUMERIC,
+                        "api.timeout", ConfigType.NUMERIC),
+                // JSON has no bare durations
+                ConfigFormat.JSON, Map.of("security.sslEnabled", ConfigType.SECURITY_CONFIG,
+                        "security.strict", ConfigType.FEATURE_FLAG, "cache.ttl", ConfigType.GENERAL,
+                        "cache.enabled", ConfigType.GENERAL, "cache.size", ConfigType.NUMERIC,
+                        "api.timeout", ConfigType.API_CONFIG),
+                // Properties are unquoted, so booleans and numbers always come back typed
+                ConfigFormat.PROPERTIES, Map.of("security.sslEnabled", ConfigType.FEATURE_FLAG,
+                        "security.strict", ConfigType.FEATURE_FLAG, "cache.ttl", ConfigType.NUMERIC,
+                        "cache.enabled", ConfigType.FEATURE_FLAG, "cache.size", ConfigType.NUMERIC,
+                        "api.timeout", ConfigType.NUMERIC));
+
+        for (ConfigFormat format : ConfigFormat.values()) {
+            StringWriter out = new StringWriter();
+            new ConfigExporter().export(source, format, out);
+            Environment target = new StagingEnvironment("STG-002", "Staging 2", "https://staging.company.com");
+            importer.importFrom(stream(out.toString()), format, target);
+
+            expected.get(format).forEach((key, type) -> {
+                assertEquals(source.getConfiguration(key).getValue(), target.getConfiguration(key).getValue());
+                assertEquals(type, target.getConfiguration(key).getType(), format + " " + key + "\n" + out);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Leaves encrypted values out of exports unless asked to include them")
+    void testExportOmitsSecrets() throws IOException {
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        for (ConfigFormat format : ConfigFormat.values()) {
+            StringWriter out = new StringWriter();
+            new ConfigExporter().export(environment, format, out);
+            assertFalse(out.toString().contains("prod-api-key-789"), out.toString());
+            assertFalse(out.toString().contains("prod_encrypted_pass"), out.toString());
+            assertTrue(out.toString().contains("LOG_LEVEL"), out.toString());
+
+            StringWriter all = new StringWriter();
+            new ConfigExporter(true).export(environment, format, all);
+            assertTrue(all.toString().contains("prod-api-key-789"), all.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Reports the line of malformed input and leaves the configuration unchanged")
+    void testMalformedInput() {
+        assertLine(3, ConfigFormat.JSON, "{\n  \"a\": 1,\n  \"b\" 2\n}");
+        assertLine(2, ConfigFormat.JSON, "{\n  \"list\": [1, 2]\n}");
+        assertLine(4, ConfigFormat.JSON, "{\n  \"a\": \"x\"\n}\n{}");
+        assertLine(1, ConfigFormat.JSON, "{\"a\": 01}");
+        assertLine(2, ConfigFormat.JSON, "{\"a\": 1,\n \"b\": -}");
+        assertLine(3, ConfigFormat.YAML, "app:\n  name: demo\n  - item\n");
+        assertLine(3, ConfigFormat.YAML, "app:\n    name: demo\n  port: 80\n");
+        assertLine(1, ConfigFormat.YAML, "text: |\n  block\n");
+        assertLine(2, ConfigFormat.YAML, "a: 1\n\tb: 2\n");
+        assertLine(2, ConfigFormat.PROPERTIES, "a=1\nb=\\u00zz\n");
+    }
+
+    @Test
+    @DisplayName("Enforces the byte limit while streaming and applies nothing")
+    void testSizeLimit() {
+        Environment environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        Map<String, String> before = environment.getConfigMap();
+        StringBuilder document = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            document.append("key.").append(i).append('=').append(i).append('\n');
+        }
+        long version = environment.getConfigurationVersion();
+
+        // About 25 KB against a 16 KB limit: the first batches are staged before it is hit
+        ConfigImporter limited = new ConfigImporter("alice", 10, 16_384);
+        ConfigImportException e = assertThrows(ConfigImportException.class,
+                () -> limited.importFrom(stream(document.toString()), ConfigFormat.PROPERTIES, environment));
+        assertTrue(e.getMessage().contains("16384 bytes"), e.getMessage());
+        assertEquals(version, environment.getConfigurationVersion());
+        assertEquals(before, environment.getConfigMap());
+    }
+
+    @Test
+    @DisplayName("Commits a whole import, however many batches, as one configuration version")
+    void testBatching() throws IOException {
+        Environment environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        StringBuilder document = new StringBuilder();
+        for (int i = 0; i < 2500; i++) {
+            document.append("key.").append(i).append(": ").append(i).append('\n');
+        }
+        long version = environment.getConfigurationVersion();
+
+        ConfigImporter.ImportResult result = new ConfigImporter("alice", 1000, 1 << 20)
+                .importFrom(stream(document.toString()), ConfigFormat.YAML, environment);
+
+        assertEquals(2500, result.imported());
+        assertEquals(3, result.batches());
+        assertEquals(document.length(), result.bytesRead());
+        assertEquals(version + 1, environment.getConfigurationVersion());
+        assertEquals(2500, environment.getConfigurationHistory().get(environment.getConfigurationHistory().size() - 1)
+                .items().keySet().stream().filter(key -> key.startsWith("key.")).count());
+        assertEquals(2499, environment.getConfiguration("key.2499").getLong());
+
+        Map<String, String> before = environment.getConfigMap();
+        document.append("broken line\n");
+        assertThrows(ConfigImportException.class, () -> new ConfigImporter("bob", 1000, 1 << 20)
+                .importFrom(stream(document.toString().replace(": ", ": v")), ConfigFormat.YAML, environment));
+        assertEquals(before, environment.getConfigMap());
+        assertEquals(version + 1, environment.getConfigurationVersion());
+    }
+
+    private void assertLine(int line, ConfigFormat format, String document) {
+        Environment environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        Map<String, String> before = environment.getConfigMap();
+        ConfigImportException e = assertThrows(ConfigImportException.class,
+                () -> importer.importFrom(stream(document), format, environment), document);
+        assertEquals(line, e.getLine(), e.getMessage());
+        assertEquals(before, environment.getConfigMap());
+    }
+
+    private static ConfigItem item(String key, String value, ConfigType type) {
+        return new ConfigItem(key, value, "", type, LocalDateTime.now(), "bob", false);
+    }
+
+    private static ByteArrayInputStream stream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+}
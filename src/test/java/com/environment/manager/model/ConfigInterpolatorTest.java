@@ -0,0 +1,124 @@
+package com.environment.manager.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigInterpolatorTest {
+
+    @Test
+    @DisplayName("Resolves nested references, built-ins and escapes and keeps unknown references")
+    void testResolve() {
+        Environment environment = new QAEnvironment("QA-001", "QA", "https://qa.company.com");
+        environment.addConfiguration(ConfigItem.apiConfig("api.version", "v1", "", "alice"));
+        environment.addConfiguration(ConfigItem.apiConfig("api.endpoint", "${env.baseUrl}/api/${api.version}", "", "alice"));
+        environment.addConfiguration(ConfigItem.apiConfig("api.health", "${api.endpoint}/health", "", "alice"));
+        environment.addConfiguration(ConfigItem.apiConfig("api.literal", "$${api.version} ${} ${unclosed", "", "alice"));
+        environment.addConfiguration(ConfigItem.apiConfig("api.missing", "${api.unknown}/x", "", "alice"));
+
+        assertEquals("https://qa.company.com/api/v1/health", environment.getResolvedConfiguration("api.health"));
+        assertEquals("${api.version} ${} ${unclosed", environment.getResolvedConfiguration("api.literal"));
+        assertEquals("${api.unknown}/x", environment.getResolvedConfiguration("api.missing"));
+        assertEquals("INFO", environment.getResolvedConfiguration("LOG_LEVEL"));
+        assertNull(environment.getResolvedConfiguration("api.unknown"));
+        assertEquals("QA-001: https://qa.company.com/api/v1",
+                environment.interpolate("${env.id}: ${api.endpoint}"));
+        // The stored value is not changed
+        assertEquals("${api.endpoint}/health", environment.getConfiguration("api.health").getValue());
+
+        environment.addConfiguration(ConfigItem.apiConfig("api.unknown", "known", "", "alice"));
+        assertEquals("known/x", environment.getResolvedConfiguration("api.missing"));
+        environment.addConfiguration(ConfigItem.apiConfig("api.version", "v2", "", "alice"));
+        assertEquals("https://qa.company.com/api/v2/health", environment.getResolvedConfiguration("api.health"));
+        environment.removeConfiguration("api.unknown");
+        assertEquals("${api.unknown}/x", environment.getResolvedConfiguration("api.missing"));
+    }
+
+    @Test
+    @DisplayName("Updates and removes a value that refers to the same key twice")
+    void testRepeatedReference() {
+        Environment environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        environment.addConfiguration(ConfigItem.apiConfig("db.host", "db-1", "", "alice"));
+        environment.addConfiguration(ConfigItem.apiConfig("url", "jdbc://${db.host}/${db.host}", "", "alice"));
+        assertEquals("jdbc://db-1/db-1", environment.getResolvedConfiguration("url"));
+
+        environment.addConfiguration(ConfigItem.apiConfig("url", "${db.host}:${db.host}", "", "alice"));
+        assertEquals("db-1:db-1", environment.getResolvedConfiguration("url"));
+        environment.addConfiguration(ConfigItem.apiConfig("db.host", "db-2", "", "alice"));
+        assertEquals("db-2:db-2", environment.getResolvedConfiguration("url"));
+
+        environment.removeConfiguration("url");
+        assertNull(environment.getConfiguration("url"));
+        assertNull(environment.getResolvedConfiguration("url"));
+        environment.addConfiguration(ConfigItem.apiConfig("db.host", "db-3", "", "alice"));
+        assertEquals("db-3", environment.getResolvedConfiguration("db.host"));
+    }
+
+    @Test
+    @DisplayName("Reports circular references with the cycle and recovers once it is broken")
+    void testCycles() {
+        Environment environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        environment.addConfiguration(ConfigItem.apiConfig("a", "${b}", "", "alice"));
+        environment.addConfiguration(ConfigItem.apiConfig("b", "${c}!", "", "alice"));
+        environment.addConfiguration(ConfigItem.apiConfig("c", "${a}", "", "alice"));
+        environment.addConfiguration(ConfigItem.apiConfig("d", "${d}", "", "alice"));
+        environment.addConfiguration(ConfigItem.apiConfig("e", "fine", "", "alice"));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> environment.getResolvedConfiguration("a"));
+        assertTrue(e.getMessage().endsWith("a -> b -> c -> a"), e.getMessage());
+        e = assertThrows(IllegalStateException.class, () -> environment.getResolvedConfiguration("d"));
+        assertTrue(e.getMessage().endsWith("d -> d"), e.getMessage());
+        assertEquals("fine", environment.getResolvedConfiguration("e"));
+
+        environment.addConfiguration(ConfigItem.apiConfig("c", "${e}", "", "alice"));
+        assertEquals("fine!", environment.getResolvedConfiguration("a"));
+    }
+
+    @Test
+    @DisplayName("Re-resolves only the dependents of a changed key")
+    void testIncrementalResolution() {
+        ConfigInterpolator interpolator = new ConfigInterpolator(Map.of());
+        // 10 groups of 10 keys, each key referring to its group's root
+        for (int group = 0; group < 10; group++) {
+            interpolator.put("root." + group, "r" + group);
+            for (int i = 1; i < 10; i++) {
+                interpolator.put("key." + group + "." + i, "${root." + group + "}-" + i);
+            }
+        }
+        for (int group = 0; group < 10; group++) {
+            for (int i = 1; i < 10; i++) {
+                interpolator.resolve("key." + group + "." + i);
+            }
+        }
+        assertEquals(100, interpolator.resolvedCount());
+
+        interpolator.put("root.4", "changed");
+        assertEquals(90, interpolator.resolvedCount());
+        assertEquals("changed-7", interpolator.resolve("key.4.7"));
+        for (int i = 1; i < 10; i++) {
+            interpolator.resolve("key.4." + i);
+        }
+
+        assertEquals(100, interpolator.resolvedCount());
+        assertEquals("r3-7", interpolator.resolve("key.3.7"));
+    }
+
+    @Test
+    @DisplayName("Resolves long reference chains without recursion")
+    void testLongChain() {
+        ConfigInterpolator interpolator = new ConfigInterpolator(Map.of());
+        interpolator.put("k0", "x");
+        for (int i = 1; i <= 50_000; i++) {
+            interpolator.put("k" + i, "${k" + (i - 1) + "}");
+        }
+        assertEquals("x", interpolator.resolve("k50000"));
+
+        interpolator.put("k0", "y");
+        assertEquals(0, interpolator.resolvedCount());
+        assertEquals("y", interpolator.resolve("k50000"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.environment.manager.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigItemTest {
+
+    @Test
+    @DisplayName("Parses flags, numbers and durations once")
+    void testTypedAccessors() {
+        assertTrue(ConfigItem.featureFlag("feature.newUi", true, "New UI", "alice").getBoolean());
+        assertFalse(item(ConfigType.FEATURE_FLAG, "FALSE").getBoolean());
+
+        ConfigItem ttl = ConfigItem.numeric("cache.ttl", 3600, "Cache TTL", "devops");
+        assertEquals(3600L, ttl.getLong());
+        assertEquals(Duration.ofHours(1), ttl.getDuration());
+        assertSame(ttl.getDuration(), ttl.getDuration());
+
+        assertEquals(Duration.ofMillis(250), item(ConfigType.NUMERIC, "250ms").getDuration());
+        assertEquals(Duration.ofMinutes(5), item(ConfigType.NUMERIC, "5m").getDuration());
+        assertEquals(-1L, item(ConfigType.NUMERIC, "-1").getLong());
+
+        // Other types are parsed when they happen to hold a typed value
+        ConfigItem timeout = ConfigItem.apiConfig("api.timeout", "30", "Timeout", "system");
+        assertTrue(timeout.isNumber());
+        assertEquals(30L, timeout.getLong());
+        assertFalse(timeout.isBoolean());
+    }
+
+    @Test
+    @DisplayName("Rejects malformed typed values and reports wrong-typed reads")
+    void testInvalidValues() {
+        IllegalArgumentException flag = assertThrows(IllegalArgumentException.class,
+                () -> item(ConfigType.FEATURE_FLAG, "yes"));
+        assertEquals("Feature flag 'key' must be true or false: yes", flag.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> item(ConfigType.FEATURE_FLAG, null));
+        assertThrows(IllegalArgumentException.class, () -> item(ConfigType.NUMERIC, "3.5"));
+        assertThrows(IllegalArgumentException.class, () -> item(ConfigType.NUMERIC, "10 s"));
+        assertThrows(IllegalArgumentException.class, () -> item(ConfigType.NUMERIC, "9999999999999999999"));
+
+        ConfigItem url = ConfigItem.apiConfig("api.url", "https://api.company.com", "URL", "system");
+        IllegalStateException exception = assertThrows(IllegalStateException.class, url::getLong);
+        assertEquals("Config 'api.url' is not a number: https://api.company.com", exception.getMessage());
+        assertThrows(IllegalStateException.class, url::getBoolean);
+        assertThrows(IllegalStateException.class, url::getDuration);
+        assertThrows(IllegalStateException.class, () -> item(ConfigType.NUMERIC, "5m").getLong());
+        assertTrue(url.getBoolean(true));
+        assertEquals(7L, url.getLong(7L));
+    }
+
+    private static ConfigItem item(ConfigType type, String value) {
+        return new ConfigItem("key", value, "Test", type, LocalDateTime.now(), "test", false);
+    }
+}
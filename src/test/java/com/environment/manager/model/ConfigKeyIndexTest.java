@@ -0,0 +1,106 @@
+package com.environment.manager.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigKeyIndexTest {
+
+    private Environment environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        environment.addConfiguration(ConfigItem.dbConfig("url", "jdbc:mysql://db:3306/app", "DB URL", "devops"));
+        environment.addConfiguration(ConfigItem.apiConfig("db-migrations", "enabled", "Not in db.", "devops"));
+        environment.addConfiguration(ConfigItem.apiConfig("dbx.pool", "10", "Not in db. either", "devops"));
+    }
+
+    @Test
+    @DisplayName("Answers prefix and namespace queries in key order")
+    void testPrefixQueries() {
+        assertEquals(List.of("db.password", "db.url", "db.username"),
+                List.copyOf(environment.getConfigurationsWithPrefix("db.").keySet()));
+        assertEquals(List.of("db-migrations", "db.password", "db.url", "db.username", "dbx.pool"),
+                List.copyOf(environment.getConfigurationsWithPrefix("db").keySet()));
+        assertTrue(environment.getConfigurationsWithPrefix("cache.").isEmpty());
+
+        SortedMap<String, ConfigItem> db = environment.exportNamespace("db");
+        assertEquals(List.of("password", "url", "username"), List.copyOf(db.keySet()));
+        assertEquals("db.url", db.get("url").getKey());
+        assertEquals(Set.of("db", "dbx", "security"), environment.getConfigurationNamespaces());
+
+        environment.removeConfiguration("db.url");
+        assertEquals(3, db.size());
+        assertEquals(2, environment.exportNamespace("db").size());
+        assertThrows(UnsupportedOperationException.class, () -> db.remove("url"));
+    }
+
+    @Test
+    @DisplayName("Keeps the type index in step with replaced and removed items")
+    void testTypeIndex() {
+        assertEquals(List.of("DEBUG_MODE", "MAINTENANCE_MODE"), keys(ConfigType.FEATURE_FLAG));
+
+        environment.addConfiguration(ConfigItem.apiConfig("DEBUG_MODE", "off", "Now an API setting", "alice"));
+        assertEquals(List.of("MAINTENANCE_MODE"), keys(ConfigType.FEATURE_FLAG));
+        assertTrue(keys(ConfigType.API_CONFIG).contains("DEBUG_MODE"));
+
+        environment.removeConfiguration("MAINTENANCE_MODE");
+        assertTrue(environment.getConfigurationsByType(ConfigType.FEATURE_FLAG).isEmpty());
+        assertTrue(environment.getConfigurationsByType(ConfigType.NUMERIC).isEmpty());
+
+        for (ConfigType type : ConfigType.values()) {
+            assertEquals(environment.getConfigurations().values().stream()
+                            .filter(item -> item.getType() == type).map(ConfigItem::getKey).sorted()
+                            .collect(Collectors.toList()),
+                    keys(type), type.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Answers queries while another thread changes the configuration")
+    void testConcurrentReads() throws InterruptedException {
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    environment.getConfigurationsWithPrefix("cache.");
+                    environment.exportNamespace("cache");
+                    environment.getConfigurationNamespaces();
+                    environment.getConfigurationsByType(ConfigType.API_CONFIG);
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                environment.addConfiguration(ConfigItem.apiConfig("cache.key" + i, "v", "", "alice"));
+                if (i % 2 == 0) {
+                    environment.removeConfiguration("cache.key" + (i / 2));
+                }
+            }
+        } finally {
+            done.set(true);
+            reader.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(10_000, environment.getConfigurationsWithPrefix("cache.").size());
+    }
+
+    private List<String> keys(ConfigType type) {
+        return environment.getConfigurationsByType(type).stream().map(ConfigItem::getKey).collect(Collectors.toList());
+    }
+}
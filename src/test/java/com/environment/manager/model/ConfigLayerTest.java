@@ -0,0 +1,109 @@
+package com.environment.manager.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigLayerTest {
+
+    private ConfigLayer global;
+    private ConfigLayer production;
+
+    @BeforeEach
+    void setUp() {
+        global = new ConfigLayer("global");
+        global.put(ConfigItem.apiConfig("api.timeout", "30", "API timeout", "system"));
+        global.put(ConfigItem.featureFlag("feature.newUi", false, "New UI", "system"));
+        production = global.child("PROD");
+        production.put(ConfigItem.apiConfig("api.timeout", "120", "API timeout", "devops"));
+    }
+
+    @Test
+    @DisplayName("Resolves keys from the nearest layer defining them")
+    void testResolution() {
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        environment.inheritConfiguration(production);
+        environment.addConfiguration(ConfigItem.featureFlag("feature.newUi", true, "New UI", "alice"));
+
+        assertEquals("120", environment.getEffectiveConfiguration("api.timeout").getValue());
+        assertEquals("true", environment.getEffectiveConfiguration("feature.newUi").getValue());
+        assertEquals("false", production.get("feature.newUi").getValue());
+        assertNull(environment.getConfiguration("api.timeout"));
+        assertEquals(Map.of("api.timeout", production.get("api.timeout")), production.getOwnItems());
+        assertEquals("global > PROD", production.toString());
+
+        environment.inheritConfiguration(null);
+        assertNull(environment.getEffectiveConfiguration("api.timeout"));
+    }
+
+    @Test
+    @DisplayName("Rebuilds a resolved view only after the layer or an ancestor changes")
+    void testInvalidation() {
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        environment.inheritConfiguration(production);
+        Map<String, ConfigItem> view = environment.getEffectiveConfigurations();
+        assertSame(view, environment.getEffectiveConfigurations());
+
+        global.put(ConfigItem.apiConfig("api.retries", "3", "Retries", "system"));
+        Map<String, ConfigItem> afterGlobal = environment.getEffectiveConfigurations();
+        assertNotSame(view, afterGlobal);
+        assertEquals("3", afterGlobal.get("api.retries").getValue());
+
+        environment.addConfiguration(ConfigItem.apiConfig("api.retries", "5", "Retries", "alice"));
+        assertEquals("5", environment.getEffectiveConfiguration("api.retries").getValue());
+        environment.removeConfiguration("api.retries");
+        assertEquals("3", environment.getEffectiveConfiguration("api.retries").getValue());
+
+        assertTrue(production.remove("api.timeout"));
+        assertFalse(production.remove("api.timeout"));
+        assertEquals("30", environment.getEffectiveConfiguration("api.timeout").getValue());
+        assertThrows(UnsupportedOperationException.class, () -> environment.getEffectiveConfigurations().clear());
+    }
+
+    @Test
+    @DisplayName("Overlays own items on the inherited view without copying it")
+    void testOverlayView() {
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        environment.inheritConfiguration(production);
+
+        Map<String, ConfigItem> expected = new HashMap<>(global.getOwnItems());
+        expected.putAll(production.getOwnItems());
+        expected.putAll(environment.getConfigurations());
+        Map<String, ConfigItem> view = environment.getEffectiveConfigurations();
+
+        assertEquals(expected, view);
+        assertEquals(expected.size(), view.size());
+        assertEquals(expected.size(), view.entrySet().stream().count());
+        assertEquals(expected.keySet(), view.keySet());
+        assertTrue(view.containsKey("feature.newUi"));
+        assertFalse(view.containsKey("missing"));
+        assertEquals(expected.hashCode(), view.hashCode());
+        assertThrows(UnsupportedOperationException.class, () -> view.remove("api.timeout"));
+    }
+
+    @Test
+    @DisplayName("Environments without overrides share their tier's view")
+    void testStructuralSharing() {
+        List<Environment> fleet = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Environment environment = new DevelopmentEnvironment("DEV-" + i, "Dev " + i, "http://localhost:8080");
+            // The constructor adds development defaults; drop them to inherit everything
+            List.copyOf(environment.getConfigurations().keySet()).forEach(environment::removeConfiguration);
+            environment.inheritConfiguration(production);
+            fleet.add(environment);
+        }
+
+        Map<String, ConfigItem> shared = production.resolve();
+        for (Environment environment : fleet) {
+            assertSame(shared, environment.getEffectiveConfigurations());
+        }
+        assertSame(global.resolve(), global.child("empty").resolve());
+    }
+}
@@ -0,0 +1,58 @@
+package com.environment.manager.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigMerkleTreeTest {
+
+    @Test
+    @DisplayName("Maintains the same root hash incrementally as when built from scratch")
+    void testIncrementalRootHash() {
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        ConfigMerkleTree initial = environment.getConfigurationTree();
+        assertEquals(ConfigMerkleTree.of(environment.getConfigurations()).getRootHash(), initial.getRootHash());
+        assertEquals(Set.of("", "db.", "security."), initial.getPrefixes());
+        assertEquals(environment.getConfigurations().size(), initial.size());
+
+        long version = environment.getConfigurationVersion();
+        environment.addConfiguration(ConfigItem.apiConfig("api.timeout", "60", "Timeout", "alice"));
+        environment.removeConfiguration("db.username");
+        ConfigMerkleTree changed = environment.getConfigurationTree();
+        assertEquals(ConfigMerkleTree.of(environment.getConfigurations()).getRootHash(), changed.getRootHash());
+        assertNotEquals(initial.getRootHash(), changed.getRootHash());
+        assertEquals(List.of("api.", "db."), initial.differingBuckets(changed));
+        assertEquals(List.of("api.timeout", "db.username"), initial.differingKeys(changed));
+        assertEquals(0L, initial.getBucketHash("api."));
+
+        environment.rollbackConfiguration(version);
+        assertEquals(initial.getRootHash(), environment.getConfigurationTree().getRootHash());
+        assertTrue(initial.differingKeys(environment.getConfigurationTree()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Equal content hashes equally regardless of instances and insertion order")
+    void testContentEquality() {
+        ConfigMerkleTree a = ConfigMerkleTree.empty()
+                .with(ConfigItem.apiConfig("api.url", "https://api", "URL", "alice"))
+                .with(ConfigItem.apiConfig("LOG_LEVEL", "INFO", "Level", "alice"));
+        ConfigMerkleTree b = ConfigMerkleTree.empty()
+                .with(ConfigItem.apiConfig("LOG_LEVEL", "INFO", "Log level", "bob"))
+                .with(ConfigItem.apiConfig("api.url", "https://api", "API URL", "bob"));
+        assertEquals(a.getRootHash(), b.getRootHash());
+        assertTrue(a.differingBuckets(b).isEmpty());
+
+        // The same item under another prefix is a different tree
+        ConfigMerkleTree c = b.with(ConfigItem.apiConfig("LOG_LEVEL", "WARN", "Log level", "bob"));
+        assertEquals(List.of(""), a.differingBuckets(c));
+        assertEquals(List.of("LOG_LEVEL"), a.differingKeys(c));
+        assertEquals(0L, ConfigMerkleTree.empty().getRootHash());
+        assertEquals(0L, a.without("api.url").without("LOG_LEVEL").getRootHash());
+        assertSame(a, a.without("missing"));
+        assertEquals("security.", ConfigMerkleTree.prefixOf("security.SSL_ENABLED"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.environment.manager.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnvironmentFingerprintTest {
+
+    private Environment environment;
+    private Service service;
+
+    @BeforeEach
+    void setUp() {
+        environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        service = new Service("web-001", "Web App", "1.0.0", ServiceType.WEB_SERVICE);
+    }
+
+    @Test
+    @DisplayName("Content mutations change the fingerprint and undoing them restores it")
+    void testFingerprintTracksContent() {
+        long initial = environment.getContentFingerprint();
+
+        environment.addService(service);
+        long withService = environment.getContentFingerprint();
+        assertNotEquals(initial, withService);
+
+        environment.addConfiguration(ConfigItem.featureFlag("DEBUG_MODE", true, "Debug", "alice"));
+        assertNotEquals(withService, environment.getContentFingerprint());
+        environment.addConfiguration(ConfigItem.featureFlag("DEBUG_MODE", false, "Debug disabled in production", "devops"));
+        assertEquals(withService, environment.getContentFingerprint());
+
+        String databaseUrl = environment.getDatabaseUrl();
+        environment.setDatabaseUrl("jdbc:mysql://other:3306/db");
+        assertNotEquals(withService, environment.getContentFingerprint());
+        environment.setDatabaseUrl(databaseUrl);
+
+        environment.removeService("web-001");
+        assertEquals(initial, environment.getContentFingerprint());
+    }
+
+    @Test
+    @DisplayName("Runtime state does not change the fingerprint")
+    void testRuntimeStateIsExcluded() {
+        long initial = environment.getContentFingerprint();
+
+        environment.updateStatus(DeploymentStatus.SUCCESS);
+        environment.setCurrentVersion("2.0.0");
+        environment.setActive(false);
+        environment.recordDeployment("2.0.0", "alice");
+
+        assertEquals(initial, environment.getContentFingerprint());
+    }
+
+    @Test
+    @DisplayName("Environments with equal content have equal fingerprints")
+    void testEqualContent() {
+        Environment same = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        Environment other = new ProductionEnvironment("PROD-002", "Prod", "https://app.company.com");
+
+        assertEquals(environment.getContentFingerprint(), same.getContentFingerprint());
+        assertNotEquals(environment.getContentFingerprint(), other.getContentFingerprint());
+    }
+
+    @Test
+    @DisplayName("Validation is memoized until relevant content changes")
+    void testValidationIsMemoized() {
+        CountingEnvironment counting = new CountingEnvironment();
+
+        assertEquals(List.of("Database URL required"), counting.getValidationIssues());
+        counting.updateStatus(DeploymentStatus.SUCCESS);
+        counting.getValidationIssues();
+        assertEquals(1, counting.validations.get());
+
+        counting.setDatabaseUrl("jdbc:h2:mem:test");
+        assertTrue(counting.getValidationIssues().isEmpty());
+        assertEquals(2, counting.validations.get());
+    }
+
+    @Test
+    @DisplayName("A repeated sweep over an unchanged fleet reuses every memoized result")
+    void testRepeatedSweepIsMemoized() {
+        List<Environment> fleet = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            fleet.add(new ProductionEnvironment("PROD-" + i, "Prod " + i, "https://app-" + i + ".company.com"));
+        }
+
+        List<List<String>> first = new ArrayList<>();
+        for (Environment environment : fleet) {
+            first.add(environment.getValidationIssues());
+        }
+        for (int i = 0; i < fleet.size(); i++) {
+            assertSame(first.get(i), fleet.get(i).getValidationIssues());
+        }
+    }
+
+    private static class CountingEnvironment extends Environment {
+        private final AtomicInteger validations = new AtomicInteger();
+
+        CountingEnvironment() {
+            super("QA-001", "QA", EnvironmentType.QUALITY_ASSURANCE, "https://qa.company.com");
+        }
+
+        @Override
+        public List<String> validate() {
+            validations.incrementAndGet();
+            return getDatabaseUrl() == null ? List.of("Database URL required") : List.of();
+        }
+
+        @Override
+        public int getMaxParallelDeployments() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.environment.manager.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentHashMapTest {
+
+    /** Key with a deliberately poor hash, to force collision nodes. */
+    private record Key(int id) {
+        @Override
+        public int hashCode() {
+            return id % 7;
+        }
+    }
+
+    @Test
+    @DisplayName("Behaves like a HashMap under random updates, keeping every version intact")
+    void testMatchesHashMap() {
+        Random random = new Random(7);
+        Map<Object, Integer> expected = new HashMap<>();
+        PersistentHashMap<Object, Integer> map = PersistentHashMap.empty();
+        List<Map<Object, Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentHashMap<Object, Integer>> versions = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            Object key = random.nextBoolean() ? "key-" + random.nextInt(2000) : new Key(random.nextInt(50));
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            } else {
+                int value = random.nextInt(10);
+                expected.put(key, value);
+                map = map.with(key, value);
+            }
+            if (i % 1000 == 0) {
+                expectedVersions.add(new HashMap<>(expected));
+                versions.add(map);
+            }
+        }
+
+        assertEquals(expected, map);
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.hashCode(), map.hashCode());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i), "version " + i);
+        }
+        for (Object key : expected.keySet()) {
+            map = map.without(key);
+        }
+        assertTrue(map.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> PersistentHashMap.empty().put("a", "b"));
+    }
+
+    @Test
+    @DisplayName("Returns the same map when an update changes nothing")
+    void testNoOpUpdates() {
+        String value = "v";
+        PersistentHashMap<String, String> map = PersistentHashMap.<String, String>empty().with("a", value);
+
+        assertSame(map, map.with("a", value));
+        assertSame(map, map.without("missing"));
+        assertNotSame(map, map.with("a", "w"));
+        assertNull(map.get(null));
+    }
+
+    @Test
+    @DisplayName("Diff reports exactly the changed keys between versions")
+    void testDiff() {
+        Random random = new Random(11);
+        PersistentHashMap<Object, Integer> older = PersistentHashMap.empty();
+        for (int i = 0; i < 5000; i++) {
+            older = older.with(i % 3 == 0 ? new Key(i) : "key-" + i, i);
+        }
+        PersistentHashMap<Object, Integer> newer = older;
+        for (int i = 0; i < 200; i++) {
+            int n = random.nextInt(6000);
+            Object key = n % 3 == 0 ? new Key(n) : "key-" + n;
+            newer = random.nextBoolean() ? newer.without(key) : newer.with(key, -n);
+        }
+
+        Map<Object, Integer> applied = new HashMap<>(older);
+        PersistentHashMap<Object, Integer> source = older;
+        PersistentHashMap<Object, Integer> target = newer;
+        older.diff(newer, (key, oldValue, newValue) -> {
+            assertEquals(source.get(key), oldValue);
+            assertEquals(target.get(key), newValue);
+            assertNotEquals(oldValue, newValue);
+            if (newValue == null) {
+                applied.remove(key);
+            } else {
+                applied.put(key, newValue);
+            }
+        });
+        assertEquals(newer, applied);
+    }
+
+    @Test
+    @DisplayName("Environments keep configuration versions and roll back to them")
+    void testConfigurationRollback() {
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        Map<String, ConfigItem> before = environment.getConfigurations();
+        long version = environment.getConfigurationVersion();
+        long fingerprint = environment.getContentFingerprint();
+
+        environment.addConfiguration(ConfigItem.apiConfig("api.timeout", "60", "Timeout", "alice"));
+        environment.removeConfiguration("DEBUG_MODE");
+        // Snapshots handed out earlier do not change underneath their holders
+        assertNull(before.get("api.timeout"));
+        assertNotNull(before.get("DEBUG_MODE"));
+
+        List<EnvironmentChangeType> events = new ArrayList<>();
+        environment.addChangeListener((changed, type, payload) -> events.add(type));
+        environment.rollbackConfiguration(version);
+
+        assertEquals(before, environment.getConfigurations());
+        assertEquals(fingerprint, environment.getContentFingerprint());
+        assertEquals(2, events.size());
+        assertEquals(version + 3, environment.getConfigurationVersion());
+        assertThrows(IllegalArgumentException.class, () -> environment.rollbackConfiguration(-1));
+
+        for (int i = 0; i < Environment.MAX_CONFIG_VERSIONS + 10; i++) {
+            environment.addConfiguration(ConfigItem.apiConfig("api.retries", String.valueOf(i), "Retries", "bob"));
+        }
+        List<ConfigVersion> history = environment.getConfigurationHistory();
+        assertEquals(Environment.MAX_CONFIG_VERSIONS, history.size());
+        assertEquals(environment.getConfigurationVersion(), history.get(history.size() - 1).version());
+    }
+
+    @Test
+    @DisplayName("The config map is shared until the configuration changes")
+    void testConfigMapMaintained() {
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        long version = environment.getConfigurationVersion();
+        Map<String, String> values = environment.getConfigMap();
+        assertSame(values, environment.getConfigMap());
+        assertEquals("WARN", values.get("LOG_LEVEL"));
+
+        environment.addConfiguration(ConfigItem.apiConfig("LOG_LEVEL", "ERROR", "Log level", "alice"));
+        environment.removeConfiguration("DEBUG_MODE");
+        environment.addConfiguration(new ConfigItem("empty", null, "No value", ConfigType.GENERAL, null, "bob", false));
+        assertEquals("ERROR", environment.getConfigMap().get("LOG_LEVEL"));
+        assertFalse(environment.getConfigMap().containsKey("DEBUG_MODE"));
+        assertFalse(environment.getConfigMap().containsKey("empty"));
+        assertEquals("WARN", values.get("LOG_LEVEL"));
+
+        environment.rollbackConfiguration(version);
+        assertEquals(values, environment.getConfigMap());
+    }
+}
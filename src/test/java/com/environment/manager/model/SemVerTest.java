@@ -0,0 +1,123 @@
+package com.environment.manager.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SemVerTest {
+
+    @Test
+    @DisplayName("Orders versions by semantic version precedence")
+    void testPrecedence() {
+        // Example from the Semantic Versioning 2.0.0 specification, in ascending order
+        String[] ordered = {"1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta", "1.0.0-beta", "1.0.0-beta.2",
+                "1.0.0-beta.11", "1.0.0-rc.1", "1.0.0", "1.0.1", "1.2.0", "1.10.0", "2.0.0", "10.0.0"};
+        for (int i = 0; i < ordered.length; i++) {
+            for (int j = 0; j < ordered.length; j++) {
+                SemVer a = SemVer.parse(ordered[i]);
+                SemVer b = SemVer.parse(ordered[j]);
+                assertEquals(Integer.signum(Integer.compare(i, j)), Integer.signum(a.compareTo(b)),
+                        ordered[i] + " vs " + ordered[j]);
+            }
+        }
+
+        assertEquals(0, SemVer.parse("1.0.0+build.1").compareTo(SemVer.parse("1.0.0+build.2")));
+        assertTrue(SemVer.parse("2000000.0.0").isOlderThan(SemVer.parse("2000001.0.0")));
+    }
+
+    @Test
+    @DisplayName("Orders versions whose components do not fit the ordering key")
+    void testOversizedComponents() {
+        SemVer first = SemVer.parse("1048576.5.0");
+        SemVer second = SemVer.parse("1048577.3.0");
+        assertTrue(first.compareTo(second) < 0);
+        assertTrue(second.compareTo(first) > 0);
+        assertTrue(SemVer.parse("1.1048576.9").isOlderThan(SemVer.parse("1.1048577.2")));
+        assertTrue(SemVer.parse("1.2.3").isOlderThan(SemVer.parse("1.2.1048576")));
+        assertTrue(SemVer.parse("1048576.0.0-rc.1").isOlderThan(SemVer.parse("1048576.0.0")));
+        assertTrue(SemVer.parse("1048576.0.0-rc.1").isOlderThan(SemVer.parse("1048576.0.0-rc.2")));
+        assertEquals(0, first.compareTo(SemVer.parse("1048576.5.0+build")));
+    }
+
+    @Test
+    @DisplayName("Parses components and interns repeated versions")
+    void testParse() {
+        SemVer version = SemVer.parse("2.3.4-rc.1+sha.5114f85");
+        assertEquals(2, version.getMajor());
+        assertEquals(3, version.getMinor());
+        assertEquals(4, version.getPatch());
+        assertEquals("rc.1", version.getPreRelease().orElseThrow());
+        assertEquals("sha.5114f85", version.getBuild().orElseThrow());
+        assertTrue(version.isPreRelease());
+        assertFalse(version.isInitialDevelopment());
+        assertTrue(SemVer.parse("0.9.1").isInitialDevelopment());
+
+        assertSame(version, SemVer.parse("2.3.4-rc.1+sha.5114f85"));
+        assertEquals("2.3.4-rc.1+sha.5114f85", version.toString());
+    }
+
+    @Test
+    @DisplayName("Rejects strings that are not semantic versions")
+    void testInvalid() {
+        for (String invalid : new String[]{"", "1", "1.0", "1.0.0.0", "01.0.0", "1.00.0", "v1.0.0", "1.0.0-",
+                "1.0.0-01", "1.0.0-alpha..1", "1.0.0+", "1.0.0+build_1", "1.0.0 ", "99999999999.0.0"}) {
+            assertFalse(SemVer.isValid(invalid), invalid);
+        }
+        assertFalse(SemVer.isValid(null));
+        assertTrue(SemVer.isValid("1.0.0-0.3.7"));
+        assertTrue(SemVer.isValid("1.0.0+001"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> SemVer.parse("1.0"));
+        assertEquals("Not a semantic version: 1.0", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Finds services behind the fleet and environments below a version floor")
+    void testFleetVersions() {
+        List<Environment> fleet = new ArrayList<>();
+        String[] versions = {"2.1.0", "1.4.0", "not-a-version", "1.10.0", "2.0.0-rc.1"};
+        for (int i = 0; i < versions.length; i++) {
+            Environment environment = new DevelopmentEnvironment("DEV-00" + i, "Dev " + i, "http://localhost:808" + i);
+            environment.setCurrentVersion(versions[i]);
+            environment.addService(new Service("api-001", "API", versions[i], ServiceType.API_GATEWAY));
+            fleet.add(environment);
+        }
+
+        FleetVersions fleetVersions = FleetVersions.of(fleet);
+
+        assertEquals(SemVer.parse("2.1.0"), fleetVersions.getNewestVersion("api-001").orElseThrow());
+        assertTrue(fleetVersions.getNewestVersion("db-001").isEmpty());
+        assertTrue(fleetVersions.isOutdated(new Service("api-001", "API", "2.0.0", ServiceType.API_GATEWAY)));
+        assertFalse(fleetVersions.isOutdated(new Service("api-001", "API", "2.1.0", ServiceType.API_GATEWAY)));
+
+        assertEquals(List.of("DEV-001", "DEV-003"), ids(fleetVersions.findBelow(SemVer.parse("2.0.0-alpha"))));
+        assertEquals(List.of("DEV-001", "DEV-003", "DEV-004"), ids(fleetVersions.findBelow(SemVer.parse("2.0.0"))));
+        assertTrue(fleetVersions.findBelow(SemVer.parse("0.1.0")).isEmpty());
+        assertEquals(List.of("DEV-002"), ids(fleetVersions.getUnversioned()));
+    }
+
+    @Test
+    @DisplayName("Sorts deployment history by version, then by deployment time")
+    void testDeploymentHistoryByVersion() {
+        List<DeploymentHistory> history = new ArrayList<>(List.of(
+                new DeploymentHistory("Prod", "1.10.0", "alice"),
+                new DeploymentHistory("Prod", "1.9.0", "bob"),
+                new DeploymentHistory("Prod", "1.10.0-rc.2", "carol"),
+                new DeploymentHistory("Prod", "latest", "dave")));
+
+        history.sort(DeploymentHistory.BY_VERSION);
+
+        assertEquals(List.of("latest", "1.9.0", "1.10.0-rc.2", "1.10.0"),
+                history.stream().map(DeploymentHistory::getVersion).collect(Collectors.toList()));
+    }
+
+    private static List<String> ids(List<Environment> environments) {
+        return environments.stream().map(Environment::getId).collect(Collectors.toList());
+    }
+}
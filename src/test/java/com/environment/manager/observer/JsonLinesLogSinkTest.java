@@ -0,0 +1,79 @@
+package com.environment.manager.observer;
+
+import com.environment.manager.model.DevelopmentEnvironment;
+import com.environment.manager.model.Environment;
+import com.environment.manager.model.Service;
+import com.environment.manager.model.ServiceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLinesLogSinkTest {
+
+    @TempDir
+    Path logDir;
+
+    @Test
+    @DisplayName("Events are written as escaped JSON lines")
+    void testWritesJsonLines() throws Exception {
+        try (JsonLinesLogSink sink = new JsonLinesLogSink(logDir, "test.log", 1024 * 1024, 2, 64)) {
+            assertTrue(sink.log("ERROR", "DEPLOYMENT_FAILURE", "Prod-01", "API", "2.0.0",
+                    "timeout \"db\"\nretrying ✓"));
+            assertTrue(sink.log("INFO", "DEPLOYMENT_START", "Dev-01", null, null, null));
+            assertTrue(sink.flush(5, TimeUnit.SECONDS));
+        }
+
+        List<String> lines = Files.readAllLines(logDir.resolve("test.log"), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).matches("\\{\"ts\":\"\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}\",.*"));
+        assertTrue(lines.get(0).endsWith(",\"level\":\"ERROR\",\"event\":\"DEPLOYMENT_FAILURE\","
+                + "\"environment\":\"Prod-01\",\"service\":\"API\",\"version\":\"2.0.0\","
+                + "\"error\":\"timeout \\\"db\\\"\\nretrying ✓\"}"));
+        assertTrue(lines.get(1).endsWith("\"level\":\"INFO\",\"event\":\"DEPLOYMENT_START\",\"environment\":\"Dev-01\"}"));
+    }
+
+    @Test
+    @DisplayName("Log files rotate by size and honor the retention count")
+    void testRotationHonorsRetention() throws Exception {
+        try (JsonLinesLogSink sink = new JsonLinesLogSink(logDir, "app.log", 512, 2, 64)) {
+            for (int i = 0; i < 40; i++) {
+                sink.log("INFO", "EVENT_" + i, "Env", null, null, null);
+                assertTrue(sink.flush(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertTrue(Files.exists(logDir.resolve("app.log")));
+        assertTrue(Files.exists(logDir.resolve("app.log.1")));
+        assertTrue(Files.exists(logDir.resolve("app.log.2")));
+        assertFalse(Files.exists(logDir.resolve("app.log.3")));
+        assertTrue(Files.size(logDir.resolve("app.log.1")) <= 512);
+        assertTrue(Files.readString(logDir.resolve("app.log")).contains("EVENT_39"));
+    }
+
+    @Test
+    @DisplayName("LoggingObserver writes deployment events to the sink")
+    void testLoggingObserverUsesSink() throws Exception {
+        Environment environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        Service service = new Service("web-001", "Web App", "1.0.0", ServiceType.WEB_SERVICE);
+
+        try (JsonLinesLogSink sink = new JsonLinesLogSink(logDir, "deploy.log", 1024 * 1024, 1, 64)) {
+            LoggingObserver observer = new LoggingObserver(sink);
+            observer.onDeploymentStart(environment, service, "2.0.0");
+            observer.onDeploymentFailure(environment, service, "2.0.0", "boom");
+            assertTrue(sink.flush(5, TimeUnit.SECONDS));
+        }
+
+        List<String> lines = Files.readAllLines(logDir.resolve("deploy.log"));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains("\"event\":\"DEPLOYMENT_FAILURE\""));
+        assertTrue(lines.get(1).contains("\"error\":\"boom\""));
+    }
+}
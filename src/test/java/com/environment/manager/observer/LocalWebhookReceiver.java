@@ -0,0 +1,65 @@
+package com.environment.manager.observer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Embedded webhook endpoint on the loopback interface, so webhook delivery
+ * can be tested and benchmarked without network access.
+ */
+class LocalWebhookReceiver implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicReference<String> lastPayload = new AtomicReference<>();
+    private volatile int responseStatus = 200;
+
+    LocalWebhookReceiver() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        executor = Executors.newFixedThreadPool(8);
+        server.setExecutor(executor);
+        server.createContext("/hook", this::handle);
+        server.start();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            lastPayload.set(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        received.incrementAndGet();
+        exchange.sendResponseHeaders(responseStatus, -1);
+        exchange.close();
+    }
+
+    URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/hook");
+    }
+
+    int receivedCount() {
+        return received.get();
+    }
+
+    String lastPayload() {
+        return lastPayload.get();
+    }
+
+    void respondWith(int status) {
+        this.responseStatus = status;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
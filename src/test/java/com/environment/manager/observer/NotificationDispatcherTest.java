@@ -0,0 +1,144 @@
+package com.environment.manager.observer;
+
+import com.environment.manager.observer.NotificationDispatcher.LaneConfig;
+import com.environment.manager.observer.NotificationObserver.NotificationPriority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDispatcherTest {
+
+    private static NotificationDispatcher singleWorkerPerLane(int capacity) {
+        Map<NotificationPriority, LaneConfig> configs = new EnumMap<>(NotificationPriority.class);
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            configs.put(priority, new LaneConfig(capacity, 1));
+        }
+        return new NotificationDispatcher(configs);
+    }
+
+    @Test
+    @DisplayName("Critical notifications bypass an INFO backlog")
+    void testCriticalBypassesInfoBacklog() throws Exception {
+        NotificationDispatcher dispatcher = singleWorkerPerLane(100);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch criticalDelivered = new CountDownLatch(1);
+
+        // Block the only INFO worker, then build up a backlog behind it
+        dispatcher.submit(NotificationPriority.INFO, () -> awaitQuietly(release));
+        for (int i = 0; i < 50; i++) {
+            dispatcher.submit(NotificationPriority.INFO, () -> { });
+        }
+
+        dispatcher.submit(NotificationPriority.CRITICAL, criticalDelivered::countDown);
+
+        assertTrue(criticalDelivered.await(5, TimeUnit.SECONDS));
+        assertTrue(dispatcher.getQueueDepth(NotificationPriority.INFO) > 0);
+
+        release.countDown();
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(51, dispatcher.getDeliveredCount(NotificationPriority.INFO));
+        assertEquals(1, dispatcher.getDeliveredCount(NotificationPriority.CRITICAL));
+        dispatcher.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Lower-lane workers drain higher lanes first")
+    void testHigherLanesPreemptLowerOnes() throws Exception {
+        NotificationDispatcher dispatcher = singleWorkerPerLane(100);
+        CountDownLatch releaseOthers = new CountDownLatch(1);
+        CountDownLatch releaseInfo = new CountDownLatch(1);
+        List<NotificationPriority> order = new CopyOnWriteArrayList<>();
+
+        // Occupy every worker, lowest lane first so each lane's own worker takes its blocker
+        occupyWorker(dispatcher, NotificationPriority.INFO, releaseInfo);
+        occupyWorker(dispatcher, NotificationPriority.WARNING, releaseOthers);
+        occupyWorker(dispatcher, NotificationPriority.ERROR, releaseOthers);
+        occupyWorker(dispatcher, NotificationPriority.CRITICAL, releaseOthers);
+
+        dispatcher.submit(NotificationPriority.INFO, () -> order.add(NotificationPriority.INFO));
+        dispatcher.submit(NotificationPriority.WARNING, () -> order.add(NotificationPriority.WARNING));
+        dispatcher.submit(NotificationPriority.CRITICAL, () -> order.add(NotificationPriority.CRITICAL));
+
+        // Only the INFO worker is free: it must serve the higher lanes before its own
+        releaseInfo.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (order.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(NotificationPriority.CRITICAL, NotificationPriority.WARNING, NotificationPriority.INFO),
+                order);
+
+        releaseOthers.countDown();
+        assertTrue(dispatcher.awaitIdle(5, TimeUnit.SECONDS));
+        dispatcher.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Full lanes drop and count notifications")
+    void testFullLaneDrops() throws Exception {
+        NotificationDispatcher dispatcher = singleWorkerPerLane(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        occupyWorker(dispatcher, NotificationPriority.INFO, release);
+        assertTrue(dispatcher.submit(NotificationPriority.INFO, () -> { }));
+        assertFalse(dispatcher.submit(NotificationPriority.INFO, () -> { }));
+        assertEquals(1, dispatcher.getDroppedCount(NotificationPriority.INFO));
+
+        release.countDown();
+        dispatcher.shutdown(5, TimeUnit.SECONDS);
+        assertFalse(dispatcher.isRunning());
+        assertFalse(dispatcher.submit(NotificationPriority.CRITICAL, () -> { }));
+    }
+
+    @Test
+    @DisplayName("Observer records per-lane delivery latency")
+    void testObserverRecordsLatency() throws Exception {
+        NotificationObserver observer = new NotificationObserver(singleWorkerPerLane(100));
+        observer.addChannel(new NotificationObserver.ConsoleNotificationChannel());
+
+        observer.sendManualNotification("Test", "Latency probe", NotificationPriority.CRITICAL);
+        assertTrue(observer.flush(5, TimeUnit.SECONDS));
+
+        assertEquals(1, observer.getDeliveryLatency(NotificationPriority.CRITICAL).getCount());
+        assertEquals(0, observer.getDeliveryLatency(NotificationPriority.INFO).getCount());
+        observer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Default observers share one dispatcher that outlives their shutdown")
+    void testDefaultObserversShareDispatcher() throws Exception {
+        NotificationObserver first = new NotificationObserver();
+        NotificationObserver second = new NotificationObserver();
+        assertSame(first.getDispatcher(), second.getDispatcher());
+        assertSame(NotificationDispatcher.shared(), first.getDispatcher());
+
+        first.shutdown();
+        assertTrue(second.getDispatcher().isRunning());
+    }
+
+    private static void occupyWorker(NotificationDispatcher dispatcher, NotificationPriority priority,
+                                     CountDownLatch release) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.submit(priority, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
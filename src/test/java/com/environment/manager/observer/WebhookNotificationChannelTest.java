@@ -0,0 +1,152 @@
+package com.environment.manager.observer;
+
+import com.environment.manager.observer.NotificationObserver.NotificationPriority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookNotificationChannelTest {
+
+    private LocalWebhookReceiver receiver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        receiver = new LocalWebhookReceiver();
+    }
+
+    @AfterEach
+    void tearDown() {
+        receiver.close();
+    }
+
+    @Test
+    @DisplayName("Webhook payload is compact, escaped JSON")
+    void testPayloadEncoding() {
+        String payload = WebhookNotificationChannel.encodePayload("DEPLOYMENT_FAILED",
+                "Error: \"timeout\"\nService: api\\v1", NotificationPriority.ERROR);
+
+        assertEquals("{\"event\":\"DEPLOYMENT_FAILED\",\"priority\":\"ERROR\","
+                + "\"text\":\"Error: \\\"timeout\\\"\\nService: api\\\\v1\"}", payload);
+    }
+
+    @Test
+    @DisplayName("Webhook delivers to the local receiver")
+    void testDeliversToReceiver() throws Exception {
+        WebhookNotificationChannel channel = new WebhookNotificationChannel(receiver.endpoint());
+
+        int status = channel.sendAsync("MANUAL_NOTIFICATION", "hello", NotificationPriority.INFO)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, status);
+        assertEquals(1, receiver.receivedCount());
+        assertTrue(receiver.lastPayload().contains("\"text\":\"hello\""));
+        assertEquals(1, channel.getDeliveredCount());
+    }
+
+    @Test
+    @DisplayName("Error responses are counted as failures")
+    void testErrorResponsesCountAsFailures() throws Exception {
+        receiver.respondWith(503);
+        WebhookNotificationChannel channel = new WebhookNotificationChannel(receiver.endpoint());
+
+        int status = channel.sendAsync("HEALTH_CHECK_CRITICAL", "down", NotificationPriority.CRITICAL)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(503, status);
+        assertEquals(0, channel.getDeliveredCount());
+        assertEquals(1, channel.getFailedCount());
+    }
+
+    @Test
+    @DisplayName("A send rejected before it starts fails its future and releases its permit")
+    void testRejectedSendReleasesPermit() throws Exception {
+        WebhookNotificationChannel channel = new WebhookNotificationChannel(
+                receiver.endpoint(), 2, Duration.ofSeconds(1), new RejectingHttpClient());
+
+        for (int i = 0; i < 5; i++) {
+            CompletableFuture<Integer> result = channel.sendAsync("MANUAL_NOTIFICATION", "hello", NotificationPriority.INFO);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+        assertEquals(5, channel.getFailedCount());
+        assertTrue(channel.awaitInFlight(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Minimum priority filters lower priorities")
+    void testMinimumPriority() {
+        WebhookNotificationChannel channel = new WebhookNotificationChannel(receiver.endpoint());
+        channel.setMinimumPriority(NotificationPriority.ERROR);
+
+        assertFalse(channel.supportsPriority(NotificationPriority.WARNING));
+        assertTrue(channel.supportsPriority(NotificationPriority.ERROR));
+        assertTrue(channel.supportsPriority(NotificationPriority.CRITICAL));
+    }
+
+    @Test
+    @DisplayName("A burst beyond the in-flight limit is delivered in full")
+    void testBurstIsDelivered() throws Exception {
+        int messages = 50;
+        WebhookNotificationChannel channel = new WebhookNotificationChannel(
+                receiver.endpoint(), 4, Duration.ofSeconds(10));
+
+        for (int i = 0; i < messages; i++) {
+            channel.sendNotification("DEPLOYMENT_STARTED", "Deployment #" + i, NotificationPriority.INFO);
+        }
+
+        assertTrue(channel.awaitInFlight(30, TimeUnit.SECONDS));
+        assertEquals(messages, channel.getDeliveredCount());
+        assertEquals(messages, receiver.receivedCount());
+        assertEquals(messages, channel.getLatency().getCount());
+    }
+
+    /**
+     * A client that rejects every request synchronously, as a closed client would.
+     */
+    private static final class RejectingHttpClient extends HttpClient {
+        @Override public Optional<CookieHandler> cookieHandler() { return Optional.empty(); }
+        @Override public Optional<Duration> connectTimeout() { return Optional.empty(); }
+        @Override public Redirect followRedirects() { return Redirect.NEVER; }
+        @Override public Optional<ProxySelector> proxy() { return Optional.empty(); }
+        @Override public SSLContext sslContext() { return null; }
+        @Override public SSLParameters sslParameters() { return null; }
+        @Override public Optional<Authenticator> authenticator() { return Optional.empty(); }
+        @Override public Version version() { return Version.HTTP_1_1; }
+        @Override public Optional<Executor> executor() { return Optional.empty(); }
+
+        @Override
+        public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+            throw new IllegalStateException("closed");
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                                HttpResponse.BodyHandler<T> handler) {
+            throw new IllegalStateException("closed");
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                                HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+            throw new IllegalStateException("closed");
+        }
+    }
+}
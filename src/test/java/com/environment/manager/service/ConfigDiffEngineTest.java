@@ -0,0 +1,78 @@
+package com.environment.manager.service;
+
+import com.environment.manager.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigDiffEngineTest {
+
+    private final ConfigDiffEngine engine = new ConfigDiffEngine();
+
+    @Test
+    @DisplayName("Reports added, removed and changed keys and masks encrypted values")
+    void testDiff() {
+        Environment staging = new StagingEnvironment("STG-001", "Staging", "https://staging.company.com");
+        Environment production = new ProductionEnvironment("PROD-001", "Prod", "https://app.company.com");
+        staging.addConfiguration(ConfigItem.apiConfig("api.timeout", "30", "Timeout", "alice"));
+        staging.addConfiguration(ConfigItem.secret("API_KEY", "staging-key", "API key", "alice"));
+
+        ConfigDiffEngine.ConfigDiff diff = engine.diff(staging, production);
+
+        // Descriptions are not compared, so DEBUG_MODE and SSL_ENABLED match
+        assertEquals(List.of("API_KEY", "LOG_LEVEL", "MAINTENANCE_MODE", "api.timeout", "db.password", "db.username"),
+                diff.differences().stream().map(ConfigDifference::key).collect(Collectors.toList()));
+        assertEquals(List.of("MAINTENANCE_MODE", "db.password", "db.username"), keys(diff.getAdded()));
+        assertEquals(List.of("api.timeout"), keys(diff.getRemoved()));
+        assertEquals(List.of("API_KEY", "LOG_LEVEL"), keys(diff.getChanged()));
+
+        ConfigDifference logLevel = diff.getChanged().get(1);
+        assertEquals("INFO", logLevel.baselineValue());
+        assertEquals("WARN", logLevel.otherValue());
+        assertEquals("~ LOG_LEVEL: INFO -> WARN", logLevel.toString());
+
+        for (ConfigDifference difference : diff.differences()) {
+            assertFalse(difference.toString().contains("prod-api-key-789"), difference.toString());
+            assertFalse(difference.toString().contains("staging-key"), difference.toString());
+            assertFalse(difference.toString().contains("prod_encrypted_pass"), difference.toString());
+        }
+        ConfigDifference apiKey = diff.getChanged().get(0);
+        assertTrue(apiKey.encrypted());
+        assertEquals(ConfigItem.MASKED_VALUE, apiKey.baselineValue());
+        assertEquals(ConfigItem.MASKED_VALUE, apiKey.otherValue());
+
+        assertTrue(engine.diff(production, production).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Streams differences of the whole fleet from a baseline and tracks configuration changes")
+    void testFleetComparison() {
+        Environment baseline = new ProductionEnvironment("PROD-000", "Prod 0", "https://app.company.com");
+        List<Environment> fleet = new ArrayList<>(List.of(baseline));
+        for (int i = 1; i <= 100; i++) {
+            Environment environment = new ProductionEnvironment("PROD-" + i, "Prod " + i, "https://app.company.com");
+            if (i % 10 == 0) {
+                environment.addConfiguration(ConfigItem.apiConfig("LOG_LEVEL", "DEBUG", "Log level", "bob"));
+            }
+            fleet.add(environment);
+        }
+
+        List<ConfigDifference> differences = engine.compareWithFleet(baseline, fleet).collect(Collectors.toList());
+        assertEquals(10, differences.size());
+        assertTrue(differences.stream().allMatch(difference -> difference.key().equals("LOG_LEVEL")));
+        assertEquals("PROD-10", differences.get(0).environmentId());
+
+        fleet.get(10).addConfiguration(ConfigItem.apiConfig("LOG_LEVEL", "WARN", "Log level", "bob"));
+        assertEquals(9, engine.compareWithFleet(baseline, fleet).count());
+        assertEquals(1, engine.compareWithFleet(baseline, fleet).limit(1).count());
+    }
+
+    private static List<String> keys(List<ConfigDifference> differences) {
+        return differences.stream().map(ConfigDifference::key).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,37 @@
+package com.environment.manager.service;
+
+import com.environment.manager.model.*;
+import com.environment.manager.repository.InMemoryEnvironmentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigurationServiceTest {
+
+    @Test
+    @DisplayName("Detects configuration drift across the fleet from root hashes")
+    void testDetectDrift() {
+        InMemoryEnvironmentRepository repository = new InMemoryEnvironmentRepository();
+        ConfigurationService configurationService = new ConfigurationService(repository);
+        for (int i = 0; i < 100; i++) {
+            Environment environment = new ProductionEnvironment(String.format("PROD-%05d", i), "Prod " + i,
+                    "https://app.company.com");
+            if (i % 10 == 7) {
+                environment.addConfiguration(ConfigItem.securityConfig("SSL_ENABLED", "false", "SSL off", "mallory"));
+            }
+            repository.save(environment);
+        }
+        repository.save(new StagingEnvironment("STG-001", "Staging", "https://staging.company.com"));
+        Map<String, ConfigItem> template = new ProductionEnvironment("TEMPLATE", "Template",
+                "https://app.company.com").getConfigurations();
+
+        Map<String, List<String>> drift = configurationService.detectDrift(EnvironmentType.PRODUCTION, template);
+
+        assertEquals(10, drift.size());
+        assertEquals(List.of("security.SSL_ENABLED"), drift.get("PROD-00007"));
+    }
+}
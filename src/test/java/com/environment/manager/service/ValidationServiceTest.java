@@ -0,0 +1,190 @@
+package com.environment.manager.service;
+
+import com.environment.manager.model.*;
+import com.environment.manager.repository.InMemoryEnvironmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationServiceTest {
+
+    private InMemoryEnvironmentRepository repository;
+    private ValidationService validationService;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryEnvironmentRepository();
+        validationService = new ValidationService(repository, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Parallel sweep streams one result per environment")
+    void testParallelSweepStreamsResults() {
+        for (int i = 0; i < 2000; i++) {
+            // Every third staging URL lacks 'staging' and fails validation
+            String url = i % 3 == 0 ? "https://test-" + i + ".company.com" : "https://staging-" + i + ".company.com";
+            repository.save(new StagingEnvironment("STG-" + i, "Staging " + i, url));
+        }
+        Set<String> streamed = ConcurrentHashMap.newKeySet();
+
+        ValidationService.FleetValidation validation = validationService.validateAllEnvironmentsParallel(
+                report -> streamed.add(report.environmentId()));
+        ValidationService.FleetReport report = validation.await(30, TimeUnit.SECONDS);
+
+        assertTrue(report.complete());
+        assertEquals(2000, report.results().size());
+        assertEquals(2000, streamed.size());
+        assertEquals(667, report.getInvalid().size());
+
+        Set<String> serialInvalid = validationService.validateAllEnvironments().stream()
+                .filter(line -> line.startsWith("Environment: "))
+                .map(line -> line.substring("Environment: ".length()))
+                .collect(Collectors.toSet());
+        assertEquals(serialInvalid, report.getInvalid().stream()
+                .map(ValidationService.EnvironmentReport::environmentName)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    @DisplayName("A timed-out sweep reports partial results and stops")
+    void testTimeoutReportsPartialResults() throws Exception {
+        // The first six validations finish at once; every later one blocks until interrupted
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch reported = new CountDownLatch(6);
+        for (int i = 0; i < 40; i++) {
+            repository.save(new GatedEnvironment("GATED-" + i, admitted, 6));
+        }
+
+        ValidationService.FleetValidation validation = validationService.validateAllEnvironmentsParallel(
+                report -> reported.countDown());
+        assertTrue(reported.await(5, TimeUnit.SECONDS));
+        ValidationService.FleetReport report = validation.await(50, TimeUnit.MILLISECONDS);
+
+        assertFalse(report.complete());
+        assertFalse(report.cancelled());
+        assertEquals(6, report.results().size());
+        assertEquals(34, report.getPendingCount());
+        assertTrue(report.results().stream().allMatch(ValidationService.EnvironmentReport::isValid));
+
+        // Cancelling interrupts the blocked validations and skips the environments not yet started
+        validation.cancel();
+        ValidationService.FleetReport stopped = validation.await(5, TimeUnit.SECONDS);
+        assertTrue(stopped.cancelled());
+        assertTrue(stopped.results().size() <= 6 + 4, "Got " + stopped.results().size());
+        assertTrue(validation.isDone());
+    }
+
+    @Test
+    @DisplayName("Cancelling a sweep skips the remaining environments")
+    void testCancel() throws Exception {
+        AtomicInteger validated = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            repository.save(new SlowEnvironment("SLOW-" + i, 20));
+        }
+
+        ValidationService.FleetValidation validation = validationService.validateAllEnvironmentsParallel(
+                report -> validated.incrementAndGet());
+        Thread.sleep(50);
+        validation.cancel();
+        ValidationService.FleetReport report = validation.await(5, TimeUnit.SECONDS);
+
+        assertTrue(validation.isCancelled());
+        assertTrue(report.cancelled());
+        assertFalse(report.complete());
+        Thread.sleep(100);
+        assertTrue(validated.get() < 100);
+    }
+
+    @Test
+    @DisplayName("A failing environment is reported instead of aborting the sweep")
+    void testFailingEnvironment() {
+        repository.save(new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080"));
+        repository.save(new SlowEnvironment("BROKEN-1", -1));
+
+        ValidationService.FleetReport report = validationService.validateAllEnvironmentsParallel(5, TimeUnit.SECONDS);
+
+        assertTrue(report.complete());
+        List<ValidationService.EnvironmentReport> invalid = report.getInvalid();
+        assertEquals(1, invalid.size());
+        assertEquals("BROKEN-1", invalid.get(0).environmentId());
+        assertTrue(invalid.get(0).issues().get(0).startsWith("Validation failed"));
+    }
+
+    /**
+     * Environment whose validation returns at once for the first {@code open} environments to
+     * be validated and blocks until interrupted for the rest.
+     */
+    private static class GatedEnvironment extends Environment {
+        private final AtomicInteger admitted;
+        private final int open;
+
+        GatedEnvironment(String id, AtomicInteger admitted, int open) {
+            super(id, id, EnvironmentType.QUALITY_ASSURANCE, "https://qa.company.com");
+            this.admitted = admitted;
+            this.open = open;
+        }
+
+        @Override
+        public List<String> validate() {
+            if (admitted.getAndIncrement() >= open) {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return List.of();
+        }
+
+        @Override
+        public int getMaxParallelDeployments() {
+            return 1;
+        }
+    }
+
+    /**
+     * Environment whose validation takes a fixed time, or throws when the delay is negative.
+     */
+    private static class SlowEnvironment extends Environment {
+        private final long delayMillis;
+
+        SlowEnvironment(String id, long delayMillis) {
+            super(id, id, EnvironmentType.QUALITY_ASSURANCE, "https://qa.company.com");
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public List<String> validate() {
+            if (delayMillis < 0) {
+                throw new IllegalStateException("broken");
+            }
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        }
+
+        @Override
+        public int getMaxParallelDeployments() {
+            return 1;
+        }
+    }
+}
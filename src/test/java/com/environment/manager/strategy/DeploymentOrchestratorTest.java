@@ -0,0 +1,37 @@
+package com.environment.manager.strategy;
+
+import com.environment.manager.event.RollbackEvent;
+import com.environment.manager.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeploymentOrchestratorTest {
+
+    @Test
+    @DisplayName("A failing rollback publishes FAILED and propagates the strategy's exception")
+    void testRollbackFailurePropagates() {
+        Environment environment = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        environment.addService(new Service("svc-1", "api", "1.0.0", ServiceType.WEB_SERVICE));
+        DeploymentOrchestrator orchestrator = new DeploymentOrchestrator(new DeploymentStrategy() {
+            @Override public void deploy(Environment environment, Service service, String version) { }
+            @Override public void rollback(Environment environment, Service service) {
+                throw new IllegalStateException("no previous version");
+            }
+            @Override public String getStrategyName() { return "Failing"; }
+            @Override public String getDescription() { return "Always fails to roll back"; }
+        });
+        List<RollbackEvent.Phase> phases = new ArrayList<>();
+        orchestrator.getEventBus().subscribe(RollbackEvent.class, event -> phases.add(event.phase()));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> orchestrator.rollback(environment, "svc-1"));
+        assertEquals("no previous version", e.getMessage());
+        assertEquals(List.of(RollbackEvent.Phase.STARTED, RollbackEvent.Phase.FAILED), phases);
+        assertFalse(orchestrator.rollback(environment, "missing"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.environment.manager.util.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UrlSyntaxTest {
+
+    private static final String[] SCHEMES = {"http", "https", "HTTP", "ftp", "jdbc+x", "h.t-p", "1http", "ht tp", ""};
+    private static final String[] SEPARATORS = {"://", "://", "://", ":/", ":", "//", ":///"};
+    private static final String[] USER_INFOS = {"", "", "", "user@", "user:secret@", "us%41r@", "a@b@", "%zz@", "@"};
+    private static final String[] LABELS = {"example", "com", "uat", "api-1", "a", "x1", "1", "255", "256", "0",
+            "-a", "a-", "a_b", "", "10", "%41", "A", "xn--p1ai"};
+    private static final String[] PORTS = {"", "", "", ":", ":80", ":8080", ":0", ":65536", ":99999999999", ":8a", "::80"};
+    private static final String[] PATHS = {"", "", "/", "/api/v1", "/a b", "/%20", "/%2", "/a;b=c", "/~user",
+            "/<x>", "//x", "/a:b@c", "/ä"};
+    private static final String[] QUERIES = {"", "", "?a=b", "?", "?a=[x]", "?%", "?a b", "?q=%7E"};
+    private static final String[] FRAGMENTS = {"", "", "#top", "#", "#a#b", "#%41", "#a^b"};
+    /** Number of leading entries of each array above that are well-formed. */
+    private static final int GOOD_SCHEMES = 5;
+    private static final int GOOD_USER_INFOS = 6;
+    private static final int GOOD_LABELS = 6;
+    private static final int GOOD_PORTS = 7;
+    private static final int GOOD_PATHS = 4;
+    private static final int GOOD_QUERIES = 5;
+    private static final int GOOD_FRAGMENTS = 4;
+    private static final String NOISE = "abcXYZ019-._~:/?#[]@!$&'()*+,;=% \"<>\\^`{|}\t";
+
+    @Test
+    @DisplayName("Matches java.net.URI on generated URLs")
+    void testAgreesWithUri() {
+        Random random = new Random(42);
+        int valid = 0;
+        for (int i = 0; i < 200_000; i++) {
+            String url = randomUrl(random);
+            if (random.nextInt(4) == 0) {
+                url = mutate(url, random);
+            }
+            UrlSyntax.UrlParts expected = parseWithUri(url);
+
+            assertEquals(expected.valid(), UrlSyntax.check(url), url);
+            assertEquals(expected, UrlSyntax.parse(url), url);
+            if (expected.valid()) {
+                valid++;
+            }
+        }
+        // The generator must exercise both outcomes
+        assertTrue(valid > 20_000, "valid: " + valid);
+        assertTrue(valid < 180_000, "valid: " + valid);
+    }
+
+    @Test
+    @DisplayName("Extracts scheme, host and port")
+    void testParts() {
+        assertEquals(new UrlSyntax.UrlParts(true, "https", "prod.example.com", 8443),
+                UrlSyntax.parse("https://ops@prod.example.com:8443/api/v1?x=1#top"));
+        assertEquals(new UrlSyntax.UrlParts(true, "http", "127.0.0.1", -1), UrlSyntax.parse("http://127.0.0.1/"));
+        assertEquals(new UrlSyntax.UrlParts(true, "http", "[::1]", 8080), UrlSyntax.parse("http://[::1]:8080"));
+
+        assertFalse(UrlSyntax.isValid("not-a-url"));
+        assertFalse(UrlSyntax.isValid("http://exa_mple.com"));
+        assertFalse(UrlSyntax.isValid("https://a b.com"));
+        assertFalse(UrlSyntax.isValid("mailto:ops@example.com"));
+        assertFalse(UrlSyntax.isValid(null));
+        assertSame(UrlSyntax.parse("http://localhost:8080"), UrlSyntax.parse("http://localhost:8080"));
+    }
+
+    private static String randomUrl(Random random) {
+        StringBuilder url = new StringBuilder();
+        // Half of the URLs are built from well-formed parts only, to exercise both outcomes
+        boolean clean = random.nextBoolean();
+        url.append(pick(SCHEMES, GOOD_SCHEMES, clean, random))
+                .append(pick(SEPARATORS, 1, clean, random))
+                .append(pick(USER_INFOS, GOOD_USER_INFOS, clean, random));
+        if (random.nextInt(5) == 0) {
+            // Dotted quad, possibly out of range or short
+            int parts = 3 + random.nextInt(3);
+            for (int i = 0; i < parts; i++) {
+                url.append(i > 0 ? "." : "").append(random.nextInt(300));
+            }
+        } else {
+            int labels = 1 + random.nextInt(4);
+            for (int i = 0; i < labels; i++) {
+                url.append(i > 0 ? "." : "").append(pick(LABELS, GOOD_LABELS, clean, random));
+            }
+            if (random.nextInt(10) == 0) {
+                url.append('.');
+            }
+        }
+        return url.append(pick(PORTS, GOOD_PORTS, clean, random)).append(pick(PATHS, GOOD_PATHS, clean, random))
+                .append(pick(QUERIES, GOOD_QUERIES, clean, random))
+                .append(pick(FRAGMENTS, GOOD_FRAGMENTS, clean, random)).toString();
+    }
+
+    private static String mutate(String url, Random random) {
+        StringBuilder mutated = new StringBuilder(url);
+        int edits = 1 + random.nextInt(3);
+        for (int i = 0; i < edits; i++) {
+            int position = mutated.length() == 0 ? 0 : random.nextInt(mutated.length());
+            char c = NOISE.charAt(random.nextInt(NOISE.length()));
+            switch (random.nextInt(3)) {
+                case 0 -> mutated.insert(position, c);
+                case 1 -> {
+                    if (mutated.length() > 0) {
+                        mutated.setCharAt(position, c);
+                    }
+                }
+                default -> {
+                    if (mutated.length() > 0) {
+                        mutated.deleteCharAt(position);
+                    }
+                }
+            }
+        }
+        return mutated.toString();
+    }
+
+    private static String pick(String[] values, int good, boolean clean, Random random) {
+        return values[random.nextInt(clean ? good : values.length)];
+    }
+
+    private static UrlSyntax.UrlParts parseWithUri(String url) {
+        try {
+            URI uri = new URI(url);
+            if (uri.getScheme() != null && uri.getHost() != null) {
+                return new UrlSyntax.UrlParts(true, uri.getScheme(), uri.getHost(), uri.getPort());
+            }
+        } catch (URISyntaxException e) {
+            // Invalid
+        }
+        return new UrlSyntax.UrlParts(false, null, null, -1);
+    }
+}
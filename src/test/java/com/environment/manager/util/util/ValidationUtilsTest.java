@@ -0,0 +1,51 @@
+package com.environment.manager.util.util;
+
+import com.environment.manager.exception.ValidationException;
+import com.environment.manager.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationUtilsTest {
+
+    @Test
+    @DisplayName("Sink and exception APIs report the same messages")
+    void testSinkMatchesExceptions() {
+        ValidationErrors errors = new ValidationErrors(1);
+
+        assertFalse(ValidationUtils.validateEnvironmentId("x!", errors));
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> ValidationUtils.validateEnvironmentId("x!"));
+        assertEquals("Environment ID validation failed", e.getMessage());
+        assertEquals(e.getValidationErrors(), errors.toList());
+        assertEquals(2, errors.size());
+
+        errors.clear();
+        assertTrue(ValidationUtils.validateVersion("1.2.3", errors));
+        assertFalse(ValidationUtils.validateUrl("example.com", "Base URL", errors));
+        assertEquals(List.of("Invalid URL format for Base URL: example.com", "Base URL must start with https:// or http://"),
+                errors.toList());
+        assertDoesNotThrow(() -> ValidationUtils.validateUrl("https://host", "Base URL"));
+    }
+
+    @Test
+    @DisplayName("Service errors are folded into one line per service")
+    void testServiceSummary() {
+        Environment environment = new DevelopmentEnvironment("dev-1", "Development", "http://localhost:8080");
+        environment.addService(new Service("web-001", "Web App", "1.0", ServiceType.WEB_SERVICE));
+        environment.addService(new Service("api-001", "API", "1.0.0", ServiceType.API_GATEWAY));
+
+        ValidationErrors errors = new ValidationErrors();
+        errors.add("earlier");
+        assertFalse(ValidationUtils.validateEnvironment(environment, errors));
+
+        assertEquals(List.of("earlier",
+                "Environment ID can only contain letters, numbers, hyphens, and underscores",
+                "Service 'Web App': Version must follow semantic versioning (e.g., 1.2.3 or 1.2.3-beta)"),
+                errors.toList());
+        assertEquals(errors.toList().subList(1, 3), ValidationUtils.validateEnvironment(environment));
+    }
+}
@@ -0,0 +1,186 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.event.DeploymentEvent;
+import com.environment.manager.event.EventBus;
+import com.environment.manager.model.*;
+import com.environment.manager.repository.InMemoryEnvironmentRepository;
+import com.environment.manager.service.DeploymentService;
+import com.environment.manager.strategy.DeploymentStrategy;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("Breaker opens after the threshold and lets one trial call through when half-open")
+    void testStateMachine() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("PROD-001", 2, Duration.ofMillis(50));
+
+        assertTrue(breaker.tryAcquire());
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertTrue(breaker.getRemainingOpenTime().toMillis() > 0);
+
+        Thread.sleep(60);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquire());
+        breaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(Duration.ZERO, breaker.getRemainingOpenTime());
+    }
+
+    @Test
+    @DisplayName("Deployments fail fast while the breaker is open")
+    void testDeploymentFailsFast() {
+        InMemoryEnvironmentRepository repository = new InMemoryEnvironmentRepository();
+        repository.save(new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080"));
+        EventBus eventBus = new EventBus();
+        List<String> failures = new ArrayList<>();
+        eventBus.on(DeploymentEvent.class).filter(event -> event.phase() == DeploymentEvent.Phase.FAILED)
+                .subscribe(event -> failures.add(event.error()));
+        DeploymentService deploymentService = new DeploymentService(repository, eventBus);
+        CircuitBreakerRegistry breakers = new CircuitBreakerRegistry(2, Duration.ofMinutes(1));
+        deploymentService.setCircuitBreakers(breakers);
+        AtomicInteger attempts = new AtomicInteger();
+        deploymentService.setDeploymentStrategy(new FailingStrategy(attempts));
+        Service service = new Service("web-001", "Web App", "1.0.0", ServiceType.WEB_SERVICE);
+
+        for (int i = 0; i < 5; i++) {
+            assertFalse(deploymentService.deployToEnvironment("Dev", service, "2.0.0", "alice"));
+        }
+
+        assertEquals(2, attempts.get());
+        assertEquals(CircuitBreaker.State.OPEN, breakers.getState("DEV-001"));
+        assertEquals(5, failures.size());
+        assertTrue(failures.get(4).startsWith("Circuit breaker open for DEV-001"));
+        assertEquals(Map.of("DEV-001", CircuitBreaker.State.OPEN), breakers.getStates());
+    }
+
+    @Test
+    @DisplayName("A deployment that dies with an Error still releases the half-open trial")
+    void testErrorReleasesTrial() {
+        InMemoryEnvironmentRepository repository = new InMemoryEnvironmentRepository();
+        repository.save(new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080"));
+        DeploymentService deploymentService = new DeploymentService(repository, new EventBus());
+        CircuitBreakerRegistry breakers = new CircuitBreakerRegistry(1, Duration.ZERO);
+        deploymentService.setCircuitBreakers(breakers);
+        Service service = new Service("web-001", "Web App", "1.0.0", ServiceType.WEB_SERVICE);
+
+        deploymentService.setDeploymentStrategy(new FailingStrategy(new AtomicInteger()));
+        assertFalse(deploymentService.deployToEnvironment("Dev", service, "2.0.0", "alice"));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breakers.getState("DEV-001"));
+
+        deploymentService.setDeploymentStrategy(new Strategy(() -> {
+            throw new NoClassDefFoundError("com/example/DeployAgent");
+        }));
+        assertThrows(NoClassDefFoundError.class,
+                () -> deploymentService.deployToEnvironment("Dev", service, "2.0.0", "alice"));
+
+        AtomicInteger attempts = new AtomicInteger();
+        deploymentService.setDeploymentStrategy(new Strategy(attempts::incrementAndGet));
+        assertTrue(deploymentService.deployToEnvironment("Dev", service, "2.0.0", "alice"));
+        assertEquals(1, attempts.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breakers.getState("DEV-001"));
+    }
+
+    @Test
+    @DisplayName("Validation skips health probes while the breaker is open and the monitor closes it")
+    void testValidationFailsFastAndMonitorRecovers() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        Environment environment = new StagingEnvironment("STG-001", "Staging", "http://127.0.0.1:" + closedPort);
+        CircuitBreakerRegistry breakers = new CircuitBreakerRegistry(1, Duration.ofMinutes(1));
+        EnvironmentValidator validator = new EnvironmentValidator();
+        validator.setCircuitBreakers(breakers);
+        try {
+            validator.validateEnvironment(environment);
+            waitForState(breakers, "STG-001", CircuitBreaker.State.OPEN);
+
+            EnvironmentValidator.ValidationResult result = validator.validateEnvironment(environment);
+            assertTrue(result.getErrors().contains("Circuit breaker open for STG-001; health check skipped"));
+            assertTrue(result.getErrors().stream().noneMatch(error -> error.startsWith("Cannot connect")));
+        } finally {
+            validator.shutdown();
+        }
+
+        // The environment comes back up; a successful background probe closes the breaker
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", closedPort), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        HealthMonitor monitor = new HealthMonitor(new HttpHealthChecker(), new EventBus());
+        monitor.setCircuitBreakers(breakers);
+        try {
+            assertTrue(monitor.probeNow(environment).get(5, TimeUnit.SECONDS).isHealthy());
+            assertEquals(CircuitBreaker.State.CLOSED, breakers.getState("STG-001"));
+        } finally {
+            monitor.shutdown();
+            server.stop(0);
+        }
+    }
+
+    private static void waitForState(CircuitBreakerRegistry breakers, String environmentId,
+                                     CircuitBreaker.State state) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (breakers.getState(environmentId) != state && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(state, breakers.getState(environmentId));
+    }
+
+    private static class FailingStrategy implements DeploymentStrategy {
+        private final AtomicInteger attempts;
+
+        FailingStrategy(AtomicInteger attempts) {
+            this.attempts = attempts;
+        }
+
+        public void deploy(Environment environment, Service service, String version) {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("connect timed out");
+        }
+        public void rollback(Environment environment, Service service) { }
+        public String getStrategyName() { return "Failing"; }
+        public String getDescription() { return "Always fails"; }
+    }
+
+    private static class Strategy implements DeploymentStrategy {
+        private final Runnable deploy;
+
+        Strategy(Runnable deploy) {
+            this.deploy = deploy;
+        }
+
+        public void deploy(Environment environment, Service service, String version) {
+            deploy.run();
+        }
+        public void rollback(Environment environment, Service service) { }
+        public String getStrategyName() { return "Scripted"; }
+        public String getDescription() { return "Runs the given action"; }
+    }
+}
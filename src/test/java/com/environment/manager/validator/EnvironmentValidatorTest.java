@@ -0,0 +1,126 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.model.*;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnvironmentValidatorTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private EnvironmentValidator validator;
+    // Each probe waits until both probes have arrived, or until the gate opens, before answering
+    private final CountDownLatch arrived = new CountDownLatch(2);
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private volatile boolean awaitPeer;
+    private volatile boolean awaitGate;
+    private final AtomicInteger overlapping = new AtomicInteger();
+    private final AtomicInteger answered = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            try {
+                arrived.countDown();
+                if (awaitPeer && arrived.await(5, TimeUnit.SECONDS)) {
+                    overlapping.incrementAndGet();
+                }
+                if (awaitGate) {
+                    gate.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            answered.incrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (validator != null) {
+            validator.shutdown();
+        }
+        gate.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private Environment stagingEnvironment() {
+        Environment environment = new StagingEnvironment("STG-001", "Staging",
+                "http://127.0.0.1:" + server.getAddress().getPort());
+        environment.addService(new Service("web-001", "Web App", "1.0.0", ServiceType.WEB_SERVICE));
+        return environment;
+    }
+
+    @Test
+    @DisplayName("Errors from several checks are merged in check order")
+    void testErrorsAreMerged() {
+        validator = new EnvironmentValidator();
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "not-a-url");
+        environment.setDatabaseUrl(null);
+
+        EnvironmentValidator.ValidationResult result = validator.validateEnvironment(environment);
+
+        assertFalse(result.isValid());
+        assertTrue(result.getErrors().size() >= 3);
+        assertTrue(result.getErrors().stream().anyMatch(e -> e.contains("at least one service")));
+        int serviceError = indexOf(result, "at least one service");
+        int databaseError = indexOf(result, "must have a database URL");
+        assertTrue(serviceError < databaseError);
+    }
+
+    @Test
+    @DisplayName("Slow endpoints are checked concurrently")
+    void testSlowEndpointsRunConcurrently() {
+        validator = new EnvironmentValidator();
+        awaitPeer = true;
+
+        EnvironmentValidator.ValidationResult result = validator.validateEnvironment(stagingEnvironment());
+
+        assertTrue(result.isValid(), result.toFormattedString());
+        // Serial probes would each give up waiting for the other
+        assertEquals(2, overlapping.get());
+    }
+
+    @Test
+    @DisplayName("Checks still running at the deadline are reported as errors")
+    void testDeadlineCancelsSlowChecks() {
+        validator = new EnvironmentValidator(5, 1);
+        awaitGate = true;
+
+        EnvironmentValidator.ValidationResult result = validator.validateEnvironment(stagingEnvironment());
+
+        assertFalse(result.isValid());
+        assertEquals(2, result.getErrors().stream()
+                .filter(e -> e.equals("Health check timed out after 1 seconds")).count());
+        // The result did not wait for the probes, which are still held at the gate
+        assertEquals(0, answered.get());
+    }
+
+    private static int indexOf(EnvironmentValidator.ValidationResult result, String fragment) {
+        for (int i = 0; i < result.getErrors().size(); i++) {
+            if (result.getErrors().get(i).contains(fragment)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,196 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.event.EventBus;
+import com.environment.manager.event.HealthEvent;
+import com.environment.manager.model.*;
+import com.environment.manager.repository.InMemoryEnvironmentRepository;
+import com.environment.manager.service.DeploymentService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HealthMonitorTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int baseStatus = 200;
+    private volatile int apiStatus = 200;
+
+    private EventBus eventBus;
+    private HealthMonitor monitor;
+    private final List<HealthEvent> events = new CopyOnWriteArrayList<>();
+    private Environment environment;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            boolean api = exchange.getRequestURI().getPath().startsWith("/api");
+            exchange.sendResponseHeaders(api ? apiStatus : baseStatus, -1);
+            exchange.close();
+        });
+        server.start();
+
+        eventBus = new EventBus();
+        eventBus.subscribe(HealthEvent.class, events::add);
+        monitor = new HealthMonitor(new HttpHealthChecker(4, Duration.ofSeconds(2)), eventBus);
+        environment = new ProductionEnvironment("PROD-001", "Prod",
+                "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Severity transitions are published once per change")
+    void testTransitionsArePublished() throws Exception {
+        monitor.probeNow(environment).get(5, TimeUnit.SECONDS);
+        assertTrue(events.isEmpty());
+
+        apiStatus = 503;
+        assertEquals(HealthEvent.Severity.WARNING, monitor.probeNow(environment).get(5, TimeUnit.SECONDS).severity());
+        monitor.probeNow(environment).get(5, TimeUnit.SECONDS);
+        baseStatus = 500;
+        assertEquals(HealthEvent.Severity.CRITICAL, monitor.probeNow(environment).get(5, TimeUnit.SECONDS).severity());
+        baseStatus = 200;
+        apiStatus = 200;
+        monitor.probeNow(environment).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(HealthEvent.Severity.WARNING, HealthEvent.Severity.CRITICAL, HealthEvent.Severity.HEALTHY),
+                events.stream().map(HealthEvent::severity).toList());
+        assertTrue(events.get(0).message().contains("returned error code: 503"));
+    }
+
+    @Test
+    @DisplayName("Monitored environments are probed repeatedly in the background")
+    void testBackgroundProbing() throws Exception {
+        monitor.setInterval(EnvironmentType.PRODUCTION, Duration.ofMillis(50));
+        monitor.monitor(environment);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requests.get() < 6 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(requests.get() >= 6, "Probes sent: " + requests.get());
+        assertTrue(monitor.getCachedHealth("PROD-001").orElseThrow().isHealthy());
+
+        monitor.unmonitor("PROD-001");
+        assertFalse(monitor.isMonitored("PROD-001"));
+        assertTrue(monitor.getCachedHealth("PROD-001").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Cached results expire after the TTL")
+    void testCacheTtl() throws Exception {
+        HealthMonitor shortLived = new HealthMonitor(new HttpHealthChecker(), eventBus, Duration.ofMillis(50), 0.1);
+        try {
+            shortLived.probeNow(environment).get(5, TimeUnit.SECONDS);
+            assertTrue(shortLived.getCachedHealth("PROD-001").isPresent());
+            Thread.sleep(100);
+            assertTrue(shortLived.getCachedHealth("PROD-001").isEmpty());
+        } finally {
+            shortLived.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A monitored environment stays cached until its next probe is overdue")
+    void testCacheTtlFollowsInterval() throws Exception {
+        HealthMonitor shortLived = new HealthMonitor(new HttpHealthChecker(), eventBus, Duration.ofMillis(50), 0.1);
+        try {
+            // Probed hourly, so the snapshot outlives the 50 ms cache TTL
+            shortLived.setInterval(EnvironmentType.PRODUCTION, Duration.ofHours(1));
+            shortLived.monitor(environment);
+            shortLived.probeNow(environment).get(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            assertTrue(shortLived.getCachedHealth("PROD-001").isPresent());
+        } finally {
+            shortLived.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A probe answered after unmonitor neither caches nor publishes")
+    void testLateProbeAfterUnmonitor() throws Exception {
+        CountDownLatch probing = new CountDownLatch(1);
+        CompletableFuture<List<HttpHealthChecker.HealthStatus>> answer = new CompletableFuture<>();
+        HttpHealthChecker pending = new HttpHealthChecker() {
+            @Override
+            public CompletableFuture<List<HealthStatus>> checkAll(Collection<String> urls) {
+                probing.countDown();
+                return answer;
+            }
+        };
+        HealthMonitor late = new HealthMonitor(pending, eventBus);
+        try {
+            late.setInterval(EnvironmentType.PRODUCTION, Duration.ofMillis(10));
+            late.monitor(environment);
+            assertTrue(probing.await(5, TimeUnit.SECONDS));
+            late.unmonitor("PROD-001");
+
+            // Completing the answer records it on this thread, before complete() returns
+            answer.complete(List.of(HttpHealthChecker.HealthStatus.failure(environment.getBaseUrl(), "refused")));
+
+            assertTrue(late.getCachedHealth("PROD-001").isEmpty());
+            assertTrue(events.isEmpty());
+        } finally {
+            late.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Validator and deployments read cached health without probing")
+    void testCachedHealthIsReadInstantly() throws Exception {
+        baseStatus = 503;
+        apiStatus = 503;
+        monitor.probeNow(environment).get(5, TimeUnit.SECONDS);
+        int probesBefore = requests.get();
+
+        EnvironmentValidator validator = new EnvironmentValidator();
+        validator.setHealthMonitor(monitor);
+        try {
+            EnvironmentValidator.ValidationResult result = validator.validateEnvironment(environment);
+            assertTrue(result.getErrors().stream().anyMatch(error -> error.contains("returned error code: 503")));
+        } finally {
+            validator.shutdown();
+        }
+
+        InMemoryEnvironmentRepository repository = new InMemoryEnvironmentRepository();
+        Environment dev = new DevelopmentEnvironment("DEV-001", "Dev", "http://localhost:8080");
+        repository.save(dev);
+        DeploymentService deploymentService = new DeploymentService(repository, eventBus);
+        deploymentService.setHealthMonitor(monitor);
+        HealthMonitor.HealthSnapshot critical = monitor.probeNow(dev).get(5, TimeUnit.SECONDS);
+        assertEquals(HealthEvent.Severity.CRITICAL, critical.severity());
+        int probesAfterDevProbe = requests.get();
+
+        assertFalse(deploymentService.deployToEnvironment("Dev",
+                new Service("web-001", "Web App", "1.0.0", ServiceType.WEB_SERVICE), "2.0.0", "alice"));
+        assertEquals(probesBefore, probesAfterDevProbe);
+        assertEquals(DeploymentStatus.PENDING, dev.getStatus());
+    }
+}
@@ -0,0 +1,120 @@
+package com.environment.manager.validator;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpHealthCheckerTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private volatile long responseDelayMillis;
+    private final AtomicInteger slowRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        serverExecutor = Executors.newFixedThreadPool(32);
+        server.setExecutor(serverExecutor);
+        // Stub endpoints: /svc/<n> is healthy, /down/<n> answers 503, /slow/<n> answers after 1s
+        server.createContext("/", exchange -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                if (exchange.getRequestURI().getPath().startsWith("/slow/")) {
+                    slowRequests.incrementAndGet();
+                    Thread.sleep(1_000);
+                } else if (responseDelayMillis > 0) {
+                    Thread.sleep(responseDelayMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+            int status = exchange.getRequestURI().getPath().startsWith("/down/") ? 503 : 200;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    @Test
+    @DisplayName("Healthy, failing and unreachable endpoints are reported")
+    void testStatuses() throws Exception {
+        HttpHealthChecker checker = new HttpHealthChecker(4, Duration.ofSeconds(2));
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+
+        List<HttpHealthChecker.HealthStatus> statuses = checker.checkAll(List.of(
+                url("/svc/1"), url("/down/1"), "http://127.0.0.1:" + closedPort + "/", "not a url"))
+                .get(10, TimeUnit.SECONDS);
+
+        assertTrue(statuses.get(0).healthy());
+        assertEquals(200, statuses.get(0).statusCode());
+        assertFalse(statuses.get(1).healthy());
+        assertEquals(url("/down/1") + " returned error code: 503", statuses.get(1).message());
+        assertFalse(statuses.get(2).healthy());
+        assertTrue(statuses.get(2).message().startsWith("Cannot connect to"));
+        assertFalse(statuses.get(3).healthy());
+    }
+
+    @Test
+    @DisplayName("A timed-out probe fails at once instead of being retried")
+    void testTimeoutIsNotRetried() throws Exception {
+        HttpHealthChecker checker = new HttpHealthChecker(4, Duration.ofMillis(200));
+        // Let the host answer first, so the slow probe may go over a pooled connection
+        assertTrue(checker.check(url("/svc/1")).get(5, TimeUnit.SECONDS).healthy());
+
+        HttpHealthChecker.HealthStatus status = checker.check(url("/slow/1")).get(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+
+        assertFalse(status.healthy());
+        assertTrue(status.latencyNanos() < TimeUnit.MILLISECONDS.toNanos(400), status.toString());
+        assertEquals(1, slowRequests.get());
+    }
+
+    @Test
+    @DisplayName("Probes to one host never exceed the per-host limit")
+    void testPerHostLimit() throws Exception {
+        HttpHealthChecker checker = new HttpHealthChecker(3, Duration.ofSeconds(5));
+        responseDelayMillis = 20;
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            urls.add(url("/svc/" + i));
+        }
+
+        List<HttpHealthChecker.HealthStatus> statuses = checker.checkAll(urls).get(30, TimeUnit.SECONDS);
+
+        assertTrue(statuses.stream().allMatch(HttpHealthChecker.HealthStatus::healthy));
+        assertTrue(maxActive.get() <= 3, "Max concurrent probes: " + maxActive.get());
+        assertEquals(30, checker.getLatency().getCount());
+    }
+}
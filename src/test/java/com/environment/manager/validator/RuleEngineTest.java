@@ -0,0 +1,115 @@
+package com.environment.manager.validator;
+
+import com.environment.manager.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleEngineTest {
+
+    @Test
+    @DisplayName("Each type gets only its rules, cheapest first")
+    void testCompiledChains() {
+        List<ValidationRule> rules = new ArrayList<>(StandardRules.structural());
+        rules.addAll(StandardRules.tierPolicies());
+        RuleEngine engine = RuleEngine.compile(rules);
+
+        List<String> production = engine.getRuleIds(EnvironmentType.PRODUCTION);
+        assertEquals(1, production.stream().filter("production.database-url"::equals).count());
+        assertTrue(production.contains("production.https"));
+        assertFalse(production.contains("staging.https"));
+        assertEquals("services.valid", production.get(production.size() - 1));
+        assertTrue(production.indexOf("production.database-url") < production.indexOf("environment.id"));
+
+        List<String> development = engine.getRuleIds(EnvironmentType.DEVELOPMENT);
+        assertTrue(development.stream().noneMatch(id -> id.startsWith("production.") || id.startsWith("staging.")));
+        assertEquals(rules.stream().map(ValidationRule::id).distinct().count(), engine.getStatistics().size());
+    }
+
+    @Test
+    @DisplayName("Tier policies report the messages of the manager-created environments")
+    void testTierPolicyMessages() {
+        RuleEngine engine = RuleEngine.compile(StandardRules.tierPolicies());
+        Environment production = new ProductionEnvironment("PROD-001", "Prod", "http://prod.example.com");
+        production.setDatabaseUrl(null);
+
+        assertEquals(List.of("Production environment must have a database URL configured",
+                "Production environment must use HTTPS"), engine.evaluate(production));
+    }
+
+    @Test
+    @DisplayName("Environment classes delegate to the shared policies and report a problem once")
+    void testEnvironmentClassesDelegate() {
+        Environment production = new ProductionEnvironment("PROD-001", "Prod", "https://prod.example.com");
+        assertEquals(List.of(), production.validate());
+
+        production.setDatabaseUrl(null);
+        List<ValidationRule> rules = new ArrayList<>(StandardRules.structural());
+        rules.addAll(StandardRules.tierPolicies());
+        rules.addAll(StandardRules.environmentPolicies());
+        List<String> messages = RuleEngine.compile(rules).evaluate(production);
+        assertEquals(1, messages.stream().filter(message -> message.contains("database")).count());
+        assertEquals(List.of("Production environment must have a database URL configured"), production.validate());
+
+        production.setDatabaseUrl("jdbc:mysql://prod-db.company.com:3306/prod_db");
+        assertEquals(List.of("Production database should use a cluster"), production.validate());
+
+        Environment qa = new QAEnvironment("QA-001", "QA", "https://test.example.com");
+        assertEquals(List.of("QA environment URL should contain 'qa'"), qa.validate());
+        assertEquals(List.of("UAT environment URL should contain 'uat'"),
+                new UATEnvironment("UAT-001", "UAT", "https://acceptance.example.com").validate());
+        assertEquals(StandardRules.environmentPolicyEngine().getRuleIds(EnvironmentType.DEVELOPMENT),
+                List.of("development.http", "development.database-localhost", "development.feature-flags"));
+    }
+
+    @Test
+    @DisplayName("Duplicate declarations merge their environment types")
+    void testDuplicatesMerge() {
+        ValidationRule forStaging = ValidationRule.when("https", ValidationRule.Cost.STRING,
+                EnumSet.of(EnvironmentType.STAGING), environment -> true, "Use HTTPS");
+        ValidationRule forProduction = ValidationRule.when("https", ValidationRule.Cost.STRING,
+                EnumSet.of(EnvironmentType.PRODUCTION), environment -> true, "Use HTTPS");
+        RuleEngine engine = RuleEngine.compile(List.of(forStaging, forProduction));
+
+        assertEquals(List.of("https"), engine.getRuleIds(EnvironmentType.STAGING));
+        assertEquals(List.of("https"), engine.getRuleIds(EnvironmentType.PRODUCTION));
+        assertEquals(List.of(), engine.getRuleIds(EnvironmentType.DEVELOPMENT));
+        assertEquals(List.of("Use HTTPS"),
+                engine.evaluate(new ProductionEnvironment("PROD-001", "Prod", "https://prod.example.com")));
+    }
+
+    @Test
+    @DisplayName("Evaluation reports fired rules and keeps per-rule statistics")
+    void testFiringsAndStatistics() {
+        RuleEngine engine = RuleEngine.compile(StandardRules.structural());
+        Environment environment = new ProductionEnvironment("PROD-001", "Prod", "not-a-url");
+        environment.setDatabaseUrl(null);
+
+        RuleEngine.Evaluation evaluation = engine.evaluateWithReport(environment);
+
+        assertFalse(evaluation.isValid());
+        assertEquals(List.of("services.present", "production.database-url", "environment.base-url",
+                "environment.api-endpoint"), evaluation.getFiredRules());
+        assertEquals(engine.getRuleIds(EnvironmentType.PRODUCTION),
+                evaluation.outcomes().stream().map(RuleEngine.RuleOutcome::ruleId).toList());
+        assertFalse(engine.isValid(environment));
+
+        RuleEngine.RuleStatistics services = engine.getStatistics().stream()
+                .filter(statistics -> statistics.ruleId().equals("services.present")).findFirst().orElseThrow();
+        assertEquals(2, services.evaluations());
+        assertEquals(2, services.firings());
+
+        Environment valid = new ProductionEnvironment("PROD-002", "Prod", "https://prod.example.com");
+        valid.addService(new Service("web-001", "Web App", "1.0.0", ServiceType.WEB_SERVICE));
+        assertTrue(engine.isValid(valid));
+        assertEquals(List.of(), engine.evaluate(valid));
+
+        engine.resetStatistics();
+        assertTrue(engine.getStatistics().stream().allMatch(statistics -> statistics.evaluations() == 0));
+    }
+}